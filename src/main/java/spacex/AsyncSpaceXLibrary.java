@@ -0,0 +1,265 @@
+package spacex;
+
+import spacex.domain.BulkLoadResult;
+import spacex.domain.Mission;
+import spacex.domain.MissionSummaryPage;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+
+import java.io.Closeable;
+import java.lang.reflect.Method;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+// Non-blocking facade over a SpaceXLibrary: mutations run on an executor and report through CompletableFuture,
+// rejected ones completing exceptionally with the SpaceXException. At most maxPendingMutations mutations are in
+// flight; beyond that a call never blocks but returns a future failed with RejectedExecutionException, so producers
+// see the backlog and can back off or retry.
+public class AsyncSpaceXLibrary implements Closeable {
+
+    public static final int DEFAULT_MAX_PENDING_MUTATIONS = 10_000;
+
+    private final SpaceXLibrary library;
+    private final Executor executor;
+    private final int maxPendingMutations;
+    private final Semaphore pendingMutations;
+
+    // Null when the executor belongs to the caller
+    private final ExecutorService ownedExecutor;
+
+    // Uses virtual threads when the runtime has them, otherwise a pool with one thread per processor
+    public AsyncSpaceXLibrary(SpaceXLibrary library) {
+        this(library, newDefaultExecutor(), DEFAULT_MAX_PENDING_MUTATIONS, true);
+    }
+
+    public AsyncSpaceXLibrary(SpaceXLibrary library, Executor executor, int maxPendingMutations) {
+        this(library, executor, maxPendingMutations, false);
+    }
+
+    private AsyncSpaceXLibrary(SpaceXLibrary library, Executor executor, int maxPendingMutations, boolean ownsExecutor) {
+        if (maxPendingMutations <= 0) {
+            throw new IllegalArgumentException("Max pending mutations must be positive: " + maxPendingMutations);
+        }
+
+        this.library = library;
+        this.executor = executor;
+        this.maxPendingMutations = maxPendingMutations;
+        this.pendingMutations = new Semaphore(maxPendingMutations);
+        this.ownedExecutor = ownsExecutor ? (ExecutorService) executor : null;
+    }
+
+    public CompletableFuture<Void> addRocket(Rocket rocket) {
+        return mutate(() -> {
+            library.addRocket(rocket);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> addMission(Mission mission) {
+        return mutate(() -> {
+            library.addMission(mission);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> assignRocketToMission(String rocketName, String missionName) {
+        return mutate(() -> {
+            library.assignRocketToMission(rocketName, missionName);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> assignRocketsToMission(List<String> rocketNames, String missionName) {
+        List<String> names = List.copyOf(rocketNames);
+        return mutate(() -> {
+            library.assignRocketsToMission(names, missionName);
+            return null;
+        });
+    }
+
+    public CompletableFuture<Void> changeRocketStatus(String rocketName, RocketStatus status) {
+        return mutate(() -> {
+            library.changeRocketStatus(rocketName, status);
+            return null;
+        });
+    }
+
+    public CompletableFuture<BulkLoadResult> addRockets(Collection<Rocket> rockets) {
+        return mutate(() -> library.addRockets(rockets));
+    }
+
+    public CompletableFuture<BulkLoadResult> addMissions(Collection<Mission> missions) {
+        return mutate(() -> library.addMissions(missions));
+    }
+
+    // Reads never wait for a permit: they format a published view and take no locks
+    public CompletableFuture<String> getMissionSummary() {
+        return CompletableFuture.supplyAsync(library::getMissionSummary, executor);
+    }
+
+    public CompletableFuture<MissionSummaryPage> getMissionSummaryPage(String cursor, int limit) {
+        CompletableFuture<MissionSummaryPage> future = new CompletableFuture<>();
+        executor.execute(() -> {
+            try {
+                future.complete(library.getMissionSummaryPage(cursor, limit));
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        });
+        return future;
+    }
+
+    // Emits one block per mission, all from the view current at subscription, as fast as the subscriber requests them
+    public Flow.Publisher<String> publishMissionSummary() {
+        return subscriber -> {
+            List<String> blocks = library.getMissionSummaryBlocks();
+            BlockSubscription subscription = new BlockSubscription(subscriber, blocks);
+            subscriber.onSubscribe(subscription);
+
+            // An empty summary completes without waiting for demand
+            if (blocks.isEmpty()) {
+                subscription.drain();
+            }
+        };
+    }
+
+    public int getPendingMutationCount() {
+        return maxPendingMutations - pendingMutations.availablePermits();
+    }
+
+    // Shuts down the default executor after its tasks finish; the wrapped library and a caller's executor stay open
+    @Override
+    public void close() {
+        if (ownedExecutor == null) {
+            return;
+        }
+
+        ownedExecutor.shutdown();
+        try {
+            while (!ownedExecutor.awaitTermination(1, TimeUnit.MINUTES)) {
+                // Keep waiting for running mutations
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private <T> CompletableFuture<T> mutate(Mutation<T> mutation) {
+        if (!pendingMutations.tryAcquire()) {
+            return CompletableFuture.failedFuture(
+                    new RejectedExecutionException("Too many pending mutations: " + maxPendingMutations));
+        }
+
+        CompletableFuture<T> future = new CompletableFuture<>();
+        try {
+            executor.execute(() -> {
+                try {
+                    future.complete(mutation.run());
+                } catch (Throwable e) {
+                    // Errors too, or the future would never complete
+                    future.completeExceptionally(e);
+                } finally {
+                    pendingMutations.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            pendingMutations.release();
+            future.completeExceptionally(e);
+        }
+
+        return future;
+    }
+
+    private static ExecutorService newDefaultExecutor() {
+        try {
+            Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (ReflectiveOperationException e) {
+            AtomicInteger threadCount = new AtomicInteger();
+            return Executors.newFixedThreadPool(Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "spacex-async-" + threadCount.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+    }
+
+    @FunctionalInterface
+    private interface Mutation<T> {
+        T run() throws SpaceXException;
+    }
+
+    // Delivers blocks on the executor; the work counter makes sure only one task signals the subscriber at a time
+    private final class BlockSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super String> subscriber;
+        private final List<String> blocks;
+        private final AtomicLong requested = new AtomicLong();
+        private final AtomicInteger work = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable error;
+
+        // Only touched by the emitting task
+        private int index;
+        private boolean done;
+
+        private BlockSubscription(Flow.Subscriber<? super String> subscriber, List<String> blocks) {
+            this.subscriber = subscriber;
+            this.blocks = blocks;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("Requested count must be positive: " + n);
+            } else {
+                requested.getAndAccumulate(n, (current, added) -> current + added < 0 ? Long.MAX_VALUE : current + added);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private void drain() {
+            if (work.getAndIncrement() == 0) {
+                executor.execute(this::emit);
+            }
+        }
+
+        private void emit() {
+            int missed = 1;
+            do {
+                if (!done && !cancelled && error != null) {
+                    done = true;
+                    subscriber.onError(error);
+                }
+
+                while (!done && !cancelled && index < blocks.size() && requested.get() > 0) {
+                    subscriber.onNext(blocks.get(index++));
+                    requested.decrementAndGet();
+                }
+
+                if (!done && !cancelled && index == blocks.size()) {
+                    done = true;
+                    subscriber.onComplete();
+                }
+
+                missed = work.addAndGet(-missed);
+            } while (missed != 0);
+        }
+    }
+}
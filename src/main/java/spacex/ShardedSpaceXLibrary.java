@@ -0,0 +1,432 @@
+package spacex;
+
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.MissionSummaryBlock;
+import spacex.domain.OperationResult;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.repository.MissionRepository;
+import spacex.repository.RocketRepository;
+import spacex.service.MissionRocketAssignmentService;
+import spacex.util.ConsistentHashRing;
+import spacex.util.StripedLocks;
+
+import java.io.Closeable;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+// Fleet partitioned over independent service instances (shards), each applying its mutations on its own thread.
+// Missions live on the shard their name hashes to. A rocket starts on the shard its name hashes to and follows the
+// mission it is assigned to, because a shard keeps the rockets of its own missions.
+// Moving a rocket to a mission on another shard is two-phase: while the facade holds the locks of the rocket and of
+// both missions, both shards first validate the move, and only then does the target shard take the rocket in and the
+// source shard release it. Summaries wait for moves in flight, so they never list the rocket in both missions.
+public class ShardedSpaceXLibrary implements Closeable {
+
+    private final Shard[] shards;
+    private final ConsistentHashRing ring;
+
+    // Current shard of every rocket; changes only under the rocket's lock
+    private final Map<String, Shard> rocketShards = new ConcurrentHashMap<>();
+
+    // Commits of cross-shard moves and batches share the read lock; summaries and counts take the write lock while they
+    // read the shards, so they never see a rocket that already joined its new shard but has not left its old one yet,
+    // nor half of a batch
+    private final ReadWriteLock transferLock = new ReentrantReadWriteLock();
+
+    // Same lock order as the service: the rocket stripes first, then the mission stripes
+    private final StripedLocks rocketLocks;
+    private final StripedLocks missionLocks;
+
+    public ShardedSpaceXLibrary(int shardCount) {
+        this(shardCount, MissionRocketAssignmentService.DEFAULT_LOCK_STRIPES);
+    }
+
+    public ShardedSpaceXLibrary(int shardCount, int lockStripes) {
+        this(shardCount, lockStripes, (rockets, missions) -> new MissionRocketAssignmentService(rockets, missions, lockStripes));
+    }
+
+    // Lets tests put their own service on each shard
+    ShardedSpaceXLibrary(int shardCount, int lockStripes,
+                         BiFunction<RocketRepository, MissionRepository, MissionRocketAssignmentService> serviceFactory) {
+        this.ring = new ConsistentHashRing(shardCount);
+        this.shards = new Shard[shardCount];
+        for (int i = 0; i < shardCount; i++) {
+            shards[i] = new Shard(i, serviceFactory);
+        }
+        this.rocketLocks = new StripedLocks(lockStripes);
+        this.missionLocks = new StripedLocks(lockStripes);
+    }
+
+    public void addRocket(Rocket rocket) throws SpaceXException {
+        tryAddRocket(rocket).throwIfFailed();
+    }
+
+    public OperationResult tryAddRocket(Rocket rocket) {
+        String rocketName = rocket.getName();
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocketName)) {
+            if (rocketShards.containsKey(rocketName)) {
+                return OperationResult.ROCKET_ALREADY_EXISTS;
+            }
+
+            Shard home = shardOf(rocketName);
+            OperationResult result = home.call(service -> service.tryAddRocket(rocket));
+            if (result.isSuccess()) {
+                rocketShards.put(rocketName, home);
+            }
+            return result;
+        }
+    }
+
+    public void addMission(Mission mission) throws SpaceXException {
+        tryAddMission(mission).throwIfFailed();
+    }
+
+    // Missions never move, so their shard alone detects duplicates
+    public OperationResult tryAddMission(Mission mission) {
+        return shardOf(mission.getName()).call(service -> service.tryAddMission(mission));
+    }
+
+    public void assignRocketToMission(String rocketName, String missionName) throws SpaceXException {
+        tryAssignRocketToMission(rocketName, missionName).throwIfFailed();
+    }
+
+    public OperationResult tryAssignRocketToMission(String rocketName, String missionName) {
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocketName)) {
+            Shard source = rocketShards.get(rocketName);
+            if (source == null) {
+                return OperationResult.ROCKET_NOT_FOUND;
+            }
+
+            Shard target = shardOf(missionName);
+            try (StripedLocks.Guard ignoredMissions = missionLocks.lock(missionName, source.missionNameOf(rocketName))) {
+                if (source == target) {
+                    return target.call(service -> service.tryAssignRocketToMission(rocketName, missionName));
+                }
+
+                // Phase one: both shards validate in parallel; nothing changes yet
+                CompletableFuture<OperationResult> targetPrepared = target.submit(service -> service.validateAssignmentTarget(missionName));
+                CompletableFuture<OperationResult> sourcePrepared = source.submit(service -> service.validateAssignmentSources(List.of(rocketName)));
+
+                OperationResult result = await(targetPrepared);
+                if (result.isSuccess()) {
+                    result = await(sourcePrepared);
+                }
+                if (!result.isSuccess()) {
+                    return result;
+                }
+
+                // Phase two: the locks held since phase one keep both validations true
+                transferLock.readLock().lock();
+                try {
+                    transfer(rocketName, source, target, missionName);
+                } finally {
+                    transferLock.readLock().unlock();
+                }
+                return OperationResult.SUCCESS;
+            }
+        }
+    }
+
+    // All-or-nothing like the single instance: every rocket and the mission are validated before any rocket moves
+    public void assignRocketsToMission(List<String> rocketNames, String missionName) throws SpaceXException {
+        tryAssignRocketsToMission(rocketNames, missionName).throwIfFailed();
+    }
+
+    public OperationResult tryAssignRocketsToMission(List<String> rocketNames, String missionName) {
+        // The last occurrence decides the position, same as assigning the rockets one by one
+        Set<String> names = new LinkedHashSet<>();
+        for (String rocketName : rocketNames) {
+            names.remove(rocketName);
+            names.add(rocketName);
+        }
+
+        try (StripedLocks.Guard ignored = rocketLocks.lock(names)) {
+            Map<Shard, List<String>> rocketsBySource = new LinkedHashMap<>();
+            List<String> lockedMissionNames = new ArrayList<>();
+            lockedMissionNames.add(missionName);
+
+            for (String rocketName : names) {
+                Shard source = rocketShards.get(rocketName);
+                if (source == null) {
+                    return OperationResult.ROCKET_NOT_FOUND;
+                }
+                rocketsBySource.computeIfAbsent(source, shard -> new ArrayList<>()).add(rocketName);
+                lockedMissionNames.add(source.missionNameOf(rocketName));
+            }
+
+            if (names.isEmpty()) {
+                return OperationResult.SUCCESS;
+            }
+
+            Shard target = shardOf(missionName);
+            try (StripedLocks.Guard ignoredMissions = missionLocks.lock(lockedMissionNames.toArray(String[]::new))) {
+                if (rocketsBySource.size() == 1 && rocketsBySource.containsKey(target)) {
+                    List<String> localNames = List.copyOf(names);
+                    return target.call(service -> service.tryAssignRocketsToMission(localNames, missionName));
+                }
+
+                // Phase one: the target and every source shard validate in parallel
+                CompletableFuture<OperationResult> targetPrepared = target.submit(service -> service.validateAssignmentTarget(missionName));
+                List<CompletableFuture<OperationResult>> sourcesPrepared = new ArrayList<>(rocketsBySource.size());
+                for (Map.Entry<Shard, List<String>> entry : rocketsBySource.entrySet()) {
+                    Shard source = entry.getKey();
+                    sourcesPrepared.add(source.submit(service -> service.validateAssignmentSources(entry.getValue())));
+                }
+
+                OperationResult result = await(targetPrepared);
+                for (CompletableFuture<OperationResult> sourcePrepared : sourcesPrepared) {
+                    OperationResult sourceResult = await(sourcePrepared);
+                    if (result.isSuccess()) {
+                        result = sourceResult;
+                    }
+                }
+                if (!result.isSuccess()) {
+                    return result;
+                }
+
+                // Phase two: one rocket at a time in the requested order, so the mission lists them as a single instance
+                // would. The whole batch commits under one read lock, so readers see none of it or all of it
+                transferLock.readLock().lock();
+                try {
+                    for (String rocketName : names) {
+                        Shard source = rocketShards.get(rocketName);
+                        if (source == target) {
+                            requireCommitted(target.call(service -> service.tryAssignRocketToMission(rocketName, missionName)));
+                        } else {
+                            transfer(rocketName, source, target, missionName);
+                        }
+                    }
+                } finally {
+                    transferLock.readLock().unlock();
+                }
+                return OperationResult.SUCCESS;
+            }
+        }
+    }
+
+    public void changeRocketStatus(String rocketName, RocketStatus newStatus) throws SpaceXException {
+        tryChangeRocketStatus(rocketName, newStatus).throwIfFailed();
+    }
+
+    // The rocket stays on its shard, also when it leaves its mission
+    public OperationResult tryChangeRocketStatus(String rocketName, RocketStatus newStatus) {
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocketName)) {
+            Shard shard = rocketShards.get(rocketName);
+            if (shard == null) {
+                return OperationResult.ROCKET_NOT_FOUND;
+            }
+
+            try (StripedLocks.Guard ignoredMissions = missionLocks.lock(shard.missionNameOf(rocketName))) {
+                return shard.call(service -> service.tryChangeRocketStatus(rocketName, newStatus));
+            }
+        }
+    }
+
+    // k-way merge of the shard summaries, in the same order as a single instance; the shard blocks are collected between
+    // cross-shard moves, so every rocket is listed exactly once
+    public String getMissionSummary() {
+        PriorityQueue<BlockCursor> cursors = new PriorityQueue<>(shards.length,
+                (left, right) -> MissionSummaryBlock.SUMMARY_ORDER.compare(left.current(), right.current()));
+
+        transferLock.writeLock().lock();
+        try {
+            for (Shard shard : shards) {
+                List<MissionSummaryBlock> blocks = shard.service.getKeyedMissionSummaryBlocks();
+                if (!blocks.isEmpty()) {
+                    cursors.add(new BlockCursor(blocks));
+                }
+            }
+        } finally {
+            transferLock.writeLock().unlock();
+        }
+
+        StringBuilder summary = new StringBuilder();
+        while (!cursors.isEmpty()) {
+            BlockCursor cursor = cursors.poll();
+            if (!summary.isEmpty()) {
+                summary.append('\n');
+            }
+            summary.append(cursor.current().text());
+
+            if (cursor.advance()) {
+                cursors.add(cursor);
+            }
+        }
+        return summary.toString();
+    }
+
+    public int getShardCount() {
+        return shards.length;
+    }
+
+    public int getShardOfMission(String missionName) {
+        return shardOf(missionName).index;
+    }
+
+    // -1 for an unknown rocket
+    public int getShardOfRocket(String rocketName) {
+        Shard shard = rocketShards.get(rocketName);
+        return shard != null ? shard.index : -1;
+    }
+
+    // Counted between cross-shard moves, like the summary, so a rocket in flight is never counted on both shards
+    public int countRockets(RocketStatus status) {
+        transferLock.writeLock().lock();
+        try {
+            int count = 0;
+            for (Shard shard : shards) {
+                count += shard.service.countRockets(status);
+            }
+            return count;
+        } finally {
+            transferLock.writeLock().unlock();
+        }
+    }
+
+    public int countMissions(MissionStatus status) {
+        transferLock.writeLock().lock();
+        try {
+            int count = 0;
+            for (Shard shard : shards) {
+                count += shard.service.countMissions(status);
+            }
+            return count;
+        } finally {
+            transferLock.writeLock().unlock();
+        }
+    }
+
+    // Lets every shard finish the mutations it has already accepted, then stops the shard threads
+    @Override
+    public void close() {
+        for (Shard shard : shards) {
+            shard.executor.shutdown();
+        }
+
+        boolean interrupted = false;
+        for (Shard shard : shards) {
+            try {
+                while (!shard.executor.awaitTermination(1, TimeUnit.MINUTES)) {
+                    // Keep waiting for running mutations
+                }
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+            shard.service.close();
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private Shard shardOf(String name) {
+        return shards[ring.nodeOf(name)];
+    }
+
+    // Commit of a validated cross-shard move; the caller holds the locks of the rocket and of both missions, and the
+    // read side of transferLock. The target takes in a copy of the rocket before the source lets go of it, so a
+    // rejected or failed step never loses the rocket: until the copy is in, the source is untouched, and afterwards the
+    // rocket lives on the target.
+    private void transfer(String rocketName, Shard source, Shard target, String missionName) {
+        Rocket copy = source.call(service -> {
+            Rocket rocket = new Rocket(rocketName);
+            rocket.setStatus(source.rockets.getRocket(rocketName).getStatus());
+            return rocket;
+        });
+
+        requireCommitted(target.call(service -> service.tryAddRocketToMission(copy, missionName)));
+        rocketShards.put(rocketName, target);
+        requireCommitted(source.call(service -> service.tryRemoveRocket(rocketName)));
+    }
+
+    // Phase one validated the step under the same locks, so a rejection here means the shards disagree with the facade
+    private static void requireCommitted(OperationResult result) {
+        if (!result.isSuccess()) {
+            throw new IllegalStateException("Validated cross-shard step was rejected: " + result);
+        }
+    }
+
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static final class Shard {
+
+        private final int index;
+        private final RocketRepository rockets = new RocketRepository();
+        private final MissionRepository missions = new MissionRepository();
+        private final MissionRocketAssignmentService service;
+        private final ExecutorService executor;
+
+        private Shard(int index, BiFunction<RocketRepository, MissionRepository, MissionRocketAssignmentService> serviceFactory) {
+            this.index = index;
+            this.service = serviceFactory.apply(rockets, missions);
+            this.executor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "fleet-shard-" + index);
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        private <T> CompletableFuture<T> submit(Function<MissionRocketAssignmentService, T> action) {
+            return CompletableFuture.supplyAsync(() -> action.apply(service), executor);
+        }
+
+        private <T> T call(Function<MissionRocketAssignmentService, T> action) {
+            return await(submit(action));
+        }
+
+        // Stable while the caller holds the rocket's lock, since only the facade moves rockets between missions
+        private String missionNameOf(String rocketName) {
+            Mission mission = missions.getMissionForRocket(rocketName);
+            return mission != null ? mission.getName() : null;
+        }
+    }
+
+    private static final class BlockCursor {
+
+        private final List<MissionSummaryBlock> blocks;
+        private int index;
+
+        private BlockCursor(List<MissionSummaryBlock> blocks) {
+            this.blocks = blocks;
+        }
+
+        private MissionSummaryBlock current() {
+            return blocks.get(index);
+        }
+
+        private boolean advance() {
+            return ++index < blocks.size();
+        }
+    }
+}
@@ -1,23 +1,93 @@
 package spacex;
 
+import spacex.command.FleetCommandPipeline;
+import spacex.domain.BulkLoadResult;
+import spacex.domain.FleetView;
+import spacex.domain.MissionStatus;
 import spacex.domain.Mission;
+import spacex.domain.MissionSummaryPage;
+import spacex.domain.OperationResult;
 import spacex.domain.Rocket;
 import spacex.domain.RocketStatus;
+import spacex.event.FleetEventListener;
+import spacex.history.FleetStatusHistory;
+import spacex.history.StatusTransition;
+import spacex.metrics.FleetGauges;
+import spacex.metrics.FleetMetrics;
 import spacex.exception.SpaceXException;
+import spacex.persistence.FleetSnapshotCodec;
+import spacex.persistence.FleetStore;
 import spacex.repository.MissionRepository;
 import spacex.repository.RocketRepository;
 import spacex.service.MissionRocketAssignmentService;
 
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
-public class SpaceXLibrary {
+public class SpaceXLibrary implements Closeable, FleetGauges {
 
+    public static final Duration DEFAULT_SNAPSHOT_INTERVAL = Duration.ofMinutes(5);
+
+    private final RocketRepository rocketRepository;
+    private final MissionRepository missionRepository;
     private final MissionRocketAssignmentService missionRocketAssignmentService;
 
+    // Null when the library is in-memory only
+    private final FleetStore fleetStore;
+
+    // Created on first use; guarded by this
+    private FleetCommandPipeline commandPipeline;
+
     public SpaceXLibrary() {
-        RocketRepository rocketRepository = new RocketRepository();
-        MissionRepository missionRepository = new MissionRepository();
-        this.missionRocketAssignmentService = new MissionRocketAssignmentService(rocketRepository, missionRepository);
+        this(MissionRocketAssignmentService.DEFAULT_LOCK_STRIPES);
+    }
+
+    public SpaceXLibrary(int lockStripes) {
+        this(new RocketRepository(), new MissionRepository(), lockStripes);
+    }
+
+    private SpaceXLibrary(RocketRepository rocketRepository, MissionRepository missionRepository, int lockStripes) {
+        this.rocketRepository = rocketRepository;
+        this.missionRepository = missionRepository;
+        this.missionRocketAssignmentService = new MissionRocketAssignmentService(rocketRepository, missionRepository, lockStripes);
+        this.fleetStore = null;
+    }
+
+    private SpaceXLibrary(FleetStore fleetStore) {
+        this.rocketRepository = fleetStore.getRocketRepository();
+        this.missionRepository = fleetStore.getMissionRepository();
+        this.missionRocketAssignmentService = fleetStore.getMissionRocketAssignmentService();
+        this.fleetStore = fleetStore;
+    }
+
+    // Opens a library that journals every mutation to the directory and restores the fleet from it on the next open
+    public static SpaceXLibrary open(Path directory) throws IOException {
+        return open(directory, MissionRocketAssignmentService.DEFAULT_LOCK_STRIPES, DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public static SpaceXLibrary open(Path directory, int lockStripes, Duration snapshotInterval) throws IOException {
+        return new SpaceXLibrary(FleetStore.open(directory, lockStripes, snapshotInterval));
+    }
+
+    // Builds an in-memory library from a snapshot written by exportSnapshot
+    public static SpaceXLibrary importSnapshot(ReadableByteChannel source) throws IOException {
+        FleetSnapshotCodec.DecodedFleet fleet = FleetSnapshotCodec.decode(source);
+        return new SpaceXLibrary(fleet.rocketRepository(), fleet.missionRepository(), MissionRocketAssignmentService.DEFAULT_LOCK_STRIPES);
     }
 
     public void addRocket(Rocket rocket) throws SpaceXException {
@@ -28,6 +98,14 @@ public class SpaceXLibrary {
         missionRocketAssignmentService.addMission(mission);
     }
 
+    public BulkLoadResult addRockets(Collection<Rocket> rockets) {
+        return missionRocketAssignmentService.addRockets(rockets);
+    }
+
+    public BulkLoadResult addMissions(Collection<Mission> missions) {
+        return missionRocketAssignmentService.addMissions(missions);
+    }
+
     public void assignRocketToMission(String rocketName, String missionName) throws SpaceXException {
         missionRocketAssignmentService.assignRocketToMission(rocketName, missionName);
     }
@@ -40,7 +118,166 @@ public class SpaceXLibrary {
         missionRocketAssignmentService.changeRocketStatus(rocketName, status);
     }
 
+    // Non-throwing variants for callers that expect rejections on a hot path. A persistent library still throws
+    // UncheckedIOException from these and the throwing methods when the journal cannot be synced: the mutation has
+    // been applied by then, but may be lost on restart.
+    public OperationResult tryAddRocket(Rocket rocket) {
+        return missionRocketAssignmentService.tryAddRocket(rocket);
+    }
+
+    public OperationResult tryAddMission(Mission mission) {
+        return missionRocketAssignmentService.tryAddMission(mission);
+    }
+
+    public OperationResult tryAssignRocketToMission(String rocketName, String missionName) {
+        return missionRocketAssignmentService.tryAssignRocketToMission(rocketName, missionName);
+    }
+
+    public OperationResult tryAssignRocketsToMission(List<String> rocketNames, String missionName) {
+        return missionRocketAssignmentService.tryAssignRocketsToMission(rocketNames, missionName);
+    }
+
+    public OperationResult tryChangeRocketStatus(String rocketName, RocketStatus status) {
+        return missionRocketAssignmentService.tryChangeRocketStatus(rocketName, status);
+    }
+
+    // Single-writer front end for high fan-in producers; commands are applied in order on one thread
+    public synchronized FleetCommandPipeline getCommandPipeline() {
+        if (commandPipeline == null) {
+            commandPipeline = new FleetCommandPipeline(missionRocketAssignmentService);
+        }
+        return commandPipeline;
+    }
+
+    public void addEventListener(FleetEventListener listener) {
+        missionRocketAssignmentService.addEventListener(listener);
+    }
+
+    public void removeEventListener(FleetEventListener listener) {
+        missionRocketAssignmentService.removeEventListener(listener);
+    }
+
+    public void setParallelSummaryThreshold(int missionCount) {
+        missionRocketAssignmentService.setParallelSummaryThreshold(missionCount);
+    }
+
+    // Pass an InMemoryFleetMetrics (optionally registered with FleetMetricsJmx) to start measuring, FleetMetrics.NOOP to stop
+    public void setMetrics(FleetMetrics metrics) {
+        missionRocketAssignmentService.setMetrics(metrics);
+    }
+
+    public void setStatusHistory(FleetStatusHistory statusHistory) {
+        missionRocketAssignmentService.setStatusHistory(statusHistory);
+    }
+
+    public List<StatusTransition<RocketStatus>> getRocketStatusHistory(String rocketName, Instant from, Instant to) throws SpaceXException {
+        return missionRocketAssignmentService.getRocketStatusHistory(rocketName, from, to);
+    }
+
+    public List<StatusTransition<MissionStatus>> getMissionStatusHistory(String missionName, Instant from, Instant to) throws SpaceXException {
+        return missionRocketAssignmentService.getMissionStatusHistory(missionName, from, to);
+    }
+
+    public Duration getRocketTimeInStatus(String rocketName, RocketStatus status, Instant from, Instant to) throws SpaceXException {
+        return missionRocketAssignmentService.getRocketTimeInStatus(rocketName, status, from, to);
+    }
+
+    public Duration getMissionTimeInStatus(String missionName, MissionStatus status, Instant from, Instant to) throws SpaceXException {
+        return missionRocketAssignmentService.getMissionTimeInStatus(missionName, status, from, to);
+    }
+
+    public Set<String> getRocketNamesByStatus(RocketStatus status) {
+        return missionRocketAssignmentService.getRocketNamesByStatus(status);
+    }
+
+    public Set<String> getMissionNamesByStatus(MissionStatus status) {
+        return missionRocketAssignmentService.getMissionNamesByStatus(status);
+    }
+
+    public int countRockets(RocketStatus status) {
+        return missionRocketAssignmentService.countRockets(status);
+    }
+
+    public int countMissions(MissionStatus status) {
+        return missionRocketAssignmentService.countMissions(status);
+    }
+
+    @Override
+    public Map<RocketStatus, Integer> countRocketsByStatus() {
+        return missionRocketAssignmentService.countRocketsByStatus();
+    }
+
+    @Override
+    public Map<MissionStatus, Integer> countMissionsByStatus() {
+        return missionRocketAssignmentService.countMissionsByStatus();
+    }
+
+    // Consistent point-in-time view of every mission; reading it never blocks writers
+    public FleetView getFleetView() {
+        return missionRocketAssignmentService.getFleetView();
+    }
+
     public String getMissionSummary() {
         return missionRocketAssignmentService.getMissionSummary();
     }
+
+    public String getTopMissionSummary(int limit) throws SpaceXException {
+        return missionRocketAssignmentService.getTopMissionSummary(limit);
+    }
+
+    public MissionSummaryPage getMissionSummaryPage(String cursor, int limit) throws SpaceXException {
+        return missionRocketAssignmentService.getMissionSummaryPage(cursor, limit);
+    }
+
+    public List<String> getMissionSummaryBlocks() {
+        return missionRocketAssignmentService.getMissionSummaryBlocks();
+    }
+
+    public void writeMissionSummary(Appendable target) throws IOException {
+        missionRocketAssignmentService.writeMissionSummary(target);
+    }
+
+    public void writeMissionSummary(OutputStream target) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(target, StandardCharsets.UTF_8));
+        writeMissionSummary(writer);
+        writer.flush();
+    }
+
+    // Streams the fleet in the binary snapshot format; mutations wait until it is written
+    public void exportSnapshot(WritableByteChannel target) throws IOException {
+        try {
+            missionRocketAssignmentService.quiesce(() -> {
+                try {
+                    FleetSnapshotCodec.encode(0, rocketRepository, missionRepository, target);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                return null;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    // Writes a snapshot now, so the next open replays only the mutations made after it
+    public void snapshot() throws IOException {
+        if (fleetStore == null) {
+            throw new IllegalStateException("Library is not persistent");
+        }
+        fleetStore.snapshot();
+    }
+
+    @Override
+    public void close() throws IOException {
+        synchronized (this) {
+            if (commandPipeline != null) {
+                commandPipeline.close();
+            }
+        }
+        missionRocketAssignmentService.close();
+
+        if (fleetStore != null) {
+            fleetStore.close();
+        }
+    }
 }
@@ -0,0 +1,199 @@
+package spacex.command;
+
+import spacex.domain.Mission;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.service.MissionRocketAssignmentService;
+import spacex.util.MpscRingBuffer;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+// Front end that funnels mutations from many threads through one writer thread.
+// Producers enqueue commands into a bounded lock-free ring buffer and get a future; the writer drains the buffer in
+// batches and applies each command in enqueue order, so the service locks it takes are never contended by its callers.
+// Futures complete on the writer thread: a callback attached with a non-async method runs there and must not block,
+// so chain blocking work with the *Async variants.
+public class FleetCommandPipeline implements Closeable {
+
+    public static final int DEFAULT_CAPACITY = 16_384;
+    public static final int DEFAULT_BATCH_SIZE = 256;
+
+    private static final int FULL_SPINS = 64;
+    private static final long FULL_PARK_NANOS = 10_000;
+
+    private final MissionRocketAssignmentService missionRocketAssignmentService;
+    private final MpscRingBuffer<Command> commands;
+    private final Command[] batch;
+    private final Thread writer;
+
+    private volatile boolean running = true;
+    private volatile boolean writerParked;
+
+    // Producers between their running check and their enqueue; the writer only stops once none are left
+    private final AtomicInteger submitting = new AtomicInteger();
+
+    public FleetCommandPipeline(MissionRocketAssignmentService missionRocketAssignmentService) {
+        this(missionRocketAssignmentService, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    public FleetCommandPipeline(MissionRocketAssignmentService missionRocketAssignmentService, int capacity, int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive: " + batchSize);
+        }
+
+        this.missionRocketAssignmentService = missionRocketAssignmentService;
+        this.commands = new MpscRingBuffer<>(capacity);
+        this.batch = new Command[batchSize];
+        this.writer = new Thread(this::runWriter, "fleet-command-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    public CompletableFuture<Void> addRocket(Rocket rocket) {
+        return submit(service -> service.addRocket(rocket));
+    }
+
+    public CompletableFuture<Void> addMission(Mission mission) {
+        return submit(service -> service.addMission(mission));
+    }
+
+    public CompletableFuture<Void> assignRocketToMission(String rocketName, String missionName) {
+        return submit(service -> service.assignRocketToMission(rocketName, missionName));
+    }
+
+    public CompletableFuture<Void> assignRocketsToMission(List<String> rocketNames, String missionName) {
+        List<String> names = List.copyOf(rocketNames);
+        return submit(service -> service.assignRocketsToMission(names, missionName));
+    }
+
+    public CompletableFuture<Void> changeRocketStatus(String rocketName, RocketStatus status) {
+        return submit(service -> service.changeRocketStatus(rocketName, status));
+    }
+
+    // Applies the commands already enqueued, then stops the writer; later submissions fail with IllegalStateException.
+    // Called from a callback on the writer thread it only stops accepting commands, the writer drains and exits after it.
+    @Override
+    public void close() {
+        running = false;
+        LockSupport.unpark(writer);
+        if (Thread.currentThread() == writer) {
+            return;
+        }
+
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private CompletableFuture<Void> submit(Action action) {
+        Command command = new Command(action);
+
+        submitting.incrementAndGet();
+        try {
+            // Accepted or rejected once: the writer keeps draining while a producer is submitting, so an accepted
+            // command is always applied even if close() runs before it reaches the buffer
+            if (!running) {
+                command.future.completeExceptionally(new IllegalStateException("Command pipeline is closed"));
+                return command.future;
+            }
+
+            // A full buffer pushes back on the producer until the writer frees a slot
+            for (int attempt = 0; !commands.offer(command); attempt++) {
+                LockSupport.unpark(writer);
+                if (attempt < FULL_SPINS) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(FULL_PARK_NANOS);
+                }
+            }
+        } finally {
+            submitting.decrementAndGet();
+        }
+
+        if (writerParked) {
+            LockSupport.unpark(writer);
+        }
+        return command.future;
+    }
+
+    private void runWriter() {
+        while (running || submitting.get() > 0 || !commands.isEmpty()) {
+            int size = 0;
+            Command command;
+            while (size < batch.length && (command = commands.poll()) != null) {
+                batch[size++] = command;
+            }
+
+            if (size == 0) {
+                park();
+                continue;
+            }
+
+            for (int i = 0; i < size; i++) {
+                batch[i].apply(missionRocketAssignmentService);
+            }
+
+            // Completed after the whole batch, so dependent callbacks run outside the apply loop
+            for (int i = 0; i < size; i++) {
+                batch[i].complete();
+                batch[i] = null;
+            }
+        }
+    }
+
+    // Producers read writerParked after enqueueing, so either they see it set or the writer sees their command
+    private void park() {
+        writerParked = true;
+        if (running && commands.isEmpty()) {
+            LockSupport.park(this);
+        }
+        writerParked = false;
+    }
+
+    @FunctionalInterface
+    private interface Action {
+        void apply(MissionRocketAssignmentService service) throws SpaceXException;
+    }
+
+    private static final class Command {
+
+        private final Action action;
+        private final CompletableFuture<Void> future = new CompletableFuture<>();
+        private Throwable failure;
+
+        private Command(Action action) {
+            this.action = action;
+        }
+
+        private void apply(MissionRocketAssignmentService service) {
+            try {
+                action.apply(service);
+            } catch (Throwable e) {
+                // Includes errors, so one failing command neither kills the writer nor leaves its future incomplete
+                failure = e;
+            }
+        }
+
+        private void complete() {
+            if (failure != null) {
+                future.completeExceptionally(failure);
+            } else {
+                future.complete(null);
+            }
+        }
+    }
+}
@@ -13,4 +13,6 @@ public class ErrorMessages {
     public static final String MISSION_NOT_FOUND = "Mission is not found!";
     public static final String MISSION_NOT_AVAILABLE = "Mission is not available for assignment!";
     public static final String MISSION_ALREADY_EXISTS = "Mission already ended!";
+
+    public static final String SUMMARY_CURSOR_NOT_VALID = "Summary cursor is not valid!";
 }
\ No newline at end of file
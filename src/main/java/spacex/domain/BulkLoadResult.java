@@ -0,0 +1,14 @@
+package spacex.domain;
+
+import java.util.List;
+
+// Outcome of a bulk load: everything that was not listed as a failure has been added
+public record BulkLoadResult(int addedCount, List<Failure> failures) {
+
+    public boolean isSuccessful() {
+        return failures.isEmpty();
+    }
+
+    public record Failure(String name, String reason) {
+    }
+}
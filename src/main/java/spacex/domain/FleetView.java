@@ -0,0 +1,99 @@
+package spacex.domain;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Immutable point-in-time view of every mission. The service publishes a new view after each mutation, so a reader
+// holding a view never sees a half-applied change and never blocks a writer.
+//
+// Missions live in fixed-size chunks: a new version copies only the chunks it changes plus the chunk table.
+public final class FleetView {
+
+    private static final int CHUNK_BITS = 10;
+    private static final int CHUNK_SIZE = 1 << CHUNK_BITS;
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final long version;
+    private final int missionCount;
+    private final MissionView[][] chunks;
+
+    // Append-only and shared by every version; indexes at or above missionCount belong to later versions
+    private final Map<String, Integer> missionIndexes;
+
+    private FleetView(long version, int missionCount, MissionView[][] chunks, Map<String, Integer> missionIndexes) {
+        this.version = version;
+        this.missionCount = missionCount;
+        this.chunks = chunks;
+        this.missionIndexes = missionIndexes;
+    }
+
+    public static FleetView empty() {
+        return new FleetView(0, 0, new MissionView[0][], new ConcurrentHashMap<>());
+    }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public int getMissionCount() {
+        return missionCount;
+    }
+
+    public MissionView getMission(String missionName) {
+        Integer index = missionIndexes.get(missionName);
+        if (index == null || index >= missionCount) {
+            return null;
+        }
+        return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+    }
+
+    // In the order the missions were added
+    public List<MissionView> getMissions() {
+        return new AbstractList<>() {
+            @Override
+            public MissionView get(int index) {
+                if (index < 0 || index >= missionCount) {
+                    throw new IndexOutOfBoundsException(index);
+                }
+                return chunks[index >>> CHUNK_BITS][index & CHUNK_MASK];
+            }
+
+            @Override
+            public int size() {
+                return missionCount;
+            }
+        };
+    }
+
+    // Returns the next version with the given missions replaced or appended. Must only be called on the latest
+    // version by one thread at a time, since new missions are registered in the shared index.
+    public FleetView withMissions(Collection<MissionView> missions) {
+        int count = missionCount;
+        MissionView[][] newChunks = Arrays.copyOf(chunks, chunks.length);
+
+        for (MissionView mission : missions) {
+            Integer index = missionIndexes.get(mission.name());
+            if (index == null) {
+                index = count++;
+                missionIndexes.put(mission.name(), index);
+            }
+
+            int chunk = index >>> CHUNK_BITS;
+            if (chunk >= newChunks.length) {
+                newChunks = Arrays.copyOf(newChunks, Math.max(chunk + 1, newChunks.length * 2));
+            }
+            if (newChunks[chunk] == null) {
+                newChunks[chunk] = new MissionView[CHUNK_SIZE];
+            } else if (chunk < chunks.length && newChunks[chunk] == chunks[chunk]) {
+                newChunks[chunk] = chunks[chunk].clone();
+            }
+            newChunks[chunk][index & CHUNK_MASK] = mission;
+        }
+
+        return new FleetView(version + 1, count, newChunks, missionIndexes);
+    }
+}
@@ -1,21 +1,87 @@
 package spacex.domain;
 
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
+import spacex.util.PersistentOrderedList;
 
-import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Getter
 @Setter
 public class Mission {
     private String name;
     private MissionStatus status;
-    private List<Rocket> rockets;
+
+    // Insertion ordered, so the summary lists rockets in assignment order; the value is the rocket's key in rocketViews
+    @Getter(AccessLevel.NONE)
+    private final Map<Rocket, Long> rockets = new LinkedHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final Set<Rocket> rocketsView = Collections.unmodifiableSet(rockets.keySet());
+
+    // Published views share this list, so a change copies O(log n) nodes instead of every rocket of the mission
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private PersistentOrderedList<RocketView> rocketViews = PersistentOrderedList.empty();
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    private long nextRocketKey;
+
+    // Number of assigned rockets per RocketStatus ordinal, kept in step with the rockets
+    @Getter(AccessLevel.NONE)
+    private final int[] rocketStatusCounts = new int[RocketStatus.values().length];
 
     public Mission(String name) {
         this.name = name;
         this.status = MissionStatus.SCHEDULED;
-        this.rockets = new ArrayList<>();
+    }
+
+    public Set<Rocket> getRockets() {
+        return rocketsView;
+    }
+
+    // Immutable snapshot of the rockets in assignment order
+    public List<RocketView> getRocketViews() {
+        return rocketViews;
+    }
+
+    // Rosters change only through MissionAssignments, which keeps the rocket index in step
+    void addRocket(Rocket rocket) {
+        if (!rockets.containsKey(rocket)) {
+            long key = nextRocketKey++;
+            rockets.put(rocket, key);
+            rocketViews = rocketViews.with(key, new RocketView(rocket.getName(), rocket.getStatus()));
+            rocketStatusCounts[rocket.getStatus().ordinal()]++;
+        }
+    }
+
+    void removeRocket(Rocket rocket) {
+        Long key = rockets.remove(rocket);
+        if (key != null) {
+            rocketViews = rocketViews.without(key);
+            rocketStatusCounts[rocket.getStatus().ordinal()]--;
+        }
+    }
+
+    void changeRocketStatus(Rocket rocket, RocketStatus newStatus) {
+        Long key = rockets.get(rocket);
+        if (key == null) {
+            throw new IllegalArgumentException("Rocket " + rocket.getName() + " is not in mission " + name);
+        }
+
+        rocketStatusCounts[rocket.getStatus().ordinal()]--;
+        rocketStatusCounts[newStatus.ordinal()]++;
+        rocket.setStatus(newStatus);
+        rocketViews = rocketViews.with(key, new RocketView(rocket.getName(), newStatus));
+    }
+
+    public int countRockets(RocketStatus status) {
+        return rocketStatusCounts[status.ordinal()];
     }
 }
@@ -0,0 +1,43 @@
+package spacex.domain;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Which mission each rocket is assigned to. The only way to change the rockets of a mission, so a mission's rocket
+// list, its status counts and this index always agree; callers still provide the locking.
+public class MissionAssignments {
+
+    private final Map<String, Mission> missionsByRocket;
+
+    public MissionAssignments() {
+        this.missionsByRocket = new ConcurrentHashMap<>();
+    }
+
+    public MissionAssignments(int expectedAssignedRockets) {
+        this.missionsByRocket = new ConcurrentHashMap<>(expectedAssignedRockets);
+    }
+
+    public void assign(Rocket rocket, Mission mission) {
+        mission.addRocket(rocket);
+        missionsByRocket.put(rocket.getName(), mission);
+    }
+
+    public void unassign(Rocket rocket, Mission mission) {
+        mission.removeRocket(rocket);
+        missionsByRocket.remove(rocket.getName());
+    }
+
+    // Keeps the counts of the rocket's mission in step; a rocket without a mission just takes the status
+    public void changeRocketStatus(Rocket rocket, RocketStatus newStatus) {
+        Mission mission = missionsByRocket.get(rocket.getName());
+        if (mission != null) {
+            mission.changeRocketStatus(rocket, newStatus);
+        } else {
+            rocket.setStatus(newStatus);
+        }
+    }
+
+    public Mission getMission(String rocketName) {
+        return missionsByRocket.get(rocketName);
+    }
+}
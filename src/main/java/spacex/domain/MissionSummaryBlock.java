@@ -0,0 +1,17 @@
+package spacex.domain;
+
+import java.util.Comparator;
+
+// Formatted summary block of one mission with the key it is sorted by
+public record MissionSummaryBlock(int rocketCount, String missionName, String text) {
+
+    public static final Comparator<MissionSummaryBlock> SUMMARY_ORDER =
+            (left, right) -> compareSummaryOrder(left.rocketCount, left.missionName, right.rocketCount, right.missionName);
+
+    // The summary order, shared by the summary cache and the sharded merge: missions with more rockets first,
+    // ties by name descending
+    public static int compareSummaryOrder(int rocketCount, String missionName, int otherRocketCount, String otherMissionName) {
+        int byRocketCount = Integer.compare(otherRocketCount, rocketCount);
+        return byRocketCount != 0 ? byRocketCount : otherMissionName.compareTo(missionName);
+    }
+}
@@ -0,0 +1,9 @@
+package spacex.domain;
+
+// One page of the mission summary; nextCursor is null on the last page
+public record MissionSummaryPage(String summary, String nextCursor) {
+
+    public boolean hasNext() {
+        return nextCursor != null;
+    }
+}
@@ -0,0 +1,12 @@
+package spacex.domain;
+
+import java.util.List;
+
+// Immutable copy of a mission and its rockets at one fleet version
+public record MissionView(String name, MissionStatus status, List<RocketView> rockets) {
+
+    // The caller must hold the mission's lock; the rocket list is shared with the mission, not copied
+    public static MissionView of(Mission mission) {
+        return new MissionView(mission.getName(), mission.getStatus(), mission.getRocketViews());
+    }
+}
@@ -0,0 +1,32 @@
+package spacex.domain;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import spacex.constant.ErrorMessages;
+import spacex.exception.SpaceXException;
+
+// Outcome of a single mutation; every failure carries the message the throwing API uses for it
+@AllArgsConstructor
+@Getter
+public enum OperationResult {
+    SUCCESS(null),
+    ROCKET_NOT_FOUND(ErrorMessages.ROCKET_NOT_FOUND),
+    ROCKET_NOT_AVAILABLE(ErrorMessages.ROCKET_NOT_AVAILABLE),
+    ROCKET_ALREADY_EXISTS(ErrorMessages.ROCKET_ALREADY_EXISTS),
+    ROCKET_CANNOT_BE_IN_SPACE_OR_IN_REPAIR_WITHOUT_MISSION(ErrorMessages.ROCKET_CANNOT_BE_IN_SPACE_OR_IN_REPAIR_WITHOUT_MISSION),
+    MISSION_NOT_FOUND(ErrorMessages.MISSION_NOT_FOUND),
+    MISSION_NOT_AVAILABLE(ErrorMessages.MISSION_NOT_AVAILABLE),
+    MISSION_ALREADY_EXISTS(ErrorMessages.MISSION_ALREADY_EXISTS);
+
+    private final String message;
+
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+
+    public void throwIfFailed() throws SpaceXException {
+        if (this != SUCCESS) {
+            throw new SpaceXException(message);
+        }
+    }
+}
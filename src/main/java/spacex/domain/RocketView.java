@@ -0,0 +1,5 @@
+package spacex.domain;
+
+// Immutable copy of an assigned rocket inside a MissionView
+public record RocketView(String name, RocketStatus status) {
+}
@@ -0,0 +1,23 @@
+package spacex.event;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+
+// Change emitted by MissionRocketAssignmentService after a successful mutation
+public sealed interface FleetEvent permits FleetEvent.RocketStatusChanged, FleetEvent.RocketAssigned, FleetEvent.MissionStatusChanged,
+        FleetEvent.EventsDropped {
+
+    record RocketStatusChanged(String rocketName, RocketStatus oldStatus, RocketStatus newStatus) implements FleetEvent {
+    }
+
+    // sourceMissionName is null when the rocket had no mission
+    record RocketAssigned(String rocketName, String sourceMissionName, String targetMissionName) implements FleetEvent {
+    }
+
+    record MissionStatusChanged(String missionName, MissionStatus oldStatus, MissionStatus newStatus) implements FleetEvent {
+    }
+
+    // Stands in for events dropped because the listeners fell behind by the whole queue capacity
+    record EventsDropped(long count) implements FleetEvent {
+    }
+}
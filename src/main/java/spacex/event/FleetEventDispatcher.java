@@ -0,0 +1,156 @@
+package spacex.event;
+
+import spacex.util.MpscRingBuffer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+// Hands events from mutating threads to listeners on a daemon thread, so a slow listener never holds up a mutation.
+// Producers check isActive() before building an event, so without listeners the hot path allocates nothing.
+// The queue is bounded: when listeners fall behind by the whole capacity, new events are dropped instead of blocking
+// the mutation, and listeners get an EventsDropped with the number lost so they can resynchronise from the fleet view.
+public class FleetEventDispatcher implements AutoCloseable {
+
+    public static final int DEFAULT_CAPACITY = 65_536;
+    public static final int MAX_BATCH_SIZE = 1024;
+
+    private final List<FleetEventListener> listeners = new CopyOnWriteArrayList<>();
+    private final int capacity;
+    private final AtomicLong dropped = new AtomicLong();
+
+    // Allocated with the first listener and published to producers by the write of active
+    private MpscRingBuffer<FleetEvent> pending;
+
+    private volatile boolean active;
+    private volatile boolean closed;
+    private volatile boolean dispatcherParked;
+
+    // Started with the first listener; guarded by this
+    private Thread dispatcher;
+
+    public FleetEventDispatcher() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    public FleetEventDispatcher(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        this.capacity = capacity;
+    }
+
+    public synchronized void addListener(FleetEventListener listener) {
+        if (closed) {
+            throw new IllegalStateException("Event dispatcher is closed");
+        }
+
+        if (dispatcher == null) {
+            pending = new MpscRingBuffer<>(capacity);
+            dispatcher = new Thread(this::runDispatcher, "fleet-event-dispatcher");
+            dispatcher.setDaemon(true);
+            dispatcher.start();
+        }
+
+        listeners.add(listener);
+        active = true;
+    }
+
+    public synchronized void removeListener(FleetEventListener listener) {
+        listeners.remove(listener);
+        active = !closed && !listeners.isEmpty();
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    // Callers publish under the locks of the mutation, so conflicting mutations are delivered in the order they applied
+    public void publish(FleetEvent event) {
+        if (!pending.offer(event)) {
+            dropped.incrementAndGet();
+        }
+        if (dispatcherParked) {
+            LockSupport.unpark(dispatcher);
+        }
+    }
+
+    // Delivers the events already published, then stops the dispatcher thread; later events are not published
+    @Override
+    public void close() {
+        Thread thread;
+        synchronized (this) {
+            closed = true;
+            active = false;
+            thread = dispatcher;
+        }
+
+        if (thread == null || thread == Thread.currentThread()) {
+            return;
+        }
+
+        LockSupport.unpark(thread);
+        boolean interrupted = false;
+        while (thread.isAlive()) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void runDispatcher() {
+        List<FleetEvent> batch = new ArrayList<>();
+
+        while (true) {
+            // Read before draining, so events published before close are still delivered
+            boolean stopping = closed;
+
+            FleetEvent event;
+            while (batch.size() < MAX_BATCH_SIZE && (event = pending.poll()) != null) {
+                batch.add(event);
+            }
+
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                batch.add(new FleetEvent.EventsDropped(lost));
+            }
+
+            if (batch.isEmpty()) {
+                if (stopping) {
+                    return;
+                }
+
+                // publish reads dispatcherParked after adding, so either it unparks us or we see its event here
+                dispatcherParked = true;
+                if (pending.isEmpty() && !closed) {
+                    LockSupport.park(this);
+                }
+                dispatcherParked = false;
+                continue;
+            }
+
+            deliver(List.copyOf(batch));
+            batch.clear();
+        }
+    }
+
+    private void deliver(List<FleetEvent> events) {
+        for (FleetEventListener listener : listeners) {
+            try {
+                listener.onEvents(events);
+            } catch (Throwable e) {
+                // Includes errors, so a failing listener neither kills the dispatcher nor stops delivery to the others
+                Thread thread = Thread.currentThread();
+                thread.getUncaughtExceptionHandler().uncaughtException(thread, e);
+            }
+        }
+    }
+}
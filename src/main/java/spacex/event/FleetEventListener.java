@@ -0,0 +1,10 @@
+package spacex.event;
+
+import java.util.List;
+
+// Receives events in batches on the dispatcher thread, in the order the mutations were applied
+@FunctionalInterface
+public interface FleetEventListener {
+
+    void onEvents(List<FleetEvent> events);
+}
@@ -0,0 +1,29 @@
+package spacex.history;
+
+import lombok.Getter;
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+
+// Status transitions of rockets and missions, each kept in its own bounded StatusHistory.
+// About 22 bytes per record, so a capacity of one million records retains roughly 22 MB per history.
+// The capacity is split over STRIPES rings, so mutations of different rockets record without contending.
+@Getter
+public class FleetStatusHistory {
+
+    public static final int STRIPES = 16;
+
+    private final StatusHistory<RocketStatus> rocketHistory;
+    private final StatusHistory<MissionStatus> missionHistory;
+
+    public FleetStatusHistory(int capacity, Duration retention) {
+        this(capacity, retention, Clock.systemUTC());
+    }
+
+    public FleetStatusHistory(int capacity, Duration retention, Clock clock) {
+        this.rocketHistory = new StatusHistory<>(RocketStatus.class, capacity, retention, clock, STRIPES);
+        this.missionHistory = new StatusHistory<>(MissionStatus.class, capacity, retention, clock, STRIPES);
+    }
+}
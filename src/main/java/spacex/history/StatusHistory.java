@@ -0,0 +1,352 @@
+package spacex.history;
+
+import spacex.util.NameIndex;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static spacex.util.NameIndex.NO_ID;
+
+// Bounded history of status transitions for one kind of entity. Records go into rings of primitive columns, so
+// memory is fixed by the capacity however many transitions arrive; the oldest records are overwritten, and records
+// older than the retention are dropped. Every record links to the previous record of the same name, so a query for
+// one name walks only that name's records.
+// Names are spread over stripes, each a ring with its own share of the capacity and its own lock, so recording
+// transitions of different names does not serialise on one lock. All records of a name live in one stripe.
+public class StatusHistory<S extends Enum<S>> {
+
+    private static final long NONE = -1;
+
+    private final List<Stripe<S>> stripes;
+
+    // One stripe, so the capacity is shared by all names exactly
+    public StatusHistory(Class<S> statusType, int capacity, Duration retention, Clock clock) {
+        this(statusType, capacity, retention, clock, 1);
+    }
+
+    public StatusHistory(Class<S> statusType, int capacity, Duration retention, Clock clock, int stripeCount) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Capacity must be positive: " + capacity);
+        }
+        if (retention.isNegative() || retention.isZero()) {
+            throw new IllegalArgumentException("Retention must be positive: " + retention);
+        }
+        if (stripeCount <= 0) {
+            throw new IllegalArgumentException("Stripe count must be positive: " + stripeCount);
+        }
+
+        int count = Math.min(stripeCount, capacity);
+        S[] statuses = statusType.getEnumConstants();
+        this.stripes = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            // Spreads the remainder, so the stripe capacities add up to the capacity
+            int stripeCapacity = capacity / count + (i < capacity % count ? 1 : 0);
+            stripes.add(new Stripe<>(statuses, stripeCapacity, retention.toMillis(), clock));
+        }
+    }
+
+    public void record(String name, S oldStatus, S newStatus) {
+        stripeOf(name).record(name, oldStatus, newStatus);
+    }
+
+    // Transitions of the name in [from, to), oldest first
+    public List<StatusTransition<S>> getTransitions(String name, Instant from, Instant to) {
+        return stripeOf(name).getTransitions(name, from, to);
+    }
+
+    // Time the name spent in the status within [from, to), limited to the covered part of the window and to now.
+    // currentStatus is the status the name has now; the caller must keep it from changing during the call.
+    public Duration getTimeInStatus(String name, S status, S currentStatus, Instant from, Instant to) {
+        return stripeOf(name).getTimeInStatus(name, status, currentStatus, from, to);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe<S> stripe : stripes) {
+            size += stripe.size();
+        }
+        return size;
+    }
+
+    public int capacity() {
+        int capacity = 0;
+        for (Stripe<S> stripe : stripes) {
+            capacity += stripe.capacity();
+        }
+        return capacity;
+    }
+
+    // Start of the period the history can answer for, for every name
+    public Instant getCoveredSince() {
+        long coveredSince = Long.MIN_VALUE;
+        for (Stripe<S> stripe : stripes) {
+            coveredSince = Math.max(coveredSince, stripe.getCoveredSince());
+        }
+        return Instant.ofEpochMilli(coveredSince);
+    }
+
+    // Interned names, live or not yet compacted away
+    int nameCount() {
+        int count = 0;
+        for (Stripe<S> stripe : stripes) {
+            count += stripe.nameCount();
+        }
+        return count;
+    }
+
+    private Stripe<S> stripeOf(String name) {
+        int hash = name.hashCode() * 0x9E3779B9;
+        return stripes.get(Math.floorMod(hash ^ (hash >>> 16), stripes.size()));
+    }
+
+    private static final class Stripe<S extends Enum<S>> {
+
+        // Dead names (no retained record) beyond this many, and beyond the live ones, are dropped from the index
+        private static final int MIN_DEAD_NAMES = 64;
+
+        // Guards everything below; not a monitor, so a virtual thread waiting for it does not pin its carrier
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private final S[] statuses;
+        private final Clock clock;
+        private final long retentionMillis;
+
+        // Columns indexed by sequence modulo capacity
+        private final long[] timestamps;
+        private final int[] nameIds;
+        private final byte[] oldStatuses;
+        private final byte[] newStatuses;
+        private final long[] previousOfName;
+
+        private NameIndex names = new NameIndex();
+        private long[] lastOfName = new long[16];
+        private int liveNames;
+
+        // Records in [oldestSequence, nextSequence) are retained
+        private long nextSequence;
+        private long oldestSequence;
+        private long lastTimestamp;
+
+        // Transitions before this instant were either never recorded or are no longer retained
+        private long coveredSince;
+
+        private Stripe(S[] statuses, int capacity, long retentionMillis, Clock clock) {
+            this.statuses = statuses;
+            this.clock = clock;
+            this.retentionMillis = retentionMillis;
+            this.timestamps = new long[capacity];
+            this.nameIds = new int[capacity];
+            this.oldStatuses = new byte[capacity];
+            this.newStatuses = new byte[capacity];
+            this.previousOfName = new long[capacity];
+            this.lastTimestamp = clock.millis();
+            this.coveredSince = lastTimestamp;
+        }
+
+        private void record(String name, S oldStatus, S newStatus) {
+            lock.lock();
+            try {
+                // Timestamps never go backwards, so every name's records stay in time order even if the clock is adjusted
+                long now = Math.max(clock.millis(), lastTimestamp);
+                lastTimestamp = now;
+                expire(now);
+
+                if (nextSequence - oldestSequence == timestamps.length) {
+                    evictOldest();
+                }
+                if (names.size() - liveNames > Math.max(liveNames, MIN_DEAD_NAMES)) {
+                    compactNames();
+                }
+
+                int nameId = internName(name);
+                long sequence = nextSequence++;
+                int slot = slotOf(sequence);
+
+                timestamps[slot] = now;
+                nameIds[slot] = nameId;
+                oldStatuses[slot] = (byte) oldStatus.ordinal();
+                newStatuses[slot] = (byte) newStatus.ordinal();
+                previousOfName[slot] = lastOfName[nameId];
+                lastOfName[nameId] = sequence;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private List<StatusTransition<S>> getTransitions(String name, Instant from, Instant to) {
+            lock.lock();
+            try {
+                expire(clock.millis());
+
+                long fromMillis = from.toEpochMilli();
+                long toMillis = to.toEpochMilli();
+                List<StatusTransition<S>> transitions = new ArrayList<>();
+
+                for (long sequence = lastSequenceOf(name); sequence != NONE; sequence = previousOf(sequence)) {
+                    int slot = slotOf(sequence);
+                    if (timestamps[slot] < fromMillis) {
+                        break;
+                    }
+                    if (timestamps[slot] < toMillis) {
+                        transitions.add(new StatusTransition<>(name, Instant.ofEpochMilli(timestamps[slot]),
+                                statuses[oldStatuses[slot]], statuses[newStatuses[slot]]));
+                    }
+                }
+
+                Collections.reverse(transitions);
+                return transitions;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Duration getTimeInStatus(String name, S status, S currentStatus, Instant from, Instant to) {
+            lock.lock();
+            try {
+                long now = Math.max(clock.millis(), lastTimestamp);
+                expire(now);
+
+                long start = Math.max(from.toEpochMilli(), coveredSince);
+                long end = Math.min(to.toEpochMilli(), now);
+                if (start >= end) {
+                    return Duration.ZERO;
+                }
+
+                // Walks back from now; statusAfter is the status held between the record and segmentEnd
+                long total = 0;
+                long segmentEnd = end;
+                S statusAfter = currentStatus;
+
+                for (long sequence = lastSequenceOf(name); sequence != NONE; sequence = previousOf(sequence)) {
+                    int slot = slotOf(sequence);
+                    long timestamp = timestamps[slot];
+                    if (timestamp < start) {
+                        break;
+                    }
+                    if (timestamp < end) {
+                        if (statusAfter == status) {
+                            total += segmentEnd - timestamp;
+                        }
+                        segmentEnd = timestamp;
+                    }
+                    statusAfter = statuses[oldStatuses[slot]];
+                }
+
+                if (statusAfter == status) {
+                    total += segmentEnd - start;
+                }
+                return Duration.ofMillis(total);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int size() {
+            lock.lock();
+            try {
+                return (int) (nextSequence - oldestSequence);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private int capacity() {
+            return timestamps.length;
+        }
+
+        private int nameCount() {
+            lock.lock();
+            try {
+                return names.size();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private long getCoveredSince() {
+            lock.lock();
+            try {
+                return coveredSince;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void expire(long now) {
+            long cutoff = now - retentionMillis;
+            while (oldestSequence < nextSequence && timestamps[slotOf(oldestSequence)] < cutoff) {
+                evictOldest();
+            }
+            coveredSince = Math.max(coveredSince, cutoff);
+        }
+
+        private void evictOldest() {
+            int slot = slotOf(oldestSequence);
+            coveredSince = Math.max(coveredSince, timestamps[slot]);
+            if (lastOfName[nameIds[slot]] == oldestSequence) {
+                lastOfName[nameIds[slot]] = NONE;
+                liveNames--;
+            }
+            oldestSequence++;
+        }
+
+        private int internName(String name) {
+            int nameId = names.idOf(name);
+            if (nameId == NO_ID) {
+                nameId = names.add(name);
+                if (nameId == lastOfName.length) {
+                    lastOfName = Arrays.copyOf(lastOfName, nameId * 2);
+                }
+                lastOfName[nameId] = NONE;
+            }
+
+            if (lastOfName[nameId] == NONE) {
+                liveNames++;
+            }
+            return nameId;
+        }
+
+        // Re-interns only the names that still have records, so the index never outgrows the retained records by
+        // more than a constant factor; amortised over the evictions that made the dropped names dead
+        private void compactNames() {
+            NameIndex compacted = new NameIndex(liveNames);
+            long[] compactedLast = new long[Math.max(16, liveNames * 2)];
+            int[] remap = new int[names.size()];
+            Arrays.fill(remap, NO_ID);
+
+            for (long sequence = oldestSequence; sequence < nextSequence; sequence++) {
+                int slot = slotOf(sequence);
+                int nameId = nameIds[slot];
+                if (remap[nameId] == NO_ID) {
+                    remap[nameId] = compacted.add(names.nameOf(nameId));
+                    compactedLast[remap[nameId]] = lastOfName[nameId];
+                }
+                nameIds[slot] = remap[nameId];
+            }
+
+            names = compacted;
+            lastOfName = compactedLast;
+        }
+
+        private long lastSequenceOf(String name) {
+            int nameId = names.idOf(name);
+            return nameId == NO_ID || lastOfName[nameId] < oldestSequence ? NONE : lastOfName[nameId];
+        }
+
+        // Links to evicted records end the chain
+        private long previousOf(long sequence) {
+            long previous = previousOfName[slotOf(sequence)];
+            return previous >= oldestSequence ? previous : NONE;
+        }
+
+        private int slotOf(long sequence) {
+            return (int) (sequence % timestamps.length);
+        }
+    }
+}
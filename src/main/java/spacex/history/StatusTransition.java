@@ -0,0 +1,6 @@
+package spacex.history;
+
+import java.time.Instant;
+
+public record StatusTransition<S extends Enum<S>>(String name, Instant timestamp, S oldStatus, S newStatus) {
+}
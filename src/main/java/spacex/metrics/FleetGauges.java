@@ -0,0 +1,14 @@
+package spacex.metrics;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+
+import java.util.Map;
+
+// Current size of the fleet by status, read on demand
+public interface FleetGauges {
+
+    Map<RocketStatus, Integer> countRocketsByStatus();
+
+    Map<MissionStatus, Integer> countMissionsByStatus();
+}
@@ -0,0 +1,23 @@
+package spacex.metrics;
+
+import spacex.domain.OperationResult;
+
+// Sink for per-operation measurements. The service only reads the clock when isEnabled() is true,
+// so NOOP costs one interface call per operation.
+public interface FleetMetrics {
+
+    FleetMetrics NOOP = new FleetMetrics() {
+        @Override
+        public boolean isEnabled() {
+            return false;
+        }
+
+        @Override
+        public void recordOperation(FleetOperation operation, OperationResult result, long latencyNanos) {
+        }
+    };
+
+    boolean isEnabled();
+
+    void recordOperation(FleetOperation operation, OperationResult result, long latencyNanos);
+}
@@ -0,0 +1,77 @@
+package spacex.metrics;
+
+import spacex.domain.OperationResult;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+public class FleetMetricsJmx implements FleetMetricsMXBean {
+
+    private static final double[] PERCENTILES = {50, 90, 99, 99.9};
+    private static final String[] PERCENTILE_NAMES = {"p50", "p90", "p99", "p999"};
+
+    private final InMemoryFleetMetrics metrics;
+    private final FleetGauges gauges;
+
+    public FleetMetricsJmx(InMemoryFleetMetrics metrics, FleetGauges gauges) {
+        this.metrics = metrics;
+        this.gauges = gauges;
+    }
+
+    // Registers with the platform MBean server as spacex:type=FleetMetrics,name=<name>
+    public static ObjectName register(String name, InMemoryFleetMetrics metrics, FleetGauges gauges) throws JMException {
+        ObjectName objectName = new ObjectName("spacex:type=FleetMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(new FleetMetricsJmx(metrics, gauges), objectName);
+        return objectName;
+    }
+
+    @Override
+    public Map<String, Long> getCallCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FleetOperation operation : FleetOperation.values()) {
+            counts.put(operation.name(), metrics.getCallCount(operation));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getRejectionCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (FleetOperation operation : FleetOperation.values()) {
+            for (Map.Entry<OperationResult, Long> entry : metrics.getRejectionCounts(operation).entrySet()) {
+                counts.put(operation.name() + "." + entry.getKey().name(), entry.getValue());
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<String, Long> getLatencyPercentilesNanos() {
+        Map<String, Long> percentiles = new LinkedHashMap<>();
+        for (FleetOperation operation : FleetOperation.values()) {
+            LatencyHistogram histogram = metrics.getLatencyHistogram(operation);
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                percentiles.put(operation.name() + "." + PERCENTILE_NAMES[i], histogram.getValueAtPercentile(PERCENTILES[i]));
+            }
+            percentiles.put(operation.name() + ".max", histogram.getMax());
+        }
+        return percentiles;
+    }
+
+    @Override
+    public Map<String, Integer> getRocketsByStatus() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        gauges.countRocketsByStatus().forEach((status, count) -> counts.put(status.name(), count));
+        return counts;
+    }
+
+    @Override
+    public Map<String, Integer> getMissionsByStatus() {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        gauges.countMissionsByStatus().forEach((status, count) -> counts.put(status.name(), count));
+        return counts;
+    }
+}
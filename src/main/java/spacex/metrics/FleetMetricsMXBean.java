@@ -0,0 +1,19 @@
+package spacex.metrics;
+
+import java.util.Map;
+
+// JMX view of InMemoryFleetMetrics and FleetGauges; keys are enum names, latencies are in nanoseconds
+public interface FleetMetricsMXBean {
+
+    Map<String, Long> getCallCounts();
+
+    // Keyed by operation and reason, e.g. ASSIGN_ROCKET.MISSION_NOT_AVAILABLE
+    Map<String, Long> getRejectionCounts();
+
+    // Keyed by operation and percentile, e.g. ASSIGN_ROCKET.p99
+    Map<String, Long> getLatencyPercentilesNanos();
+
+    Map<String, Integer> getRocketsByStatus();
+
+    Map<String, Integer> getMissionsByStatus();
+}
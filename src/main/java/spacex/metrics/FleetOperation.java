@@ -0,0 +1,11 @@
+package spacex.metrics;
+
+// Operations measured by FleetMetrics; the try* and throwing variants of a mutation count as the same operation
+public enum FleetOperation {
+    ADD_ROCKET,
+    ADD_MISSION,
+    ASSIGN_ROCKET,
+    ASSIGN_ROCKETS,
+    CHANGE_ROCKET_STATUS,
+    GET_MISSION_SUMMARY
+}
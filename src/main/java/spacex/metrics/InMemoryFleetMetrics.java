@@ -0,0 +1,72 @@
+package spacex.metrics;
+
+import spacex.domain.OperationResult;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+// Keeps call counts, rejection counts per reason and a latency histogram for every operation.
+// Counters are LongAdders, so concurrent callers do not contend on a single cache line.
+public class InMemoryFleetMetrics implements FleetMetrics {
+
+    private static final OperationResult[] RESULTS = OperationResult.values();
+
+    private final Map<FleetOperation, OperationMetrics> operations = new EnumMap<>(FleetOperation.class);
+
+    public InMemoryFleetMetrics() {
+        for (FleetOperation operation : FleetOperation.values()) {
+            operations.put(operation, new OperationMetrics());
+        }
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return true;
+    }
+
+    @Override
+    public void recordOperation(FleetOperation operation, OperationResult result, long latencyNanos) {
+        OperationMetrics metrics = operations.get(operation);
+        metrics.calls.increment();
+        metrics.results[result.ordinal()].increment();
+        metrics.latency.record(latencyNanos);
+    }
+
+    public long getCallCount(FleetOperation operation) {
+        return operations.get(operation).calls.sum();
+    }
+
+    public long getRejectionCount(FleetOperation operation, OperationResult reason) {
+        return reason.isSuccess() ? 0 : operations.get(operation).results[reason.ordinal()].sum();
+    }
+
+    // Rejections of the operation by reason, leaving out reasons that never occurred
+    public Map<OperationResult, Long> getRejectionCounts(FleetOperation operation) {
+        Map<OperationResult, Long> counts = new EnumMap<>(OperationResult.class);
+        for (OperationResult result : RESULTS) {
+            long count = getRejectionCount(operation, result);
+            if (count > 0) {
+                counts.put(result, count);
+            }
+        }
+        return counts;
+    }
+
+    public LatencyHistogram getLatencyHistogram(FleetOperation operation) {
+        return operations.get(operation).latency;
+    }
+
+    private static final class OperationMetrics {
+
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder[] results = new LongAdder[RESULTS.length];
+        private final LatencyHistogram latency = new LatencyHistogram();
+
+        private OperationMetrics() {
+            for (int i = 0; i < results.length; i++) {
+                results[i] = new LongAdder();
+            }
+        }
+    }
+}
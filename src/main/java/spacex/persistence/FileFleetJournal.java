@@ -0,0 +1,469 @@
+package spacex.persistence;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.CRC32;
+
+// Append-only journal file: [magic, version] followed by records of [body length, CRC32 of body][type, fields].
+// Strings are a varint byte length plus UTF-8, statuses a single ordinal byte.
+//
+// Records are buffered in memory by the log methods. The first thread to call sync becomes the leader and writes and
+// forces every buffered record in one batch; threads that logged meanwhile find their record already durable
+// or are picked up by the next leader (group commit).
+public class FileFleetJournal implements FleetJournal, Closeable {
+
+    private static final int MAGIC = 0x464A4E4C;
+    private static final int VERSION = 1;
+    private static final int FILE_HEADER_BYTES = 8;
+    private static final int RECORD_HEADER_BYTES = 8;
+    private static final int MAX_RECORD_BYTES = 16 << 20;
+    private static final int BUFFER_BYTES = 64 << 10;
+
+    private static final byte ADD_ROCKET = 1;
+    private static final byte ADD_MISSION = 2;
+    private static final byte ASSIGN_ROCKET = 3;
+    private static final byte ASSIGN_ROCKETS = 4;
+    private static final byte CHANGE_ROCKET_STATUS = 5;
+    private static final byte REMOVE_ROCKET = 6;
+    private static final byte ADD_ROCKET_TO_MISSION = 7;
+
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+
+    // Applies replayed records, typically by calling the service again
+    public interface Handler {
+        void addRocket(String rocketName, RocketStatus status) throws SpaceXException;
+
+        void addMission(String missionName, MissionStatus status) throws SpaceXException;
+
+        void assignRocket(String rocketName, String missionName) throws SpaceXException;
+
+        void assignRockets(List<String> rocketNames, String missionName) throws SpaceXException;
+
+        void changeRocketStatus(String rocketName, RocketStatus status) throws SpaceXException;
+
+        void removeRocket(String rocketName) throws SpaceXException;
+
+        void addRocketToMission(String rocketName, RocketStatus status, String missionName) throws SpaceXException;
+    }
+
+    // Guarded by appendLock, a ReentrantLock rather than a monitor so virtual threads logging a record do not pin
+    // their carrier while they wait
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private ByteBuffer pending = ByteBuffer.allocate(BUFFER_BYTES);
+    private final CRC32 crc = new CRC32();
+    private long appendedSequence;
+    private long sequenceAtRoll;
+
+    // Guarded by syncLock
+    private final ReentrantLock syncLock = new ReentrantLock();
+    private ByteBuffer spare = ByteBuffer.allocate(BUFFER_BYTES);
+    private FileChannel channel;
+    private IOException failure;
+
+    private volatile long durableSequence;
+
+    private FileFleetJournal(FileChannel channel) {
+        this.channel = channel;
+    }
+
+    // Replays the existing records of the file, cuts off a truncated or torn tail and opens it for appending
+    public static FileFleetJournal open(Path file, Handler handler) throws IOException {
+        if (!Files.exists(file)) {
+            return new FileFleetJournal(createFile(file));
+        }
+
+        long validLength = replay(file, handler);
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE);
+        try {
+            if (validLength < FILE_HEADER_BYTES) {
+                channel.truncate(0);
+                writeFileHeader(channel);
+            } else {
+                channel.truncate(validLength);
+                channel.position(validLength);
+            }
+            channel.force(true);
+            return new FileFleetJournal(channel);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Applies every intact record in order and returns the length of the intact part of the file
+    public static long replay(Path file, Handler handler) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            RecordReader reader = new RecordReader(channel);
+            if (!reader.ensure(FILE_HEADER_BYTES)) {
+                return 0;
+            }
+            if (reader.buffer.getInt() != MAGIC || reader.buffer.getInt() != VERSION) {
+                throw new IOException("Not a fleet journal: " + file);
+            }
+
+            CRC32 checksum = new CRC32();
+            long position = FILE_HEADER_BYTES;
+            while (reader.ensure(RECORD_HEADER_BYTES)) {
+                int length = reader.buffer.getInt(reader.buffer.position());
+                int expectedChecksum = reader.buffer.getInt(reader.buffer.position() + 4);
+                if (length <= 0 || length > MAX_RECORD_BYTES || !reader.ensure(RECORD_HEADER_BYTES + length)) {
+                    break;
+                }
+
+                ByteBuffer buffer = reader.buffer;
+                int bodyStart = buffer.position() + RECORD_HEADER_BYTES;
+                checksum.reset();
+                checksum.update(buffer.array(), buffer.arrayOffset() + bodyStart, length);
+                if ((int) checksum.getValue() != expectedChecksum) {
+                    break;
+                }
+
+                apply(buffer.slice(bodyStart, length), handler, position);
+                buffer.position(bodyStart + length);
+                position += RECORD_HEADER_BYTES + length;
+            }
+            return position;
+        }
+    }
+
+    @Override
+    public long logAddRocket(String rocketName, RocketStatus status) {
+        appendLock.lock();
+        try {
+            int start = beginRecord(ADD_ROCKET);
+            putString(rocketName);
+            putByte(status.ordinal());
+            return endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logAddMission(String missionName, MissionStatus status) {
+        appendLock.lock();
+        try {
+            int start = beginRecord(ADD_MISSION);
+            putString(missionName);
+            putByte(status.ordinal());
+            return endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logAssignRocket(String rocketName, String missionName) {
+        appendLock.lock();
+        try {
+            int start = beginRecord(ASSIGN_ROCKET);
+            putString(rocketName);
+            putString(missionName);
+            return endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logAssignRockets(Collection<String> rocketNames, String missionName) {
+        appendLock.lock();
+        try {
+            int start = beginRecord(ASSIGN_ROCKETS);
+            putString(missionName);
+            putVarInt(rocketNames.size());
+            rocketNames.forEach(this::putString);
+            return endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logChangeRocketStatus(String rocketName, RocketStatus status) {
+        appendLock.lock();
+        try {
+            int start = beginRecord(CHANGE_ROCKET_STATUS);
+            putString(rocketName);
+            putByte(status.ordinal());
+            return endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logRemoveRocket(String rocketName) {
+        appendLock.lock();
+        try {
+            int start = beginRecord(REMOVE_ROCKET);
+            putString(rocketName);
+            return endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public long logAddRocketToMission(String rocketName, RocketStatus status, String missionName) {
+        appendLock.lock();
+        try {
+            int start = beginRecord(ADD_ROCKET_TO_MISSION);
+            putString(rocketName);
+            putByte(status.ordinal());
+            putString(missionName);
+            return endRecord(start);
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    @Override
+    public void sync(long sequence) throws IOException {
+        if (durableSequence >= sequence) {
+            return;
+        }
+
+        syncLock.lock();
+        try {
+            // The previous leader may have written this record while we waited
+            if (durableSequence < sequence) {
+                flush();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    public long getRecordsSinceRoll() {
+        appendLock.lock();
+        try {
+            return appendedSequence - sequenceAtRoll;
+        } finally {
+            appendLock.unlock();
+        }
+    }
+
+    // Flushes the current file and continues in a new one, e.g. after a snapshot has made the current file redundant
+    public void roll(Path nextFile) throws IOException {
+        syncLock.lock();
+        try {
+            flush();
+            FileChannel next = createFile(nextFile);
+            channel.close();
+            channel = next;
+
+            appendLock.lock();
+            try {
+                sequenceAtRoll = appendedSequence;
+            } finally {
+                appendLock.unlock();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        syncLock.lock();
+        try {
+            try {
+                flush();
+            } finally {
+                channel.close();
+            }
+        } finally {
+            syncLock.unlock();
+        }
+    }
+
+    // Writes and forces everything logged so far as one batch
+    private void flush() throws IOException {
+        if (failure != null) {
+            throw new IOException("Journal is no longer writable", failure);
+        }
+
+        ByteBuffer batch;
+        long lastSequence;
+        appendLock.lock();
+        try {
+            batch = pending;
+            lastSequence = appendedSequence;
+            pending = spare;
+        } finally {
+            appendLock.unlock();
+        }
+
+        try {
+            batch.flip();
+            while (batch.hasRemaining()) {
+                channel.write(batch);
+            }
+            channel.force(false);
+        } catch (IOException e) {
+            failure = e;
+            throw e;
+        }
+
+        spare = batch.clear();
+        durableSequence = lastSequence;
+    }
+
+    private int beginRecord(byte type) {
+        ensureCapacity(RECORD_HEADER_BYTES + 1);
+        int start = pending.position();
+        pending.position(start + RECORD_HEADER_BYTES);
+        pending.put(type);
+        return start;
+    }
+
+    private long endRecord(int start) {
+        int bodyStart = start + RECORD_HEADER_BYTES;
+        int length = pending.position() - bodyStart;
+        crc.reset();
+        crc.update(pending.array(), bodyStart, length);
+        pending.putInt(start, length);
+        pending.putInt(start + 4, (int) crc.getValue());
+        return ++appendedSequence;
+    }
+
+    private void putString(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putVarInt(bytes.length);
+        ensureCapacity(bytes.length);
+        pending.put(bytes);
+    }
+
+    private void putByte(int value) {
+        ensureCapacity(1);
+        pending.put((byte) value);
+    }
+
+    private void putVarInt(int value) {
+        ensureCapacity(5);
+        while ((value & ~0x7F) != 0) {
+            pending.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        pending.put((byte) value);
+    }
+
+    private void ensureCapacity(int bytes) {
+        if (pending.remaining() < bytes) {
+            ByteBuffer bigger = ByteBuffer.allocate(Math.max(pending.capacity() * 2, pending.position() + bytes));
+            pending.flip();
+            pending = bigger.put(pending);
+        }
+    }
+
+    private static void apply(ByteBuffer body, Handler handler, long position) throws IOException {
+        try {
+            byte type = body.get();
+            switch (type) {
+                case ADD_ROCKET -> handler.addRocket(getString(body), ROCKET_STATUSES[body.get()]);
+                case ADD_MISSION -> handler.addMission(getString(body), MISSION_STATUSES[body.get()]);
+                case ASSIGN_ROCKET -> handler.assignRocket(getString(body), getString(body));
+                case ASSIGN_ROCKETS -> {
+                    String missionName = getString(body);
+                    int count = getVarInt(body);
+                    List<String> rocketNames = new ArrayList<>(count);
+                    for (int i = 0; i < count; i++) {
+                        rocketNames.add(getString(body));
+                    }
+                    handler.assignRockets(rocketNames, missionName);
+                }
+                case CHANGE_ROCKET_STATUS -> handler.changeRocketStatus(getString(body), ROCKET_STATUSES[body.get()]);
+                case REMOVE_ROCKET -> handler.removeRocket(getString(body));
+                case ADD_ROCKET_TO_MISSION -> handler.addRocketToMission(getString(body), ROCKET_STATUSES[body.get()], getString(body));
+                default -> throw new IOException("Unknown journal record type " + type + " at offset " + position);
+            }
+        } catch (SpaceXException | RuntimeException e) {
+            throw new IOException("Journal record at offset " + position + " cannot be replayed", e);
+        }
+    }
+
+    private static String getString(ByteBuffer body) {
+        int length = getVarInt(body);
+        String value = new String(body.array(), body.arrayOffset() + body.position(), length, StandardCharsets.UTF_8);
+        body.position(body.position() + length);
+        return value;
+    }
+
+    private static int getVarInt(ByteBuffer body) {
+        int value = 0;
+        for (int shift = 0; ; shift += 7) {
+            byte next = body.get();
+            value |= (next & 0x7F) << shift;
+            if (next >= 0) {
+                return value;
+            }
+        }
+    }
+
+    private static FileChannel createFile(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE);
+        try {
+            writeFileHeader(channel);
+            channel.force(true);
+            return channel;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    private static void writeFileHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_BYTES).putInt(MAGIC).putInt(VERSION).flip();
+        while (header.hasRemaining()) {
+            channel.write(header);
+        }
+    }
+
+    // Keeps a read-mode buffer over the file that holds at least the requested number of bytes
+    private static final class RecordReader {
+
+        private final FileChannel channel;
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).flip();
+
+        private RecordReader(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        private boolean ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return true;
+            }
+
+            if (buffer.capacity() < bytes) {
+                buffer = ByteBuffer.allocate(bytes).put(buffer);
+            } else {
+                buffer.compact();
+            }
+
+            while (buffer.position() < bytes) {
+                if (channel.read(buffer) < 0) {
+                    buffer.flip();
+                    return false;
+                }
+            }
+            buffer.flip();
+            return true;
+        }
+    }
+}
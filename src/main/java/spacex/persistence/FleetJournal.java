@@ -0,0 +1,71 @@
+package spacex.persistence;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+
+import java.io.IOException;
+import java.util.Collection;
+
+// Records every successful mutation of MissionRocketAssignmentService.
+// The log methods are called under the service locks and only buffer the record; sync waits until it is durable.
+public interface FleetJournal {
+
+    FleetJournal NONE = new FleetJournal() {
+        @Override
+        public long logAddRocket(String rocketName, RocketStatus status) {
+            return 0;
+        }
+
+        @Override
+        public long logAddMission(String missionName, MissionStatus status) {
+            return 0;
+        }
+
+        @Override
+        public long logAssignRocket(String rocketName, String missionName) {
+            return 0;
+        }
+
+        @Override
+        public long logAssignRockets(Collection<String> rocketNames, String missionName) {
+            return 0;
+        }
+
+        @Override
+        public long logChangeRocketStatus(String rocketName, RocketStatus status) {
+            return 0;
+        }
+
+        @Override
+        public long logRemoveRocket(String rocketName) {
+            return 0;
+        }
+
+        @Override
+        public long logAddRocketToMission(String rocketName, RocketStatus status, String missionName) {
+            return 0;
+        }
+
+        @Override
+        public void sync(long sequence) {
+        }
+    };
+
+    // Each log method returns the sequence number of the record
+    long logAddRocket(String rocketName, RocketStatus status);
+
+    long logAddMission(String missionName, MissionStatus status);
+
+    long logAssignRocket(String rocketName, String missionName);
+
+    long logAssignRockets(Collection<String> rocketNames, String missionName);
+
+    long logChangeRocketStatus(String rocketName, RocketStatus status);
+
+    long logRemoveRocket(String rocketName);
+
+    long logAddRocketToMission(String rocketName, RocketStatus status, String missionName);
+
+    // Returns once every record up to the sequence number is on disk
+    void sync(long sequence) throws IOException;
+}
@@ -0,0 +1,354 @@
+package spacex.persistence;
+
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.repository.MissionRepository;
+import spacex.repository.RocketRepository;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.zip.CRC32;
+
+// Binary snapshot of the whole fleet, streamed through a fixed-size ByteBuffer in both directions.
+//
+// Layout (version 2), integers are unsigned varints unless noted:
+//   magic (int), version (byte), generation, mission count, rocket count
+//   per mission: name, status, rocket count, then name and status of each of its rockets in mission order
+//   unassigned rocket count, then name and status of each unassigned rocket
+//   CRC32 of everything before it (int)
+// Names are a varint byte length plus UTF-8, statuses their ordinal.
+//
+// Every rocket is written right after its mission, so membership costs one count per mission and both directions
+// need a single pass over the fleet.
+public class FleetSnapshotCodec {
+
+    public static final int VERSION = 2;
+
+    private static final int MAGIC = 0x46534E50;
+    private static final int BUFFER_BYTES = 64 << 10;
+
+    // Smallest encodings: a mission is an empty name, its status and a zero rocket count, a rocket a name and status
+    private static final int MIN_MISSION_BYTES = 3;
+    private static final int MIN_ROCKET_BYTES = 2;
+    // Repositories are presized at most this much from counts that cannot be checked against the source size
+    private static final int UNSIZED_PRESIZE_LIMIT = 1 << 16;
+
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+
+    public record DecodedFleet(long generation, RocketRepository rocketRepository, MissionRepository missionRepository) {
+    }
+
+    // The repositories must not change while they are encoded
+    public static void encode(long generation, RocketRepository rocketRepository, MissionRepository missionRepository,
+                              WritableByteChannel target) throws IOException {
+        Collection<Mission> missions = missionRepository.getAllMissions().values();
+        Collection<Rocket> rockets = rocketRepository.getAllRockets().values();
+        Encoder encoder = new Encoder(target);
+
+        encoder.putInt(MAGIC);
+        encoder.putByte(VERSION);
+        encoder.putVarLong(generation);
+        encoder.putVarInt(missions.size());
+        encoder.putVarInt(rockets.size());
+
+        int assignedRockets = 0;
+        for (Mission mission : missions) {
+            encoder.putString(mission.getName());
+            encoder.putVarInt(mission.getStatus().ordinal());
+            encoder.putVarInt(mission.getRockets().size());
+            for (Rocket rocket : mission.getRockets()) {
+                encoder.putString(rocket.getName());
+                encoder.putVarInt(rocket.getStatus().ordinal());
+            }
+            assignedRockets += mission.getRockets().size();
+        }
+
+        int unassignedRockets = rockets.size() - assignedRockets;
+        encoder.putVarInt(unassignedRockets);
+        if (unassignedRockets > 0) {
+            for (Rocket rocket : rockets) {
+                if (missionRepository.getMissionForRocket(rocket.getName()) == null) {
+                    encoder.putString(rocket.getName());
+                    encoder.putVarInt(rocket.getStatus().ordinal());
+                }
+            }
+        }
+
+        encoder.finish();
+    }
+
+    // Builds repositories sized for the snapshot, so restoring a large fleet never rehashes. Counts and name lengths are
+    // checked against the bytes left in a sized source, e.g. a file, before anything is allocated for them, so a
+    // corrupt or truncated snapshot fails with an IOException rather than running out of memory
+    public static DecodedFleet decode(ReadableByteChannel source) throws IOException {
+        Decoder decoder = new Decoder(source);
+
+        if (decoder.getInt() != MAGIC) {
+            throw new IOException("Not a fleet snapshot");
+        }
+        int version = decoder.getByte();
+        if (version != VERSION) {
+            throw new IOException("Unsupported fleet snapshot version " + version);
+        }
+
+        long generation = decoder.getVarLong();
+        int missionCount = decoder.getCount(MIN_MISSION_BYTES);
+        int rocketCount = decoder.getCount(MIN_ROCKET_BYTES);
+        if ((long) missionCount * MIN_MISSION_BYTES + (long) rocketCount * MIN_ROCKET_BYTES > decoder.remaining()) {
+            throw new IOException("Fleet snapshot is corrupted");
+        }
+        RocketRepository rocketRepository = new RocketRepository(decoder.presize(rocketCount));
+        MissionRepository missionRepository = new MissionRepository(decoder.presize(missionCount), decoder.presize(rocketCount));
+
+        for (int i = 0; i < missionCount; i++) {
+            Mission mission = new Mission(decoder.getString());
+            if (missionRepository.getMission(mission.getName()) != null) {
+                throw new IOException("Fleet snapshot has duplicate mission " + mission.getName());
+            }
+            mission.setStatus(decoder.getStatus(MISSION_STATUSES));
+            missionRepository.addMission(mission);
+
+            int missionRocketCount = decoder.getCount(MIN_ROCKET_BYTES);
+            for (int j = 0; j < missionRocketCount; j++) {
+                Rocket rocket = decodeRocket(decoder, rocketRepository);
+                missionRepository.addRocketToMission(rocket, mission);
+            }
+        }
+
+        int unassignedRockets = decoder.getCount(MIN_ROCKET_BYTES);
+        for (int i = 0; i < unassignedRockets; i++) {
+            decodeRocket(decoder, rocketRepository);
+        }
+
+        decoder.finish();
+        if (rocketRepository.getAllRockets().size() != rocketCount || missionRepository.getAllMissions().size() != missionCount) {
+            throw new IOException("Fleet snapshot is corrupted");
+        }
+        return new DecodedFleet(generation, rocketRepository, missionRepository);
+    }
+
+    private static Rocket decodeRocket(Decoder decoder, RocketRepository rocketRepository) throws IOException {
+        Rocket rocket = new Rocket(decoder.getString());
+        if (rocketRepository.getRocket(rocket.getName()) != null) {
+            throw new IOException("Fleet snapshot has duplicate rocket " + rocket.getName());
+        }
+        rocket.setStatus(decoder.getStatus(ROCKET_STATUSES));
+        rocketRepository.addRocket(rocket);
+        return rocket;
+    }
+
+    private static final class Encoder {
+
+        private final WritableByteChannel target;
+        private final CRC32 crc = new CRC32();
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES);
+
+        private Encoder(WritableByteChannel target) {
+            this.target = target;
+        }
+
+        private void putInt(int value) throws IOException {
+            ensure(4);
+            buffer.putInt(value);
+        }
+
+        private void putByte(int value) throws IOException {
+            ensure(1);
+            buffer.put((byte) value);
+        }
+
+        private void putVarInt(int value) throws IOException {
+            putVarLong(value & 0xFFFFFFFFL);
+        }
+
+        private void putVarLong(long value) throws IOException {
+            ensure(10);
+            while ((value & ~0x7FL) != 0) {
+                buffer.put((byte) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            buffer.put((byte) value);
+        }
+
+        // ASCII names, the common case, are copied without an intermediate byte array
+        private void putString(String value) throws IOException {
+            int length = value.length();
+            if (length <= BUFFER_BYTES && isAscii(value)) {
+                putVarInt(length);
+                ensure(length);
+                for (int i = 0; i < length; i++) {
+                    buffer.put((byte) value.charAt(i));
+                }
+                return;
+            }
+
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            putVarInt(bytes.length);
+            ensure(bytes.length);
+            buffer.put(bytes);
+        }
+
+        private static boolean isAscii(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                if (value.charAt(i) >= 0x80) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private void finish() throws IOException {
+            ensure(4);
+            crc.update(buffer.array(), 0, buffer.position());
+            buffer.putInt((int) crc.getValue());
+            write();
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+
+            crc.update(buffer.array(), 0, buffer.position());
+            write();
+            if (buffer.capacity() < bytes) {
+                buffer = ByteBuffer.allocate(bytes);
+            }
+        }
+
+        private void write() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                target.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+
+    // May read ahead, so the channel should hold nothing after the snapshot
+    private static final class Decoder {
+
+        private final ReadableByteChannel source;
+        private final CRC32 crc = new CRC32();
+        private ByteBuffer buffer = ByteBuffer.allocate(BUFFER_BYTES).flip();
+        private int checksumStart;
+        // Bytes the source holds past what was read into the buffer, or -1 when it cannot tell
+        private long unreadBytes;
+
+        private Decoder(ReadableByteChannel source) throws IOException {
+            this.source = source;
+            this.unreadBytes = source instanceof SeekableByteChannel seekable ? seekable.size() - seekable.position() : -1;
+        }
+
+        // Bytes left to decode, or Long.MAX_VALUE for a source of unknown size
+        private long remaining() {
+            return unreadBytes < 0 ? Long.MAX_VALUE : unreadBytes + buffer.remaining();
+        }
+
+        private int presize(int count) {
+            return unreadBytes < 0 ? Math.min(count, UNSIZED_PRESIZE_LIMIT) : count;
+        }
+
+        // A count of entries that take at least minBytesEach bytes each
+        private int getCount(int minBytesEach) throws IOException {
+            int count = getVarInt();
+            if (count > remaining() / minBytesEach) {
+                throw new IOException("Fleet snapshot is corrupted");
+            }
+            return count;
+        }
+
+        private int getInt() throws IOException {
+            ensure(4);
+            return buffer.getInt();
+        }
+
+        private int getByte() throws IOException {
+            ensure(1);
+            return buffer.get() & 0xFF;
+        }
+
+        private int getVarInt() throws IOException {
+            long value = getVarLong();
+            if (value > Integer.MAX_VALUE) {
+                throw new IOException("Fleet snapshot is corrupted");
+            }
+            return (int) value;
+        }
+
+        private long getVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte next = (byte) getByte();
+                value |= (long) (next & 0x7F) << shift;
+                if (next >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("Fleet snapshot is corrupted");
+        }
+
+        private <E> E getStatus(E[] statuses) throws IOException {
+            int ordinal = getVarInt();
+            if (ordinal >= statuses.length) {
+                throw new IOException("Fleet snapshot is corrupted");
+            }
+            return statuses[ordinal];
+        }
+
+        private String getString() throws IOException {
+            int length = getVarInt();
+            if (length > remaining()) {
+                throw new IOException("Fleet snapshot is corrupted");
+            }
+            ensure(length);
+            String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+            buffer.position(buffer.position() + length);
+            return value;
+        }
+
+        private void finish() throws IOException {
+            ensure(4);
+            crc.update(buffer.array(), checksumStart, buffer.position() - checksumStart);
+            if (buffer.getInt() != (int) crc.getValue()) {
+                throw new IOException("Fleet snapshot is corrupted");
+            }
+        }
+
+        private void ensure(int bytes) throws IOException {
+            if (buffer.remaining() >= bytes) {
+                return;
+            }
+
+            crc.update(buffer.array(), checksumStart, buffer.position() - checksumStart);
+            buffer.compact();
+
+            // Grown by doubling as bytes arrive, so a bogus length from an unsized source fails at the end of the
+            // data instead of allocating the whole length up front
+            while (buffer.position() < bytes) {
+                if (!buffer.hasRemaining()) {
+                    ByteBuffer grown = ByteBuffer.allocate((int) Math.min(bytes, 2L * buffer.capacity()));
+                    buffer = grown.put(buffer.flip());
+                }
+                int read = source.read(buffer);
+                if (read < 0) {
+                    throw new EOFException("Fleet snapshot is truncated");
+                }
+                if (unreadBytes > 0) {
+                    unreadBytes = Math.max(0, unreadBytes - read);
+                }
+            }
+            buffer.flip();
+            checksumStart = 0;
+        }
+    }
+}
@@ -0,0 +1,238 @@
+package spacex.persistence;
+
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.repository.MissionRepository;
+import spacex.repository.RocketRepository;
+import spacex.service.MissionRocketAssignmentService;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// Keeps a MissionRocketAssignmentService durable in a directory holding one snapshot and the journal files after it.
+// Opening loads the snapshot and replays the journals; snapshot() rolls the journal, so only the newest one is replayed.
+//
+// Files: fleet.snapshot (generation N) and fleet-N.journal, fleet-N+1.journal, ... Older journals are deleted.
+public class FleetStore implements Closeable {
+
+    private static final String SNAPSHOT_FILE = "fleet.snapshot";
+    private static final String JOURNAL_PREFIX = "fleet-";
+    private static final String JOURNAL_SUFFIX = ".journal";
+
+    private final Path directory;
+    private final RocketRepository rocketRepository;
+    private final MissionRepository missionRepository;
+    private final MissionRocketAssignmentService missionRocketAssignmentService;
+    private final FileFleetJournal journal;
+    private final ScheduledExecutorService snapshotScheduler;
+
+    // Generation of the journal file being appended to; guarded by this
+    private long generation;
+
+    private FleetStore(Path directory, int lockStripes, Duration snapshotInterval) throws IOException {
+        this.directory = directory;
+
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        if (Files.exists(snapshotFile)) {
+            FleetSnapshotCodec.DecodedFleet fleet;
+            try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+                fleet = FleetSnapshotCodec.decode(channel);
+            }
+            this.rocketRepository = fleet.rocketRepository();
+            this.missionRepository = fleet.missionRepository();
+            generation = fleet.generation();
+        } else {
+            this.rocketRepository = new RocketRepository();
+            this.missionRepository = new MissionRepository();
+        }
+        deleteJournalsBefore(generation);
+
+        MissionRocketAssignmentService replayService = new MissionRocketAssignmentService(rocketRepository, missionRepository, lockStripes);
+        FileFleetJournal.Handler handler = replayHandler(replayService);
+
+        long lastGeneration = generation;
+        while (Files.exists(journalFile(lastGeneration + 1))) {
+            FileFleetJournal.replay(journalFile(lastGeneration), handler);
+            lastGeneration++;
+        }
+
+        this.journal = FileFleetJournal.open(journalFile(lastGeneration), handler);
+        generation = lastGeneration;
+        this.missionRocketAssignmentService = new MissionRocketAssignmentService(rocketRepository, missionRepository, lockStripes, journal);
+        this.snapshotScheduler = snapshotInterval != null ? startSnapshotScheduler(snapshotInterval) : null;
+    }
+
+    // snapshotInterval may be null to take snapshots only on request
+    public static FleetStore open(Path directory, int lockStripes, Duration snapshotInterval) throws IOException {
+        Files.createDirectories(directory);
+        return new FleetStore(directory, lockStripes, snapshotInterval);
+    }
+
+    public RocketRepository getRocketRepository() {
+        return rocketRepository;
+    }
+
+    public MissionRepository getMissionRepository() {
+        return missionRepository;
+    }
+
+    public MissionRocketAssignmentService getMissionRocketAssignmentService() {
+        return missionRocketAssignmentService;
+    }
+
+    // Mutations wait while the journal is rolled and the fleet is encoded into the page cache: the encoder reads the
+    // live repositories inside quiesce, since the published FleetView has no unassigned rockets. They do not wait for
+    // the fsyncs
+    public synchronized void snapshot() throws IOException {
+        long nextGeneration = generation + 1;
+        Path snapshotFile = directory.resolve(SNAPSHOT_FILE);
+        Path temporaryFile = directory.resolve(SNAPSHOT_FILE + ".tmp");
+
+        try (FileChannel channel = FileChannel.open(temporaryFile,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+            try {
+                missionRocketAssignmentService.quiesce(() -> {
+                    try {
+                        journal.roll(journalFile(nextGeneration));
+                        generation = nextGeneration;
+                        FleetSnapshotCodec.encode(nextGeneration, rocketRepository, missionRepository, channel);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return null;
+                });
+            } catch (UncheckedIOException e) {
+                throw e.getCause();
+            }
+            channel.force(true);
+        }
+
+        // The rename is atomic, so a crash never leaves a half-written snapshot in place
+        Files.move(temporaryFile, snapshotFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        // The rename must be durable before the journals it replaces are gone
+        syncDirectory();
+        deleteJournalsBefore(nextGeneration);
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (snapshotScheduler != null) {
+            snapshotScheduler.shutdown();
+            try {
+                snapshotScheduler.awaitTermination(1, TimeUnit.MINUTES);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        journal.close();
+    }
+
+    private ScheduledExecutorService startSnapshotScheduler(Duration snapshotInterval) {
+        ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "fleet-snapshot");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long intervalMillis = snapshotInterval.toMillis();
+        scheduler.scheduleWithFixedDelay(() -> {
+            if (journal.getRecordsSinceRoll() == 0) {
+                return;
+            }
+            try {
+                snapshot();
+            } catch (IOException e) {
+                // Retried on the next interval; every mutation is still in the journal
+            }
+        }, intervalMillis, intervalMillis, TimeUnit.MILLISECONDS);
+        return scheduler;
+    }
+
+    private Path journalFile(long journalGeneration) {
+        return directory.resolve(JOURNAL_PREFIX + journalGeneration + JOURNAL_SUFFIX);
+    }
+
+    // Forces the directory entries, e.g. a rename, to disk. Windows cannot open a directory as a channel; its rename is
+    // durable once it returns
+    private void syncDirectory() throws IOException {
+        try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            if (!System.getProperty("os.name").startsWith("Windows")) {
+                throw e;
+            }
+        }
+    }
+
+    private void deleteJournalsBefore(long journalGeneration) throws IOException {
+        try (DirectoryStream<Path> journals = Files.newDirectoryStream(directory, JOURNAL_PREFIX + "*" + JOURNAL_SUFFIX)) {
+            for (Path file : journals) {
+                String name = file.getFileName().toString();
+                String number = name.substring(JOURNAL_PREFIX.length(), name.length() - JOURNAL_SUFFIX.length());
+                if (!number.isEmpty() && number.chars().allMatch(Character::isDigit) && Long.parseLong(number) < journalGeneration) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    private static FileFleetJournal.Handler replayHandler(MissionRocketAssignmentService service) {
+        return new FileFleetJournal.Handler() {
+            @Override
+            public void addRocket(String rocketName, RocketStatus status) throws SpaceXException {
+                Rocket rocket = new Rocket(rocketName);
+                rocket.setStatus(status);
+                service.addRocket(rocket);
+            }
+
+            @Override
+            public void addMission(String missionName, MissionStatus status) throws SpaceXException {
+                Mission mission = new Mission(missionName);
+                mission.setStatus(status);
+                service.addMission(mission);
+            }
+
+            @Override
+            public void assignRocket(String rocketName, String missionName) throws SpaceXException {
+                service.assignRocketToMission(rocketName, missionName);
+            }
+
+            @Override
+            public void assignRockets(List<String> rocketNames, String missionName) throws SpaceXException {
+                service.assignRocketsToMission(rocketNames, missionName);
+            }
+
+            @Override
+            public void changeRocketStatus(String rocketName, RocketStatus status) throws SpaceXException {
+                service.changeRocketStatus(rocketName, status);
+            }
+
+            @Override
+            public void removeRocket(String rocketName) throws SpaceXException {
+                service.removeRocket(rocketName);
+            }
+
+            @Override
+            public void addRocketToMission(String rocketName, RocketStatus status, String missionName) throws SpaceXException {
+                Rocket rocket = new Rocket(rocketName);
+                rocket.setStatus(status);
+                service.addRocketToMission(rocket, missionName);
+            }
+        };
+    }
+}
@@ -0,0 +1,227 @@
+package spacex.repository;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+import spacex.util.NameIndex;
+
+import java.util.Arrays;
+
+// Stores rockets and missions by dense int id in primitive heap arrays.
+// Mission membership is an insertion-ordered doubly linked list threaded through the rocket arrays.
+public class CompactFleetRepository implements FleetRepository {
+
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+
+    private final NameIndex rocketNames;
+    private byte[] rocketStatuses;
+    private int[] rocketMissions;
+    private int[] nextRockets;
+    private int[] previousRockets;
+
+    private final NameIndex missionNames;
+    private byte[] missionStatuses;
+    private int[] firstRockets;
+    private int[] lastRockets;
+    private int[] rocketCounts;
+    private int[] inRepairCounts;
+
+    public CompactFleetRepository() {
+        this(16, 16);
+    }
+
+    public CompactFleetRepository(int expectedRockets, int expectedMissions) {
+        int rocketCapacity = Math.max(expectedRockets, 16);
+        int missionCapacity = Math.max(expectedMissions, 16);
+
+        this.rocketNames = new NameIndex(rocketCapacity);
+        this.rocketStatuses = new byte[rocketCapacity];
+        this.rocketMissions = new int[rocketCapacity];
+        this.nextRockets = new int[rocketCapacity];
+        this.previousRockets = new int[rocketCapacity];
+
+        this.missionNames = new NameIndex(missionCapacity);
+        this.missionStatuses = new byte[missionCapacity];
+        this.firstRockets = new int[missionCapacity];
+        this.lastRockets = new int[missionCapacity];
+        this.rocketCounts = new int[missionCapacity];
+        this.inRepairCounts = new int[missionCapacity];
+    }
+
+    @Override
+    public int addRocket(String name, RocketStatus status) {
+        int rocket = rocketNames.add(name);
+        if (rocket == NO_ID) {
+            return NO_ID;
+        }
+
+        if (rocket == rocketStatuses.length) {
+            int capacity = rocketStatuses.length * 2;
+            rocketStatuses = Arrays.copyOf(rocketStatuses, capacity);
+            rocketMissions = Arrays.copyOf(rocketMissions, capacity);
+            nextRockets = Arrays.copyOf(nextRockets, capacity);
+            previousRockets = Arrays.copyOf(previousRockets, capacity);
+        }
+
+        rocketStatuses[rocket] = (byte) status.ordinal();
+        rocketMissions[rocket] = NO_ID;
+        nextRockets[rocket] = NO_ID;
+        previousRockets[rocket] = NO_ID;
+        return rocket;
+    }
+
+    @Override
+    public int addMission(String name) {
+        int mission = missionNames.add(name);
+        if (mission == NO_ID) {
+            return NO_ID;
+        }
+
+        if (mission == missionStatuses.length) {
+            int capacity = missionStatuses.length * 2;
+            missionStatuses = Arrays.copyOf(missionStatuses, capacity);
+            firstRockets = Arrays.copyOf(firstRockets, capacity);
+            lastRockets = Arrays.copyOf(lastRockets, capacity);
+            rocketCounts = Arrays.copyOf(rocketCounts, capacity);
+            inRepairCounts = Arrays.copyOf(inRepairCounts, capacity);
+        }
+
+        missionStatuses[mission] = (byte) MissionStatus.SCHEDULED.ordinal();
+        firstRockets[mission] = NO_ID;
+        lastRockets[mission] = NO_ID;
+        return mission;
+    }
+
+    @Override
+    public int getRocketId(String name) {
+        return rocketNames.idOf(name);
+    }
+
+    @Override
+    public int getMissionId(String name) {
+        return missionNames.idOf(name);
+    }
+
+    @Override
+    public String getRocketName(int rocket) {
+        return rocketNames.nameOf(rocket);
+    }
+
+    @Override
+    public String getMissionName(int mission) {
+        return missionNames.nameOf(mission);
+    }
+
+    @Override
+    public int getRocketCount() {
+        return rocketNames.size();
+    }
+
+    @Override
+    public int getMissionCount() {
+        return missionNames.size();
+    }
+
+    @Override
+    public RocketStatus getRocketStatus(int rocket) {
+        return ROCKET_STATUSES[rocketStatuses[rocket]];
+    }
+
+    @Override
+    public void setRocketStatus(int rocket, RocketStatus status) {
+        int mission = rocketMissions[rocket];
+        if (mission != NO_ID) {
+            inRepairCounts[mission] += repairDelta(getRocketStatus(rocket), status);
+        }
+
+        rocketStatuses[rocket] = (byte) status.ordinal();
+    }
+
+    @Override
+    public MissionStatus getMissionStatus(int mission) {
+        return MISSION_STATUSES[missionStatuses[mission]];
+    }
+
+    @Override
+    public void setMissionStatus(int mission, MissionStatus status) {
+        missionStatuses[mission] = (byte) status.ordinal();
+    }
+
+    @Override
+    public int getMissionOfRocket(int rocket) {
+        return rocketMissions[rocket];
+    }
+
+    @Override
+    public int getRocketCountOfMission(int mission) {
+        return rocketCounts[mission];
+    }
+
+    @Override
+    public int getInRepairCountOfMission(int mission) {
+        return inRepairCounts[mission];
+    }
+
+    @Override
+    public int getFirstRocketOfMission(int mission) {
+        return firstRockets[mission];
+    }
+
+    @Override
+    public int getNextRocketInMission(int rocket) {
+        return nextRockets[rocket];
+    }
+
+    @Override
+    public void addRocketToMission(int rocket, int mission) {
+        int last = lastRockets[mission];
+
+        previousRockets[rocket] = last;
+        nextRockets[rocket] = NO_ID;
+        if (last == NO_ID) {
+            firstRockets[mission] = rocket;
+        } else {
+            nextRockets[last] = rocket;
+        }
+        lastRockets[mission] = rocket;
+
+        rocketMissions[rocket] = mission;
+        rocketCounts[mission]++;
+        if (getRocketStatus(rocket) == RocketStatus.IN_REPAIR) {
+            inRepairCounts[mission]++;
+        }
+    }
+
+    @Override
+    public void removeRocketFromMission(int rocket) {
+        int mission = rocketMissions[rocket];
+        if (mission == NO_ID) {
+            return;
+        }
+
+        int previous = previousRockets[rocket];
+        int next = nextRockets[rocket];
+        if (previous == NO_ID) {
+            firstRockets[mission] = next;
+        } else {
+            nextRockets[previous] = next;
+        }
+        if (next == NO_ID) {
+            lastRockets[mission] = previous;
+        } else {
+            previousRockets[next] = previous;
+        }
+
+        previousRockets[rocket] = NO_ID;
+        nextRockets[rocket] = NO_ID;
+        rocketMissions[rocket] = NO_ID;
+        rocketCounts[mission]--;
+        if (getRocketStatus(rocket) == RocketStatus.IN_REPAIR) {
+            inRepairCounts[mission]--;
+        }
+    }
+
+    private static int repairDelta(RocketStatus oldStatus, RocketStatus newStatus) {
+        return (newStatus == RocketStatus.IN_REPAIR ? 1 : 0) - (oldStatus == RocketStatus.IN_REPAIR ? 1 : 0);
+    }
+}
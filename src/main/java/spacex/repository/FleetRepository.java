@@ -0,0 +1,52 @@
+package spacex.repository;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+
+// Int-id fleet storage used by CompactMissionRocketAssignmentService.
+// Mission membership is an insertion-ordered list walked with getFirstRocketOfMission/getNextRocketInMission.
+public interface FleetRepository {
+
+    int NO_ID = -1;
+
+    // Returns the id of the new rocket, or NO_ID if the name is taken
+    int addRocket(String name, RocketStatus status);
+
+    // Returns the id of the new mission, or NO_ID if the name is taken
+    int addMission(String name);
+
+    int getRocketId(String name);
+
+    int getMissionId(String name);
+
+    String getRocketName(int rocket);
+
+    String getMissionName(int mission);
+
+    int getRocketCount();
+
+    int getMissionCount();
+
+    RocketStatus getRocketStatus(int rocket);
+
+    // Keeps the in-repair counter of the rocket's mission in step
+    void setRocketStatus(int rocket, RocketStatus status);
+
+    MissionStatus getMissionStatus(int mission);
+
+    void setMissionStatus(int mission, MissionStatus status);
+
+    int getMissionOfRocket(int rocket);
+
+    int getRocketCountOfMission(int mission);
+
+    int getInRepairCountOfMission(int mission);
+
+    int getFirstRocketOfMission(int mission);
+
+    int getNextRocketInMission(int rocket);
+
+    void addRocketToMission(int rocket, int mission);
+
+    void removeRocketFromMission(int rocket);
+}
@@ -0,0 +1,315 @@
+package spacex.repository;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+import spacex.util.MappedNameIndex;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+// FleetRepository backed by a memory-mapped file with fixed-width records, so the fleet lives off-heap and
+// a restarted process reopens it without reloading. Capacities are fixed when the file is created.
+//
+// Layout: [header][rocket records][mission records][rocket name index][mission name index]
+public class MappedFleetRepository implements FleetRepository, Closeable {
+
+    private static final int MAGIC = 0x53505846;
+    private static final int VERSION = 1;
+
+    private static final int HEADER_BYTES = 64;
+    private static final int MAGIC_POSITION = 0;
+    private static final int VERSION_POSITION = 4;
+    private static final int MAX_ROCKETS_POSITION = 8;
+    private static final int MAX_MISSIONS_POSITION = 12;
+    private static final int NAME_BYTES_POSITION = 16;
+
+    // status byte (padded), mission, next rocket, previous rocket
+    private static final int ROCKET_RECORD_BYTES = 16;
+    private static final int ROCKET_STATUS = 0;
+    private static final int ROCKET_MISSION = 4;
+    private static final int ROCKET_NEXT = 8;
+    private static final int ROCKET_PREVIOUS = 12;
+
+    // status byte (padded), first rocket, last rocket, rocket count, in-repair count
+    private static final int MISSION_RECORD_BYTES = 20;
+    private static final int MISSION_STATUS = 0;
+    private static final int MISSION_FIRST = 4;
+    private static final int MISSION_LAST = 8;
+    private static final int MISSION_ROCKETS = 12;
+    private static final int MISSION_IN_REPAIR = 16;
+
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+    private static final MissionStatus[] MISSION_STATUSES = MissionStatus.values();
+
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final MappedByteBuffer rockets;
+    private final MappedByteBuffer missions;
+    private final MappedByteBuffer rocketNameRegion;
+    private final MappedByteBuffer missionNameRegion;
+    private final MappedNameIndex rocketNames;
+    private final MappedNameIndex missionNames;
+
+    private MappedFleetRepository(FileChannel channel, int maxRockets, int maxMissions, int nameBytesPerEntry) throws IOException {
+        this.channel = channel;
+
+        long position = 0;
+        this.header = map(position, HEADER_BYTES);
+        position += HEADER_BYTES;
+
+        this.rockets = map(position, (long) maxRockets * ROCKET_RECORD_BYTES);
+        position += (long) maxRockets * ROCKET_RECORD_BYTES;
+
+        this.missions = map(position, (long) maxMissions * MISSION_RECORD_BYTES);
+        position += (long) maxMissions * MISSION_RECORD_BYTES;
+
+        int rocketArena = arenaCapacity(maxRockets, nameBytesPerEntry);
+        long rocketNameBytes = MappedNameIndex.regionBytes(maxRockets, rocketArena);
+        this.rocketNameRegion = map(position, rocketNameBytes);
+        this.rocketNames = new MappedNameIndex(rocketNameRegion, maxRockets, rocketArena);
+        position += rocketNameBytes;
+
+        int missionArena = arenaCapacity(maxMissions, nameBytesPerEntry);
+        this.missionNameRegion = map(position, MappedNameIndex.regionBytes(maxMissions, missionArena));
+        this.missionNames = new MappedNameIndex(missionNameRegion, maxMissions, missionArena);
+    }
+
+    // Creates a new store; nameBytesPerEntry is the average UTF-8 name length to reserve space for
+    public static MappedFleetRepository create(Path file, int maxRockets, int maxMissions, int nameBytesPerEntry) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE_NEW, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedFleetRepository repository = new MappedFleetRepository(channel, maxRockets, maxMissions, nameBytesPerEntry);
+            repository.header.putInt(MAX_ROCKETS_POSITION, maxRockets);
+            repository.header.putInt(MAX_MISSIONS_POSITION, maxMissions);
+            repository.header.putInt(NAME_BYTES_POSITION, nameBytesPerEntry);
+            repository.header.putInt(VERSION_POSITION, VERSION);
+            repository.header.putInt(MAGIC_POSITION, MAGIC);
+            return repository;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public static MappedFleetRepository open(Path file) throws IOException {
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            if (header.getInt(MAGIC_POSITION) != MAGIC || header.getInt(VERSION_POSITION) != VERSION) {
+                throw new IOException("Not a fleet store: " + file);
+            }
+
+            return new MappedFleetRepository(channel,
+                    header.getInt(MAX_ROCKETS_POSITION), header.getInt(MAX_MISSIONS_POSITION), header.getInt(NAME_BYTES_POSITION));
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    // Writes the dirty pages back to the file
+    public void flush() {
+        header.force();
+        rockets.force();
+        missions.force();
+        rocketNameRegion.force();
+        missionNameRegion.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+        channel.close();
+    }
+
+    @Override
+    public int addRocket(String name, RocketStatus status) {
+        int rocket = rocketNames.add(name);
+        if (rocket == NO_ID) {
+            return NO_ID;
+        }
+
+        int record = rocket * ROCKET_RECORD_BYTES;
+        rockets.put(record + ROCKET_STATUS, (byte) status.ordinal());
+        rockets.putInt(record + ROCKET_MISSION, NO_ID);
+        rockets.putInt(record + ROCKET_NEXT, NO_ID);
+        rockets.putInt(record + ROCKET_PREVIOUS, NO_ID);
+        return rocket;
+    }
+
+    @Override
+    public int addMission(String name) {
+        int mission = missionNames.add(name);
+        if (mission == NO_ID) {
+            return NO_ID;
+        }
+
+        int record = mission * MISSION_RECORD_BYTES;
+        missions.put(record + MISSION_STATUS, (byte) MissionStatus.SCHEDULED.ordinal());
+        missions.putInt(record + MISSION_FIRST, NO_ID);
+        missions.putInt(record + MISSION_LAST, NO_ID);
+        missions.putInt(record + MISSION_ROCKETS, 0);
+        missions.putInt(record + MISSION_IN_REPAIR, 0);
+        return mission;
+    }
+
+    @Override
+    public int getRocketId(String name) {
+        return rocketNames.idOf(name);
+    }
+
+    @Override
+    public int getMissionId(String name) {
+        return missionNames.idOf(name);
+    }
+
+    @Override
+    public String getRocketName(int rocket) {
+        return rocketNames.nameOf(rocket);
+    }
+
+    @Override
+    public String getMissionName(int mission) {
+        return missionNames.nameOf(mission);
+    }
+
+    @Override
+    public int getRocketCount() {
+        return rocketNames.size();
+    }
+
+    @Override
+    public int getMissionCount() {
+        return missionNames.size();
+    }
+
+    @Override
+    public RocketStatus getRocketStatus(int rocket) {
+        return ROCKET_STATUSES[rockets.get(rocket * ROCKET_RECORD_BYTES + ROCKET_STATUS)];
+    }
+
+    @Override
+    public void setRocketStatus(int rocket, RocketStatus status) {
+        int mission = getMissionOfRocket(rocket);
+        if (mission != NO_ID) {
+            addToMissionField(mission, MISSION_IN_REPAIR, repairDelta(getRocketStatus(rocket), status));
+        }
+
+        rockets.put(rocket * ROCKET_RECORD_BYTES + ROCKET_STATUS, (byte) status.ordinal());
+    }
+
+    @Override
+    public MissionStatus getMissionStatus(int mission) {
+        return MISSION_STATUSES[missions.get(mission * MISSION_RECORD_BYTES + MISSION_STATUS)];
+    }
+
+    @Override
+    public void setMissionStatus(int mission, MissionStatus status) {
+        missions.put(mission * MISSION_RECORD_BYTES + MISSION_STATUS, (byte) status.ordinal());
+    }
+
+    @Override
+    public int getMissionOfRocket(int rocket) {
+        return rockets.getInt(rocket * ROCKET_RECORD_BYTES + ROCKET_MISSION);
+    }
+
+    @Override
+    public int getRocketCountOfMission(int mission) {
+        return missions.getInt(mission * MISSION_RECORD_BYTES + MISSION_ROCKETS);
+    }
+
+    @Override
+    public int getInRepairCountOfMission(int mission) {
+        return missions.getInt(mission * MISSION_RECORD_BYTES + MISSION_IN_REPAIR);
+    }
+
+    @Override
+    public int getFirstRocketOfMission(int mission) {
+        return missions.getInt(mission * MISSION_RECORD_BYTES + MISSION_FIRST);
+    }
+
+    @Override
+    public int getNextRocketInMission(int rocket) {
+        return rockets.getInt(rocket * ROCKET_RECORD_BYTES + ROCKET_NEXT);
+    }
+
+    @Override
+    public void addRocketToMission(int rocket, int mission) {
+        int record = rocket * ROCKET_RECORD_BYTES;
+        int last = missions.getInt(mission * MISSION_RECORD_BYTES + MISSION_LAST);
+
+        rockets.putInt(record + ROCKET_PREVIOUS, last);
+        rockets.putInt(record + ROCKET_NEXT, NO_ID);
+        if (last == NO_ID) {
+            missions.putInt(mission * MISSION_RECORD_BYTES + MISSION_FIRST, rocket);
+        } else {
+            rockets.putInt(last * ROCKET_RECORD_BYTES + ROCKET_NEXT, rocket);
+        }
+        missions.putInt(mission * MISSION_RECORD_BYTES + MISSION_LAST, rocket);
+
+        rockets.putInt(record + ROCKET_MISSION, mission);
+        addToMissionField(mission, MISSION_ROCKETS, 1);
+        if (getRocketStatus(rocket) == RocketStatus.IN_REPAIR) {
+            addToMissionField(mission, MISSION_IN_REPAIR, 1);
+        }
+    }
+
+    @Override
+    public void removeRocketFromMission(int rocket) {
+        int mission = getMissionOfRocket(rocket);
+        if (mission == NO_ID) {
+            return;
+        }
+
+        int record = rocket * ROCKET_RECORD_BYTES;
+        int previous = rockets.getInt(record + ROCKET_PREVIOUS);
+        int next = rockets.getInt(record + ROCKET_NEXT);
+
+        if (previous == NO_ID) {
+            missions.putInt(mission * MISSION_RECORD_BYTES + MISSION_FIRST, next);
+        } else {
+            rockets.putInt(previous * ROCKET_RECORD_BYTES + ROCKET_NEXT, next);
+        }
+        if (next == NO_ID) {
+            missions.putInt(mission * MISSION_RECORD_BYTES + MISSION_LAST, previous);
+        } else {
+            rockets.putInt(next * ROCKET_RECORD_BYTES + ROCKET_PREVIOUS, previous);
+        }
+
+        rockets.putInt(record + ROCKET_PREVIOUS, NO_ID);
+        rockets.putInt(record + ROCKET_NEXT, NO_ID);
+        rockets.putInt(record + ROCKET_MISSION, NO_ID);
+        addToMissionField(mission, MISSION_ROCKETS, -1);
+        if (getRocketStatus(rocket) == RocketStatus.IN_REPAIR) {
+            addToMissionField(mission, MISSION_IN_REPAIR, -1);
+        }
+    }
+
+    private void addToMissionField(int mission, int field, int delta) {
+        int position = mission * MISSION_RECORD_BYTES + field;
+        missions.putInt(position, missions.getInt(position) + delta);
+    }
+
+    private static int repairDelta(RocketStatus oldStatus, RocketStatus newStatus) {
+        return (newStatus == RocketStatus.IN_REPAIR ? 1 : 0) - (oldStatus == RocketStatus.IN_REPAIR ? 1 : 0);
+    }
+
+    private MappedByteBuffer map(long position, long size) throws IOException {
+        if (size > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Fleet store region is larger than 2 GB: " + size);
+        }
+        return channel.map(FileChannel.MapMode.READ_WRITE, position, size);
+    }
+
+    private static int arenaCapacity(int maxEntries, int nameBytesPerEntry) {
+        long capacity = (long) maxEntries * nameBytesPerEntry;
+        if (capacity > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Name arena is larger than 2 GB: " + capacity);
+        }
+        return (int) capacity;
+    }
+}
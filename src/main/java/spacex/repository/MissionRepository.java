@@ -1,18 +1,37 @@
 package spacex.repository;
 
 import spacex.domain.Mission;
+import spacex.domain.MissionAssignments;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class MissionRepository {
 
-    private final Map<String, Mission> missions = new HashMap<>();
+    private final Map<String, Mission> missions;
+    private final MissionAssignments assignments;
+
+    public MissionRepository() {
+        this.missions = new ConcurrentHashMap<>();
+        this.assignments = new MissionAssignments();
+    }
+
+    // Sized up front, e.g. when the fleet is restored from a snapshot
+    public MissionRepository(int expectedMissions, int expectedAssignedRockets) {
+        this.missions = new ConcurrentHashMap<>(expectedMissions);
+        this.assignments = new MissionAssignments(expectedAssignedRockets);
+    }
 
     public void addMission(Mission mission) {
         missions.put(mission.getName(), mission);
     }
 
+    public void addMissions(Map<String, Mission> missionsByName) {
+        missions.putAll(missionsByName);
+    }
+
     public Mission getMission(String name) {
         return missions.get(name);
     }
@@ -20,4 +39,20 @@ public class MissionRepository {
     public Map<String, Mission> getAllMissions() {
         return missions;
     }
-}
\ No newline at end of file
+
+    public void addRocketToMission(Rocket rocket, Mission mission) {
+        assignments.assign(rocket, mission);
+    }
+
+    public void removeRocketFromMission(Rocket rocket, Mission mission) {
+        assignments.unassign(rocket, mission);
+    }
+
+    public Mission getMissionForRocket(String rocketName) {
+        return assignments.getMission(rocketName);
+    }
+
+    public void changeRocketStatus(Rocket rocket, RocketStatus newStatus) {
+        assignments.changeRocketStatus(rocket, newStatus);
+    }
+}
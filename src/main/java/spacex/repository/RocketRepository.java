@@ -2,18 +2,39 @@ package spacex.repository;
 
 import spacex.domain.Rocket;
 
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class RocketRepository {
 
-    private final Map<String, Rocket> rockets = new HashMap<>();
+    private final Map<String, Rocket> rockets;
+
+    public RocketRepository() {
+        this.rockets = new ConcurrentHashMap<>();
+    }
+
+    // Sized up front, e.g. when the fleet is restored from a snapshot
+    public RocketRepository(int expectedRockets) {
+        this.rockets = new ConcurrentHashMap<>(expectedRockets);
+    }
 
     public void addRocket(Rocket rocket) {
         rockets.put(rocket.getName(), rocket);
     }
 
+    public void addRockets(Map<String, Rocket> rocketsByName) {
+        rockets.putAll(rocketsByName);
+    }
+
+    public void removeRocket(String name) {
+        rockets.remove(name);
+    }
+
     public Rocket getRocket(String name) {
         return rockets.get(name);
     }
+
+    public Map<String, Rocket> getAllRockets() {
+        return rockets;
+    }
 }
\ No newline at end of file
@@ -0,0 +1,195 @@
+package spacex.service;
+
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.repository.FleetRepository;
+import spacex.util.MissionSummaryFormatter;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static spacex.constant.ErrorMessages.*;
+import static spacex.repository.FleetRepository.NO_ID;
+
+// Same rules as MissionRocketAssignmentService, on top of an int-id FleetRepository.
+// Entities are addressed by name only; the repository is not thread-safe, so every operation is synchronized.
+public class CompactMissionRocketAssignmentService {
+
+    private final FleetRepository fleetRepository;
+
+    public CompactMissionRocketAssignmentService(FleetRepository fleetRepository) {
+        this.fleetRepository = fleetRepository;
+    }
+
+    public synchronized void addRocket(String rocketName) throws SpaceXException {
+        if (fleetRepository.addRocket(rocketName, RocketStatus.ON_GROUND) == NO_ID) {
+            throw new SpaceXException(ROCKET_ALREADY_EXISTS);
+        }
+    }
+
+    public synchronized void addMission(String missionName) throws SpaceXException {
+        if (fleetRepository.addMission(missionName) == NO_ID) {
+            throw new SpaceXException(MISSION_ALREADY_EXISTS);
+        }
+    }
+
+    public synchronized void assignRocketToMission(String rocketName, String missionName) throws SpaceXException {
+        int rocket = getRocketOrThrow(rocketName);
+        int mission = getMissionOrThrow(missionName);
+
+        validateMissionForRocketAssignment(mission);
+        validateRocketForMissionAssignment(rocket);
+
+        moveRocketToMission(rocket, mission);
+        updateMissionStatus(mission);
+    }
+
+    // All-or-nothing, like MissionRocketAssignmentService.assignRocketsToMission
+    public synchronized void assignRocketsToMission(List<String> rocketNames, String missionName) throws SpaceXException {
+        Set<Integer> rockets = new LinkedHashSet<>();
+        for (String rocketName : rocketNames) {
+            int rocket = getRocketOrThrow(rocketName);
+            rockets.remove(rocket);
+            rockets.add(rocket);
+        }
+
+        if (rockets.isEmpty()) {
+            return;
+        }
+
+        int mission = getMissionOrThrow(missionName);
+        validateMissionForRocketAssignment(mission);
+        for (int rocket : rockets) {
+            validateRocketForMissionAssignment(rocket);
+        }
+
+        for (int rocket : rockets) {
+            moveRocketToMission(rocket, mission);
+        }
+        updateMissionStatus(mission);
+    }
+
+    public synchronized void changeRocketStatus(String rocketName, RocketStatus newStatus) throws SpaceXException {
+        int rocket = getRocketOrThrow(rocketName);
+        int currentMission = fleetRepository.getMissionOfRocket(rocket);
+
+        if ((RocketStatus.IN_SPACE.equals(newStatus) || RocketStatus.IN_REPAIR.equals(newStatus)) && currentMission == NO_ID) {
+            throw new SpaceXException(ROCKET_CANNOT_BE_IN_SPACE_OR_IN_REPAIR_WITHOUT_MISSION);
+        }
+
+        if (RocketStatus.ON_GROUND.equals(newStatus)) {
+            fleetRepository.removeRocketFromMission(rocket);
+        }
+        fleetRepository.setRocketStatus(rocket, newStatus);
+
+        if (currentMission != NO_ID) {
+            updateMissionStatus(currentMission);
+        }
+    }
+
+    public synchronized RocketStatus getRocketStatus(String rocketName) throws SpaceXException {
+        return fleetRepository.getRocketStatus(getRocketOrThrow(rocketName));
+    }
+
+    public synchronized MissionStatus getMissionStatus(String missionName) throws SpaceXException {
+        return fleetRepository.getMissionStatus(getMissionOrThrow(missionName));
+    }
+
+    // Sorts primitive keys rather than boxed ids: each mission is decoded to its name once, ranked by name, and the
+    // rocket count and name rank are packed into one long
+    public synchronized String getMissionSummary() {
+        int missionCount = fleetRepository.getMissionCount();
+        String[] names = new String[missionCount];
+        Arrays.setAll(names, fleetRepository::getMissionName);
+        Arrays.sort(names, Comparator.reverseOrder());
+
+        // Most rockets first, then by name descending
+        long[] keys = new long[missionCount];
+        for (int rank = 0; rank < missionCount; rank++) {
+            int rocketCount = fleetRepository.getRocketCountOfMission(fleetRepository.getMissionId(names[rank]));
+            keys[rank] = (long) (Integer.MAX_VALUE - rocketCount) << 32 | rank;
+        }
+        Arrays.sort(keys);
+
+        StringBuilder summary = new StringBuilder();
+        for (long key : keys) {
+            if (!summary.isEmpty()) {
+                summary.append('\n');
+            }
+            String name = names[(int) key];
+            appendMission(fleetRepository.getMissionId(name), name, summary);
+        }
+
+        return summary.toString();
+    }
+
+    private void appendMission(int mission, String missionName, StringBuilder summary) {
+        MissionSummaryFormatter.appendMissionHeader(missionName, fleetRepository.getMissionStatus(mission),
+                fleetRepository.getRocketCountOfMission(mission), summary);
+
+        for (int rocket = fleetRepository.getFirstRocketOfMission(mission); rocket != NO_ID; rocket = fleetRepository.getNextRocketInMission(rocket)) {
+            summary.append('\n');
+            MissionSummaryFormatter.appendRocket(fleetRepository.getRocketName(rocket), fleetRepository.getRocketStatus(rocket), summary);
+        }
+    }
+
+    private void moveRocketToMission(int rocket, int mission) {
+        int currentMission = fleetRepository.getMissionOfRocket(rocket);
+
+        if (currentMission != NO_ID) {
+            fleetRepository.removeRocketFromMission(rocket);
+            updateMissionStatus(currentMission);
+        } else {
+            fleetRepository.setRocketStatus(rocket, RocketStatus.IN_SPACE);
+        }
+
+        fleetRepository.addRocketToMission(rocket, mission);
+    }
+
+    private int getRocketOrThrow(String rocketName) throws SpaceXException {
+        int rocket = fleetRepository.getRocketId(rocketName);
+        if (rocket == NO_ID) {
+            throw new SpaceXException(ROCKET_NOT_FOUND);
+        }
+        return rocket;
+    }
+
+    private int getMissionOrThrow(String missionName) throws SpaceXException {
+        int mission = fleetRepository.getMissionId(missionName);
+        if (mission == NO_ID) {
+            throw new SpaceXException(MISSION_NOT_FOUND);
+        }
+        return mission;
+    }
+
+    // Validate mission for rocket assignment
+    private void validateMissionForRocketAssignment(int mission) throws SpaceXException {
+        if (MissionStatus.ENDED.equals(fleetRepository.getMissionStatus(mission))) {
+            throw new SpaceXException(MISSION_NOT_AVAILABLE);
+        }
+    }
+
+    // Validate rocket for mission assignment
+    private void validateRocketForMissionAssignment(int rocket) throws SpaceXException {
+        if (!RocketStatus.ON_GROUND.equals(fleetRepository.getRocketStatus(rocket)) && fleetRepository.getMissionOfRocket(rocket) == NO_ID) {
+            throw new SpaceXException(ROCKET_NOT_AVAILABLE);
+        }
+    }
+
+    // Update the mission status based on its rocket counters
+    private void updateMissionStatus(int mission) {
+        if (fleetRepository.getRocketCountOfMission(mission) == 0) {
+            fleetRepository.setMissionStatus(mission, MissionStatus.ENDED);
+
+        } else if (fleetRepository.getInRepairCountOfMission(mission) > 0) {
+            fleetRepository.setMissionStatus(mission, MissionStatus.PENDING);
+
+        } else {
+            fleetRepository.setMissionStatus(mission, MissionStatus.IN_PROGRESS);
+        }
+    }
+}
@@ -1,149 +1,869 @@
 package spacex.service;
 
-import lombok.AllArgsConstructor;
-import spacex.constant.ErrorMessages;
+import spacex.domain.BulkLoadResult;
+import spacex.domain.FleetView;
 import spacex.domain.Mission;
+import spacex.domain.MissionSummaryBlock;
 import spacex.domain.MissionStatus;
+import spacex.domain.MissionSummaryPage;
+import spacex.domain.MissionView;
+import spacex.domain.OperationResult;
 import spacex.domain.Rocket;
 import spacex.domain.RocketStatus;
+import spacex.event.FleetEvent;
+import spacex.event.FleetEventDispatcher;
+import spacex.event.FleetEventListener;
+import spacex.history.FleetStatusHistory;
+import spacex.history.StatusTransition;
+import spacex.metrics.FleetGauges;
+import spacex.metrics.FleetMetrics;
+import spacex.metrics.FleetOperation;
 import spacex.exception.SpaceXException;
+import spacex.persistence.FleetJournal;
 import spacex.repository.MissionRepository;
 import spacex.repository.RocketRepository;
-import spacex.util.MissionSummaryFormatter;
+import spacex.util.StatusIndex;
+import spacex.util.StripedLocks;
 
-import java.util.Comparator;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.Optional;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
 
 import static spacex.constant.ErrorMessages.*;
 
-@AllArgsConstructor
-public class MissionRocketAssignmentService {
+public class MissionRocketAssignmentService implements FleetGauges {
+
+    public static final int DEFAULT_LOCK_STRIPES = 64;
 
     private final RocketRepository rocketRepository;
     private final MissionRepository missionRepository;
 
+    // Lock order: the rocket stripe first, then mission stripes in ascending stripe order
+    private final StripedLocks rocketLocks;
+    private final StripedLocks missionLocks;
+
+    private final MissionSummaryCache missionSummaryCache = new MissionSummaryCache();
+
+    // Readers only ever see published views. A mutation publishes the views of every mission it touched as one new
+    // version while it still holds their locks, so versions of the same mission are published in mutation order.
+    private final AtomicReference<FleetView> fleetView = new AtomicReference<>(FleetView.empty());
+    private final ReentrantLock publishLock = new ReentrantLock();
+
+    // Records are logged under the locks, so the journal order matches the order of conflicting mutations,
+    // and synced after the locks are released
+    private final FleetJournal journal;
+
+    // Events are published under the locks as well; nothing is built while no listener is registered
+    private final FleetEventDispatcher events = new FleetEventDispatcher();
+
+    // Maintained under the same locks as the statuses they index
+    private final StatusIndex<RocketStatus> rocketsByStatus = new StatusIndex<>(RocketStatus.class);
+    private final StatusIndex<MissionStatus> missionsByStatus = new StatusIndex<>(MissionStatus.class);
+
+    // The clock is only read while metrics are enabled
+    private volatile FleetMetrics metrics = FleetMetrics.NOOP;
+
+    // Transitions are recorded under the locks of the mutation; null while history is off
+    private volatile FleetStatusHistory statusHistory;
+
+    public MissionRocketAssignmentService(RocketRepository rocketRepository, MissionRepository missionRepository) {
+        this(rocketRepository, missionRepository, DEFAULT_LOCK_STRIPES);
+    }
+
+    public MissionRocketAssignmentService(RocketRepository rocketRepository, MissionRepository missionRepository, int lockStripes) {
+        this(rocketRepository, missionRepository, lockStripes, FleetJournal.NONE);
+    }
+
+    public MissionRocketAssignmentService(RocketRepository rocketRepository, MissionRepository missionRepository, int lockStripes,
+                                          FleetJournal journal) {
+        this.rocketRepository = rocketRepository;
+        this.missionRepository = missionRepository;
+        this.rocketLocks = new StripedLocks(lockStripes);
+        this.missionLocks = new StripedLocks(lockStripes);
+        this.journal = journal;
+
+        // The repositories may already hold a restored fleet
+        for (Rocket rocket : rocketRepository.getAllRockets().values()) {
+            rocketsByStatus.add(rocket.getName(), rocket.getStatus());
+        }
+        for (Mission mission : missionRepository.getAllMissions().values()) {
+            missionsByStatus.add(mission.getName(), mission.getStatus());
+        }
+        publish(missionRepository.getAllMissions().values());
+    }
+
+    // The throwing methods wrap the try* methods, which report rejections as a result instead of an exception.
+    // With a journal attached, both throw UncheckedIOException when the record cannot be synced; the mutation is
+    // already applied and visible by then, only its durability is unknown.
     public void addRocket(Rocket rocket) throws SpaceXException {
-        if (rocketRepository.getRocket(rocket.getName()) != null) {
-            throw new SpaceXException(ROCKET_ALREADY_EXISTS);
+        tryAddRocket(rocket).throwIfFailed();
+    }
+
+    public OperationResult tryAddRocket(Rocket rocket) {
+        if (!metrics.isEnabled()) {
+            return applyAddRocket(rocket);
         }
 
-        rocketRepository.addRocket(rocket);
+        long start = System.nanoTime();
+        OperationResult result = applyAddRocket(rocket);
+        metrics.recordOperation(FleetOperation.ADD_ROCKET, result, System.nanoTime() - start);
+        return result;
+    }
+
+    private OperationResult applyAddRocket(Rocket rocket) {
+        long journalSequence;
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocket.getName())) {
+            if (rocketRepository.getRocket(rocket.getName()) != null) {
+                return OperationResult.ROCKET_ALREADY_EXISTS;
+            }
+
+            journalSequence = journal.logAddRocket(rocket.getName(), rocket.getStatus());
+            rocketRepository.addRocket(rocket);
+            rocketsByStatus.add(rocket.getName(), rocket.getStatus());
+        }
+        syncJournal(journalSequence);
+        return OperationResult.SUCCESS;
     }
 
     public void addMission(Mission mission) throws SpaceXException {
-        if (missionRepository.getMission(mission.getName()) != null) {
-            throw new SpaceXException(MISSION_ALREADY_EXISTS);
+        tryAddMission(mission).throwIfFailed();
+    }
+
+    public OperationResult tryAddMission(Mission mission) {
+        if (!metrics.isEnabled()) {
+            return applyAddMission(mission);
+        }
+
+        long start = System.nanoTime();
+        OperationResult result = applyAddMission(mission);
+        metrics.recordOperation(FleetOperation.ADD_MISSION, result, System.nanoTime() - start);
+        return result;
+    }
+
+    private OperationResult applyAddMission(Mission mission) {
+        long journalSequence;
+        try (StripedLocks.Guard ignored = missionLocks.lock(mission.getName())) {
+            if (missionRepository.getMission(mission.getName()) != null) {
+                return OperationResult.MISSION_ALREADY_EXISTS;
+            }
+
+            journalSequence = journal.logAddMission(mission.getName(), mission.getStatus());
+            missionRepository.addMission(mission);
+            missionsByStatus.add(mission.getName(), mission.getStatus());
+            publish(List.of(mission));
         }
+        syncJournal(journalSequence);
+        return OperationResult.SUCCESS;
+    }
+
+    // Validates the whole batch in one pass; ConcurrentHashMap.putAll then sizes the repository once for all accepted rockets
+    public BulkLoadResult addRockets(Collection<Rocket> rockets) {
+        Map<String, Rocket> accepted = new LinkedHashMap<>(capacityFor(rockets.size()));
+        List<BulkLoadResult.Failure> failures = new ArrayList<>();
+        long journalSequence = 0;
+
+        try (StripedLocks.Guard ignored = rocketLocks.lockAll()) {
+            for (Rocket rocket : rockets) {
+                if (rocketRepository.getRocket(rocket.getName()) != null || accepted.putIfAbsent(rocket.getName(), rocket) != null) {
+                    failures.add(new BulkLoadResult.Failure(rocket.getName(), ROCKET_ALREADY_EXISTS));
+                }
+            }
 
-        missionRepository.addMission(mission);
+            for (Rocket rocket : accepted.values()) {
+                journalSequence = journal.logAddRocket(rocket.getName(), rocket.getStatus());
+            }
+            rocketRepository.addRockets(accepted);
+            for (Rocket rocket : accepted.values()) {
+                rocketsByStatus.add(rocket.getName(), rocket.getStatus());
+            }
+        }
+        syncJournal(journalSequence);
+
+        return new BulkLoadResult(accepted.size(), failures);
+    }
+
+    public BulkLoadResult addMissions(Collection<Mission> missions) {
+        Map<String, Mission> accepted = new LinkedHashMap<>(capacityFor(missions.size()));
+        List<BulkLoadResult.Failure> failures = new ArrayList<>();
+        long journalSequence = 0;
+
+        try (StripedLocks.Guard ignored = missionLocks.lockAll()) {
+            for (Mission mission : missions) {
+                if (missionRepository.getMission(mission.getName()) != null || accepted.putIfAbsent(mission.getName(), mission) != null) {
+                    failures.add(new BulkLoadResult.Failure(mission.getName(), MISSION_ALREADY_EXISTS));
+                }
+            }
+
+            for (Mission mission : accepted.values()) {
+                journalSequence = journal.logAddMission(mission.getName(), mission.getStatus());
+            }
+            missionRepository.addMissions(accepted);
+            for (Mission mission : accepted.values()) {
+                missionsByStatus.add(mission.getName(), mission.getStatus());
+            }
+            publish(accepted.values());
+        }
+        syncJournal(journalSequence);
+
+        return new BulkLoadResult(accepted.size(), failures);
+    }
+
+    private static int capacityFor(int size) {
+        return (int) Math.ceil(size / 0.75);
     }
 
     public void assignRocketToMission(String rocketName, String missionName) throws SpaceXException {
-        Rocket rocket = getRocketOrThrow(rocketName);
-        Mission mission = getMissionOrThrow(missionName);
+        tryAssignRocketToMission(rocketName, missionName).throwIfFailed();
+    }
 
-        validateMissionForRocketAssignment(mission);
-        Mission currentMission = findMissionForRocket(rocket);
+    public OperationResult tryAssignRocketToMission(String rocketName, String missionName) {
+        if (!metrics.isEnabled()) {
+            return applyAssignRocketToMission(rocketName, missionName);
+        }
 
-        validateRocketForMissionAssignment(rocket, currentMission);
+        long start = System.nanoTime();
+        OperationResult result = applyAssignRocketToMission(rocketName, missionName);
+        metrics.recordOperation(FleetOperation.ASSIGN_ROCKET, result, System.nanoTime() - start);
+        return result;
+    }
 
-        if (currentMission != null) {
-            currentMission.getRockets().remove(rocket);
-            updateMissionStatus(currentMission);
-        } else {
-            rocket.setStatus(RocketStatus.IN_SPACE);
+    private OperationResult applyAssignRocketToMission(String rocketName, String missionName) {
+        Rocket rocket = rocketRepository.getRocket(rocketName);
+        if (rocket == null) {
+            return OperationResult.ROCKET_NOT_FOUND;
+        }
+
+        Mission mission = missionRepository.getMission(missionName);
+        if (mission == null) {
+            return OperationResult.MISSION_NOT_FOUND;
         }
 
-        mission.getRockets().add(rocket);
-        updateMissionStatus(mission);
+        long journalSequence;
+
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocketName)) {
+            // A concurrent removeRocket may have taken it out of the fleet while we waited for the lock
+            if (rocketRepository.getRocket(rocketName) != rocket) {
+                return OperationResult.ROCKET_NOT_FOUND;
+            }
+            Mission currentMission = findMissionForRocket(rocket);
+
+            try (StripedLocks.Guard ignoredMissions = missionLocks.lock(missionName, missionNameOf(currentMission))) {
+                OperationResult result = validateMissionForRocketAssignment(mission);
+                if (result == OperationResult.SUCCESS) {
+                    result = validateRocketForMissionAssignment(rocket, currentMission);
+                }
+                if (result != OperationResult.SUCCESS) {
+                    return result;
+                }
+
+                journalSequence = journal.logAssignRocket(rocketName, missionName);
+                if (events.isActive()) {
+                    events.publish(new FleetEvent.RocketAssigned(rocketName, missionNameOf(currentMission), missionName));
+                }
+
+                if (currentMission != null) {
+                    missionRepository.removeRocketFromMission(rocket, currentMission);
+                    // Like the bulk path, a rocket reassigned to its own mission never leaves it in between
+                    if (currentMission != mission) {
+                        updateMissionStatus(currentMission);
+                    }
+                } else {
+                    setRocketStatus(rocket, RocketStatus.IN_SPACE);
+                }
+
+                missionRepository.addRocketToMission(rocket, mission);
+                updateMissionStatus(mission);
+                publish(currentMission != null && currentMission != mission ? List.of(currentMission, mission) : List.of(mission));
+            }
+        }
+        syncJournal(journalSequence);
+        return OperationResult.SUCCESS;
     }
 
+    // All-or-nothing: every rocket is validated before any of them is moved
     public void assignRocketsToMission(List<String> rocketNames, String missionName) throws SpaceXException {
+        tryAssignRocketsToMission(rocketNames, missionName).throwIfFailed();
+    }
+
+    public OperationResult tryAssignRocketsToMission(List<String> rocketNames, String missionName) {
+        if (!metrics.isEnabled()) {
+            return applyAssignRocketsToMission(rocketNames, missionName);
+        }
+
+        long start = System.nanoTime();
+        OperationResult result = applyAssignRocketsToMission(rocketNames, missionName);
+        metrics.recordOperation(FleetOperation.ASSIGN_ROCKETS, result, System.nanoTime() - start);
+        return result;
+    }
+
+    private OperationResult applyAssignRocketsToMission(List<String> rocketNames, String missionName) {
+        Map<String, Rocket> rockets = new LinkedHashMap<>(capacityFor(rocketNames.size()));
+        for (String rocketName : rocketNames) {
+            Rocket rocket = rocketRepository.getRocket(rocketName);
+            if (rocket == null) {
+                return OperationResult.ROCKET_NOT_FOUND;
+            }
+            // The last occurrence decides the position, same as assigning the rockets one by one
+            rockets.remove(rocketName);
+            rockets.put(rocketName, rocket);
+        }
+
+        if (rockets.isEmpty()) {
+            return OperationResult.SUCCESS;
+        }
+
+        Mission mission = missionRepository.getMission(missionName);
+        if (mission == null) {
+            return OperationResult.MISSION_NOT_FOUND;
+        }
+
+        long journalSequence;
+
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rockets.keySet())) {
+            for (Map.Entry<String, Rocket> entry : rockets.entrySet()) {
+                if (rocketRepository.getRocket(entry.getKey()) != entry.getValue()) {
+                    return OperationResult.ROCKET_NOT_FOUND;
+                }
+            }
+
+            Map<Mission, List<Rocket>> rocketsBySourceMission = new IdentityHashMap<>();
+            List<String> lockedMissionNames = new ArrayList<>();
+            lockedMissionNames.add(missionName);
+
+            for (Rocket rocket : rockets.values()) {
+                Mission currentMission = findMissionForRocket(rocket);
+                if (currentMission != null) {
+                    rocketsBySourceMission.computeIfAbsent(currentMission, source -> {
+                        lockedMissionNames.add(source.getName());
+                        return new ArrayList<>();
+                    }).add(rocket);
+                }
+            }
+
+            try (StripedLocks.Guard ignoredMissions = missionLocks.lock(lockedMissionNames)) {
+                OperationResult result = validateMissionForRocketAssignment(mission);
+                for (Rocket rocket : rockets.values()) {
+                    if (result != OperationResult.SUCCESS) {
+                        break;
+                    }
+                    result = validateRocketForMissionAssignment(rocket, findMissionForRocket(rocket));
+                }
+                if (result != OperationResult.SUCCESS) {
+                    return result;
+                }
+
+                journalSequence = journal.logAssignRockets(rockets.keySet(), missionName);
+                if (events.isActive()) {
+                    for (Rocket rocket : rockets.values()) {
+                        events.publish(new FleetEvent.RocketAssigned(rocket.getName(), missionNameOf(findMissionForRocket(rocket)), missionName));
+                    }
+                }
+                List<Mission> changedMissions = new ArrayList<>(rocketsBySourceMission.size() + 1);
+
+                for (Map.Entry<Mission, List<Rocket>> entry : rocketsBySourceMission.entrySet()) {
+                    Mission sourceMission = entry.getKey();
+                    for (Rocket rocket : entry.getValue()) {
+                        missionRepository.removeRocketFromMission(rocket, sourceMission);
+                    }
+
+                    if (sourceMission != mission) {
+                        updateMissionStatus(sourceMission);
+                        changedMissions.add(sourceMission);
+                    }
+                }
+
+                for (Rocket rocket : rockets.values()) {
+                    if (RocketStatus.ON_GROUND.equals(rocket.getStatus())) {
+                        setRocketStatus(rocket, RocketStatus.IN_SPACE);
+                    }
+                    missionRepository.addRocketToMission(rocket, mission);
+                }
+
+                updateMissionStatus(mission);
+                changedMissions.add(mission);
+                publish(changedMissions);
+            }
+        }
+        syncJournal(journalSequence);
+        return OperationResult.SUCCESS;
+    }
+
+    // Checks, without changing anything, that the mission exists and takes rockets, e.g. before moving rockets into it
+    // from another instance; the caller keeps the mission from changing until it acts on the result
+    public OperationResult validateAssignmentTarget(String missionName) {
+        Mission mission = missionRepository.getMission(missionName);
+        if (mission == null) {
+            return OperationResult.MISSION_NOT_FOUND;
+        }
+        return validateMissionForRocketAssignment(mission);
+    }
+
+    // Checks, without changing anything, that every rocket exists and may be assigned to a mission
+    public OperationResult validateAssignmentSources(List<String> rocketNames) {
         for (String rocketName : rocketNames) {
-            assignRocketToMission(rocketName, missionName);
+            Rocket rocket = rocketRepository.getRocket(rocketName);
+            if (rocket == null) {
+                return OperationResult.ROCKET_NOT_FOUND;
+            }
+
+            OperationResult result = validateRocketForMissionAssignment(rocket, findMissionForRocket(rocket));
+            if (result != OperationResult.SUCCESS) {
+                return result;
+            }
         }
+        return OperationResult.SUCCESS;
     }
 
     public void changeRocketStatus(String rocketName, RocketStatus newStatus) throws SpaceXException {
-        Rocket rocket = getRocketOrThrow(rocketName);
-        Mission currentMission = findMissionForRocket(rocket);
+        tryChangeRocketStatus(rocketName, newStatus).throwIfFailed();
+    }
 
-        validateRocketStatusChange(rocket, newStatus);
+    public OperationResult tryChangeRocketStatus(String rocketName, RocketStatus newStatus) {
+        if (!metrics.isEnabled()) {
+            return applyChangeRocketStatus(rocketName, newStatus);
+        }
 
-        rocket.setStatus(newStatus);
+        long start = System.nanoTime();
+        OperationResult result = applyChangeRocketStatus(rocketName, newStatus);
+        metrics.recordOperation(FleetOperation.CHANGE_ROCKET_STATUS, result, System.nanoTime() - start);
+        return result;
+    }
+
+    private OperationResult applyChangeRocketStatus(String rocketName, RocketStatus newStatus) {
+        Rocket rocket = rocketRepository.getRocket(rocketName);
+        if (rocket == null) {
+            return OperationResult.ROCKET_NOT_FOUND;
+        }
+
+        long journalSequence;
+
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocketName)) {
+            if (rocketRepository.getRocket(rocketName) != rocket) {
+                return OperationResult.ROCKET_NOT_FOUND;
+            }
+            Mission currentMission = findMissionForRocket(rocket);
+
+            try (StripedLocks.Guard ignoredMissions = missionLocks.lock(missionNameOf(currentMission))) {
+                OperationResult result = validateRocketStatusChange(rocket, newStatus);
+                if (result != OperationResult.SUCCESS) {
+                    return result;
+                }
 
-        if (currentMission != null) {
-            if (RocketStatus.ON_GROUND.equals(newStatus)) {
-                currentMission.getRockets().remove(rocket);
+                journalSequence = journal.logChangeRocketStatus(rocketName, newStatus);
+                if (events.isActive() && rocket.getStatus() != newStatus) {
+                    events.publish(new FleetEvent.RocketStatusChanged(rocketName, rocket.getStatus(), newStatus));
+                }
+                recordRocketTransition(rocketName, rocket.getStatus(), newStatus);
+                rocketsByStatus.move(rocketName, rocket.getStatus(), newStatus);
+
+                if (currentMission == null) {
+                    rocket.setStatus(newStatus);
+                } else {
+                    if (RocketStatus.ON_GROUND.equals(newStatus)) {
+                        missionRepository.removeRocketFromMission(rocket, currentMission);
+                        rocket.setStatus(newStatus);
+                    } else {
+                        missionRepository.changeRocketStatus(rocket, newStatus);
+                    }
+                    updateMissionStatus(currentMission);
+                    publish(List.of(currentMission));
+                }
             }
-            updateMissionStatus(currentMission);
         }
+        syncJournal(journalSequence);
+        return OperationResult.SUCCESS;
     }
 
-    private Rocket getRocketOrThrow(String rocketName) throws SpaceXException {
-        return Optional.ofNullable(rocketRepository.getRocket(rocketName))
-                .orElseThrow(() -> new SpaceXException(ROCKET_NOT_FOUND));
+    // Takes the rocket out of its mission, if any, and out of the fleet, e.g. to hand it over to another instance
+    public void removeRocket(String rocketName) throws SpaceXException {
+        tryRemoveRocket(rocketName).throwIfFailed();
     }
 
-    private Mission getMissionOrThrow(String missionName) throws SpaceXException {
-        return Optional.ofNullable(missionRepository.getMission(missionName))
-                .orElseThrow(() -> new SpaceXException(MISSION_NOT_FOUND));
+    public OperationResult tryRemoveRocket(String rocketName) {
+        Rocket rocket = rocketRepository.getRocket(rocketName);
+        if (rocket == null) {
+            return OperationResult.ROCKET_NOT_FOUND;
+        }
+
+        long journalSequence;
+
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocketName)) {
+            Mission currentMission = findMissionForRocket(rocket);
+
+            try (StripedLocks.Guard ignoredMissions = missionLocks.lock(missionNameOf(currentMission))) {
+                // Another caller may have removed it while we waited for the lock
+                if (rocketRepository.getRocket(rocketName) != rocket) {
+                    return OperationResult.ROCKET_NOT_FOUND;
+                }
+
+                journalSequence = journal.logRemoveRocket(rocketName);
+                if (currentMission != null) {
+                    missionRepository.removeRocketFromMission(rocket, currentMission);
+                    updateMissionStatus(currentMission);
+                    publish(List.of(currentMission));
+                }
+                rocketRepository.removeRocket(rocketName);
+                rocketsByStatus.remove(rocketName, rocket.getStatus());
+            }
+        }
+        syncJournal(journalSequence);
+        return OperationResult.SUCCESS;
+    }
+
+    // Adds a rocket straight into the mission, keeping its status, so a rocket handed over by another instance arrives
+    // as it left; a rocket on the ground goes into space as with assignRocketToMission
+    public void addRocketToMission(Rocket rocket, String missionName) throws SpaceXException {
+        tryAddRocketToMission(rocket, missionName).throwIfFailed();
+    }
+
+    public OperationResult tryAddRocketToMission(Rocket rocket, String missionName) {
+        Mission mission = missionRepository.getMission(missionName);
+        if (mission == null) {
+            return OperationResult.MISSION_NOT_FOUND;
+        }
+
+        long journalSequence;
+
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocket.getName());
+             StripedLocks.Guard ignoredMissions = missionLocks.lock(missionName)) {
+            if (rocketRepository.getRocket(rocket.getName()) != null) {
+                return OperationResult.ROCKET_ALREADY_EXISTS;
+            }
+            OperationResult result = validateMissionForRocketAssignment(mission);
+            if (result != OperationResult.SUCCESS) {
+                return result;
+            }
+
+            journalSequence = journal.logAddRocketToMission(rocket.getName(), rocket.getStatus(), missionName);
+            if (events.isActive()) {
+                events.publish(new FleetEvent.RocketAssigned(rocket.getName(), null, missionName));
+            }
+
+            rocketRepository.addRocket(rocket);
+            rocketsByStatus.add(rocket.getName(), rocket.getStatus());
+            if (RocketStatus.ON_GROUND.equals(rocket.getStatus())) {
+                setRocketStatus(rocket, RocketStatus.IN_SPACE);
+            }
+
+            missionRepository.addRocketToMission(rocket, mission);
+            updateMissionStatus(mission);
+            publish(List.of(mission));
+        }
+        syncJournal(journalSequence);
+        return OperationResult.SUCCESS;
+    }
+
+    // Listeners get batches of events on a separate thread, so a slow listener never delays a mutation
+    public void addEventListener(FleetEventListener listener) {
+        events.addListener(listener);
+    }
+
+    public void removeEventListener(FleetEventListener listener) {
+        events.removeListener(listener);
+    }
+
+    // Delivers the events already published and stops the event thread; the service stays usable without events
+    public void close() {
+        events.close();
+    }
+
+    // Summaries that rebuild or join at least this many missions are formatted on the common fork/join pool
+    public void setParallelSummaryThreshold(int missionCount) {
+        missionSummaryCache.setParallelThreshold(missionCount);
+    }
+
+    public void setMetrics(FleetMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    // Null turns the history off; transitions made while it is off are not recorded
+    public void setStatusHistory(FleetStatusHistory statusHistory) {
+        this.statusHistory = statusHistory;
+    }
+
+    // Recorded transitions of the rocket in [from, to), oldest first
+    public List<StatusTransition<RocketStatus>> getRocketStatusHistory(String rocketName, Instant from, Instant to) throws SpaceXException {
+        FleetStatusHistory history = requireStatusHistory();
+        if (rocketRepository.getRocket(rocketName) == null) {
+            throw new SpaceXException(ROCKET_NOT_FOUND);
+        }
+        return history.getRocketHistory().getTransitions(rocketName, from, to);
+    }
+
+    public List<StatusTransition<MissionStatus>> getMissionStatusHistory(String missionName, Instant from, Instant to) throws SpaceXException {
+        FleetStatusHistory history = requireStatusHistory();
+        if (missionRepository.getMission(missionName) == null) {
+            throw new SpaceXException(MISSION_NOT_FOUND);
+        }
+        return history.getMissionHistory().getTransitions(missionName, from, to);
+    }
+
+    // Holds the rocket's lock, so its current status matches the latest recorded transition
+    public Duration getRocketTimeInStatus(String rocketName, RocketStatus status, Instant from, Instant to) throws SpaceXException {
+        FleetStatusHistory history = requireStatusHistory();
+        Rocket rocket = rocketRepository.getRocket(rocketName);
+        if (rocket == null) {
+            throw new SpaceXException(ROCKET_NOT_FOUND);
+        }
+
+        try (StripedLocks.Guard ignored = rocketLocks.lock(rocketName)) {
+            return history.getRocketHistory().getTimeInStatus(rocketName, status, rocket.getStatus(), from, to);
+        }
+    }
+
+    public Duration getMissionTimeInStatus(String missionName, MissionStatus status, Instant from, Instant to) throws SpaceXException {
+        FleetStatusHistory history = requireStatusHistory();
+        Mission mission = missionRepository.getMission(missionName);
+        if (mission == null) {
+            throw new SpaceXException(MISSION_NOT_FOUND);
+        }
+
+        try (StripedLocks.Guard ignored = missionLocks.lock(missionName)) {
+            return history.getMissionHistory().getTimeInStatus(missionName, status, mission.getStatus(), from, to);
+        }
+    }
+
+    private FleetStatusHistory requireStatusHistory() {
+        FleetStatusHistory history = statusHistory;
+        if (history == null) {
+            throw new IllegalStateException("Status history is not enabled");
+        }
+        return history;
+    }
+
+    // Runs the action while no mutation is in flight, e.g. to capture a consistent snapshot
+    public <T> T quiesce(Supplier<T> action) {
+        try (StripedLocks.Guard ignored = rocketLocks.lockAll();
+             StripedLocks.Guard ignoredMissions = missionLocks.lockAll()) {
+            return action.get();
+        }
+    }
+
+    // The mutation is already applied in memory, so a failed sync is reported as unchecked
+    // Runs after the locks are released, so a failure here cannot undo the mutation
+    private void syncJournal(long journalSequence) {
+        try {
+            journal.sync(journalSequence);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
     }
 
     private Mission findMissionForRocket(Rocket rocket) {
-        return missionRepository.getAllMissions().values().stream()
-                .filter(mission -> mission.getRockets().contains(rocket))
-                .findFirst()
-                .orElse(null);
+        return missionRepository.getMissionForRocket(rocket.getName());
+    }
+
+    private static String missionNameOf(Mission mission) {
+        return mission != null ? mission.getName() : null;
     }
 
     // Validate mission for rocket assignment
-    private void validateMissionForRocketAssignment(Mission mission) throws SpaceXException {
+    private OperationResult validateMissionForRocketAssignment(Mission mission) {
         if (MissionStatus.ENDED.equals(mission.getStatus())) {
-            throw new SpaceXException(MISSION_NOT_AVAILABLE);
+            return OperationResult.MISSION_NOT_AVAILABLE;
         }
+        return OperationResult.SUCCESS;
     }
 
     // Validate rocket for mission assignment
-    private void validateRocketForMissionAssignment(Rocket rocket, Mission currentMission) throws SpaceXException {
+    private OperationResult validateRocketForMissionAssignment(Rocket rocket, Mission currentMission) {
         if (!RocketStatus.ON_GROUND.equals(rocket.getStatus()) && currentMission == null) {
-            throw new SpaceXException(ROCKET_NOT_AVAILABLE);
+            return OperationResult.ROCKET_NOT_AVAILABLE;
         }
+        return OperationResult.SUCCESS;
     }
 
     // Validate rocket status change
-    private void validateRocketStatusChange(Rocket rocket, RocketStatus newStatus) throws SpaceXException {
+    private OperationResult validateRocketStatusChange(Rocket rocket, RocketStatus newStatus) {
         if ((RocketStatus.IN_SPACE.equals(newStatus) || RocketStatus.IN_REPAIR.equals(newStatus)) && !isRocketAssignedToMission(rocket)) {
-            throw new SpaceXException(ErrorMessages.ROCKET_CANNOT_BE_IN_SPACE_OR_IN_REPAIR_WITHOUT_MISSION);
+            return OperationResult.ROCKET_CANNOT_BE_IN_SPACE_OR_IN_REPAIR_WITHOUT_MISSION;
         }
+        return OperationResult.SUCCESS;
     }
 
     // Check if a rocket is assigned to any mission
     private boolean isRocketAssignedToMission(Rocket rocket) {
-        return missionRepository.getAllMissions().values().stream()
-                .anyMatch(mission -> mission.getRockets().contains(rocket));
+        return missionRepository.getMissionForRocket(rocket.getName()) != null;
     }
 
     // Update the mission status based on the status of its rockets
     private void updateMissionStatus(Mission mission) {
+        MissionStatus oldStatus = mission.getStatus();
+
         if (mission.getRockets().isEmpty()) {
             mission.setStatus(MissionStatus.ENDED);
 
-        } else if (mission.getRockets().stream().anyMatch(rocket -> rocket.getStatus() == RocketStatus.IN_REPAIR)) {
+        } else if (mission.countRockets(RocketStatus.IN_REPAIR) > 0) {
             mission.setStatus(MissionStatus.PENDING);
 
         } else {
             mission.setStatus(MissionStatus.IN_PROGRESS);
         }
+
+        if (events.isActive() && mission.getStatus() != oldStatus) {
+            events.publish(new FleetEvent.MissionStatusChanged(mission.getName(), oldStatus, mission.getStatus()));
+        }
+        FleetStatusHistory history = statusHistory;
+        if (history != null && mission.getStatus() != oldStatus) {
+            history.getMissionHistory().record(mission.getName(), oldStatus, mission.getStatus());
+        }
+        missionsByStatus.move(mission.getName(), oldStatus, mission.getStatus());
+    }
+
+    private void setRocketStatus(Rocket rocket, RocketStatus newStatus) {
+        if (events.isActive()) {
+            events.publish(new FleetEvent.RocketStatusChanged(rocket.getName(), rocket.getStatus(), newStatus));
+        }
+        recordRocketTransition(rocket.getName(), rocket.getStatus(), newStatus);
+        rocketsByStatus.move(rocket.getName(), rocket.getStatus(), newStatus);
+        rocket.setStatus(newStatus);
+    }
+
+    private void recordRocketTransition(String rocketName, RocketStatus oldStatus, RocketStatus newStatus) {
+        FleetStatusHistory history = statusHistory;
+        if (history != null && oldStatus != newStatus) {
+            history.getRocketHistory().record(rocketName, oldStatus, newStatus);
+        }
+    }
+
+    // Makes the current state of the missions visible to readers as one new version; the caller holds their locks
+    private void publish(Collection<Mission> missions) {
+        List<MissionView> views = new ArrayList<>(missions.size());
+        for (Mission mission : missions) {
+            views.add(MissionView.of(mission));
+        }
+
+        publishLock.lock();
+        try {
+            FleetView next = fleetView.get().withMissions(views);
+            for (MissionView view : views) {
+                missionSummaryCache.invalidate(view.name(), next.getVersion());
+            }
+            fleetView.set(next);
+        } finally {
+            publishLock.unlock();
+        }
+    }
+
+    // Immutable and consistent; later mutations publish new views instead of changing this one
+    public FleetView getFleetView() {
+        return fleetView.get();
     }
 
     public String getMissionSummary() {
-        List<Mission> sortedMissions = missionRepository.getAllMissions().values().stream()
-                .sorted(Comparator.comparingInt((Mission m) -> -m.getRockets().size())
-                        .thenComparing(Mission::getName, Comparator.reverseOrder()))
-                .toList();
+        if (!metrics.isEnabled()) {
+            return missionSummaryCache.getSummary(fleetView.get());
+        }
+
+        long start = System.nanoTime();
+        String summary = missionSummaryCache.getSummary(fleetView.get());
+        metrics.recordOperation(FleetOperation.GET_MISSION_SUMMARY, OperationResult.SUCCESS, System.nanoTime() - start);
+        return summary;
+    }
+
+    // Names of the rockets with the status, as a live view that follows later mutations
+    public Set<String> getRocketNamesByStatus(RocketStatus status) {
+        return rocketsByStatus.getNames(status);
+    }
+
+    public Set<String> getMissionNamesByStatus(MissionStatus status) {
+        return missionsByStatus.getNames(status);
+    }
+
+    public int countRockets(RocketStatus status) {
+        return rocketsByStatus.count(status);
+    }
+
+    public int countMissions(MissionStatus status) {
+        return missionsByStatus.count(status);
+    }
 
-        return MissionSummaryFormatter.formatMissions(sortedMissions);
+    @Override
+    public Map<RocketStatus, Integer> countRocketsByStatus() {
+        Map<RocketStatus, Integer> counts = new EnumMap<>(RocketStatus.class);
+        for (RocketStatus status : RocketStatus.values()) {
+            counts.put(status, rocketsByStatus.count(status));
+        }
+        return counts;
+    }
+
+    @Override
+    public Map<MissionStatus, Integer> countMissionsByStatus() {
+        Map<MissionStatus, Integer> counts = new EnumMap<>(MissionStatus.class);
+        for (MissionStatus status : MissionStatus.values()) {
+            counts.put(status, missionsByStatus.count(status));
+        }
+        return counts;
+    }
+
+    public String getTopMissionSummary(int limit) throws SpaceXException {
+        return getMissionSummaryPage(null, limit).summary();
+    }
+
+    // The cursor is the position of the last mission of the previous page, so pages stay stable while missions change
+    public MissionSummaryPage getMissionSummaryPage(String cursor, int limit) throws SpaceXException {
+        if (limit <= 0) {
+            return new MissionSummaryPage("", cursor);
+        }
+
+        MissionSummaryCache.SummaryKey after = parseCursor(cursor);
+        List<Map.Entry<MissionSummaryCache.SummaryKey, String>> page = missionSummaryCache.getPage(fleetView.get(), after, limit);
+
+        int size = Math.min(page.size(), limit);
+        StringBuilder summary = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                summary.append('\n');
+            }
+            summary.append(page.get(i).getValue());
+        }
+
+        String nextCursor = page.size() > limit ? page.get(limit - 1).getKey().toCursor() : null;
+        return new MissionSummaryPage(summary.toString(), nextCursor);
+    }
+
+    private MissionSummaryCache.SummaryKey parseCursor(String cursor) throws SpaceXException {
+        if (cursor == null) {
+            return null;
+        }
+
+        try {
+            return MissionSummaryCache.SummaryKey.fromCursor(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new SpaceXException(SUMMARY_CURSOR_NOT_VALID);
+        }
+    }
+
+    // One formatted block per mission in summary order, all from the same view
+    public List<String> getMissionSummaryBlocks() {
+        return missionSummaryCache.getBlocks(fleetView.get());
+    }
+
+    // Same blocks with their sort keys, so summaries of several instances can be merged in summary order
+    public List<MissionSummaryBlock> getKeyedMissionSummaryBlocks() {
+        return missionSummaryCache.getKeyedBlocks(fleetView.get());
+    }
+
+    public void writeMissionSummary(Appendable target) throws IOException {
+        List<String> blocks = getMissionSummaryBlocks();
+
+        for (int i = 0; i < blocks.size(); i++) {
+            if (i > 0) {
+                target.append('\n');
+            }
+            target.append(blocks.get(i));
+        }
     }
-}
\ No newline at end of file
+}
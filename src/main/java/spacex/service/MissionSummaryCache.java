@@ -0,0 +1,268 @@
+package spacex.service;
+
+import spacex.domain.FleetView;
+import spacex.domain.MissionSummaryBlock;
+import spacex.domain.MissionView;
+import spacex.util.MissionSummaryFormatter;
+import spacex.util.ParallelSummaryFormatter;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Keeps missions in summary order with their formatted blocks, rebuilding only the missions changed since the last read.
+// The blocks always reflect exactly one FleetView version, so a summary never mixes two versions of the fleet.
+class MissionSummaryCache {
+
+    // Guards everything but dirtyMissions. Not a monitor, so virtual threads waiting for a summary, which may fork/join
+    // while holding it, do not pin their carriers
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Mission name to the version of its latest change
+    private final Map<String, Long> dirtyMissions = new ConcurrentHashMap<>();
+    private final NavigableMap<SummaryKey, String> blocks = new TreeMap<>();
+    private final Map<String, SummaryKey> keysByMission = new HashMap<>();
+
+    // The view the blocks reflect
+    private FleetView cachedView;
+
+    // Joined lazily, so streaming callers never pay for the full summary string
+    private String summary;
+
+    // From this many changed missions (or blocks to join) on, the work is spread over the common fork/join pool
+    private int parallelThreshold = ParallelSummaryFormatter.DEFAULT_THRESHOLD;
+
+    void setParallelThreshold(int parallelThreshold) {
+        lock.lock();
+        try {
+            if (parallelThreshold <= 0) {
+                throw new IllegalArgumentException("Parallel threshold must be positive: " + parallelThreshold);
+            }
+            this.parallelThreshold = parallelThreshold;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Called before the view of the given version is published
+    void invalidate(String missionName, long version) {
+        dirtyMissions.put(missionName, version);
+    }
+
+    String getSummary(FleetView view) {
+        lock.lock();
+        try {
+            refresh(view);
+            if (summary == null) {
+                summary = joinBlocks();
+            }
+
+            return summary;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns the formatted blocks in summary order; the blocks are immutable, so they can be written without locks
+    List<String> getBlocks(FleetView view) {
+        lock.lock();
+        try {
+            refresh(view);
+            return new ArrayList<>(blocks.values());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    List<MissionSummaryBlock> getKeyedBlocks(FleetView view) {
+        lock.lock();
+        try {
+            refresh(view);
+            List<MissionSummaryBlock> keyedBlocks = new ArrayList<>(blocks.size());
+            for (Map.Entry<SummaryKey, String> entry : blocks.entrySet()) {
+                keyedBlocks.add(new MissionSummaryBlock(entry.getKey().rocketCount(), entry.getKey().missionName(), entry.getValue()));
+            }
+            return keyedBlocks;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Returns at most limit blocks following the given key in summary order, plus one more to tell if a next page exists
+    List<Map.Entry<SummaryKey, String>> getPage(FleetView view, SummaryKey after, int limit) {
+        lock.lock();
+        try {
+            refresh(view);
+
+            NavigableMap<SummaryKey, String> tail = after != null ? blocks.tailMap(after, false) : blocks;
+            // Bounded by the cached blocks before adding the lookahead entry, so a limit of Integer.MAX_VALUE cannot overflow
+            List<Map.Entry<SummaryKey, String>> page = new ArrayList<>(Math.min(limit, blocks.size() - 1) + 1);
+
+            for (Map.Entry<SummaryKey, String> entry : tail.entrySet()) {
+                if (page.size() > limit) {
+                    break;
+                }
+                page.add(entry);
+            }
+
+            return page;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // A reader with an older view than the cache gets the newer cached version instead, which is just as consistent
+    private void refresh(FleetView view) {
+        if (cachedView != null && view.getVersion() < cachedView.getVersion()) {
+            view = cachedView;
+        }
+        cachedView = view;
+
+        if (dirtyMissions.size() >= parallelThreshold) {
+            refreshInParallel(view);
+            return;
+        }
+
+        for (Map.Entry<String, Long> entry : dirtyMissions.entrySet()) {
+            String missionName = entry.getKey();
+            clearMark(entry, view);
+            rebuild(missionName, view.getMission(missionName));
+        }
+    }
+
+    // A newer mark belongs to a change the view does not include yet; it stays for the next refresh, but the
+    // mission is still rebuilt from this view in case it also changed before it
+    private void clearMark(Map.Entry<String, Long> entry, FleetView view) {
+        if (entry.getValue() <= view.getVersion()) {
+            dirtyMissions.remove(entry.getKey(), entry.getValue());
+        }
+    }
+
+    // Formats the changed missions on the fork/join pool; a cold cache is also sorted in parallel and joined directly
+    private void refreshInParallel(FleetView view) {
+        List<MissionView> missions = new ArrayList<>(dirtyMissions.size());
+        List<String> removedMissions = new ArrayList<>();
+
+        for (Map.Entry<String, Long> entry : dirtyMissions.entrySet()) {
+            clearMark(entry, view);
+            MissionView mission = view.getMission(entry.getKey());
+            if (mission != null) {
+                missions.add(mission);
+            } else {
+                removedMissions.add(entry.getKey());
+            }
+        }
+
+        String[] newBlocks = ParallelSummaryFormatter.formatBlocks(missions, MissionSummaryFormatter::formatMission);
+
+        if (blocks.isEmpty()) {
+            buildSorted(missions, newBlocks);
+            return;
+        }
+
+        for (int i = 0; i < missions.size(); i++) {
+            rebuild(missions.get(i).name(), missions.get(i), newBlocks[i]);
+        }
+        for (String missionName : removedMissions) {
+            rebuild(missionName, null, null);
+        }
+    }
+
+    private void buildSorted(List<MissionView> missions, String[] newBlocks) {
+        KeyedBlock[] entries = new KeyedBlock[missions.size()];
+        for (int i = 0; i < entries.length; i++) {
+            MissionView mission = missions.get(i);
+            entries[i] = new KeyedBlock(new SummaryKey(mission.rockets().size(), mission.name()), newBlocks[i]);
+        }
+        Arrays.parallelSort(entries, Comparator.comparing(KeyedBlock::key));
+
+        String[] sortedBlocks = new String[entries.length];
+        for (int i = 0; i < entries.length; i++) {
+            sortedBlocks[i] = entries[i].block();
+            blocks.put(entries[i].key(), entries[i].block());
+            keysByMission.put(entries[i].key().missionName(), entries[i].key());
+        }
+
+        summary = ParallelSummaryFormatter.join(sortedBlocks);
+    }
+
+    private void rebuild(String missionName, MissionView mission) {
+        rebuild(missionName, mission, mission != null ? MissionSummaryFormatter.formatMission(mission) : null);
+    }
+
+    private void rebuild(String missionName, MissionView mission, String newBlock) {
+        SummaryKey oldKey = keysByMission.remove(missionName);
+        String oldBlock = oldKey != null ? blocks.remove(oldKey) : null;
+
+        if (mission == null) {
+            if (oldKey != null) {
+                summary = null;
+            }
+            return;
+        }
+
+        SummaryKey newKey = new SummaryKey(mission.rockets().size(), missionName);
+        keysByMission.put(missionName, newKey);
+        blocks.put(newKey, newBlock);
+
+        if (!newKey.equals(oldKey) || !newBlock.equals(oldBlock)) {
+            summary = null;
+        }
+    }
+
+    private String joinBlocks() {
+        if (blocks.size() >= parallelThreshold) {
+            return ParallelSummaryFormatter.join(blocks.values().toArray(String[]::new));
+        }
+
+        int length = Math.max(blocks.size() - 1, 0);
+        for (String block : blocks.values()) {
+            length += block.length();
+        }
+
+        StringBuilder builder = new StringBuilder(length);
+        for (String block : blocks.values()) {
+            if (!builder.isEmpty()) {
+                builder.append('\n');
+            }
+            builder.append(block);
+        }
+
+        return builder.toString();
+    }
+
+    // Ordered like MissionSummaryBlock.SUMMARY_ORDER
+    record SummaryKey(int rocketCount, String missionName) implements Comparable<SummaryKey> {
+
+        private static final char CURSOR_SEPARATOR = ':';
+
+        static SummaryKey fromCursor(String cursor) {
+            int separator = cursor.indexOf(CURSOR_SEPARATOR);
+            if (separator <= 0) {
+                throw new IllegalArgumentException(cursor);
+            }
+
+            return new SummaryKey(Integer.parseInt(cursor.substring(0, separator)), cursor.substring(separator + 1));
+        }
+
+        String toCursor() {
+            return Integer.toString(rocketCount) + CURSOR_SEPARATOR + missionName;
+        }
+
+        @Override
+        public int compareTo(SummaryKey other) {
+            return MissionSummaryBlock.compareSummaryOrder(rocketCount, missionName, other.rocketCount, other.missionName);
+        }
+    }
+
+    // Typed pair for the parallel sort of a cold build, so no generic array is needed
+    private record KeyedBlock(SummaryKey key, String block) {
+    }
+}
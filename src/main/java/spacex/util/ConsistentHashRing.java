@@ -0,0 +1,62 @@
+package spacex.util;
+
+import java.util.Arrays;
+
+// Maps names to nodes by consistent hashing. Every node owns many points on a 64-bit ring and a name belongs to the
+// first point at or after its hash, so adding a node would move only about 1/n of the names.
+public class ConsistentHashRing {
+
+    public static final int DEFAULT_POINTS_PER_NODE = 128;
+
+    private final long[] points;
+    private final int[] owners;
+
+    public ConsistentHashRing(int nodeCount) {
+        this(nodeCount, DEFAULT_POINTS_PER_NODE);
+    }
+
+    public ConsistentHashRing(int nodeCount, int pointsPerNode) {
+        if (nodeCount <= 0) {
+            throw new IllegalArgumentException("Node count must be positive: " + nodeCount);
+        }
+        if (pointsPerNode <= 0) {
+            throw new IllegalArgumentException("Points per node must be positive: " + pointsPerNode);
+        }
+
+        long[] unsorted = new long[nodeCount * pointsPerNode];
+        for (int node = 0; node < nodeCount; node++) {
+            for (int point = 0; point < pointsPerNode; point++) {
+                unsorted[node * pointsPerNode + point] = mix(((long) node << 32) | point);
+            }
+        }
+
+        // Sort the points and carry their owners along
+        Integer[] order = new Integer[unsorted.length];
+        for (int i = 0; i < order.length; i++) {
+            order[i] = i;
+        }
+        Arrays.sort(order, (left, right) -> Long.compare(unsorted[left], unsorted[right]));
+
+        this.points = new long[unsorted.length];
+        this.owners = new int[unsorted.length];
+        for (int i = 0; i < order.length; i++) {
+            points[i] = unsorted[order[i]];
+            owners[i] = order[i] / pointsPerNode;
+        }
+    }
+
+    public int nodeOf(String name) {
+        int index = Arrays.binarySearch(points, mix(name.hashCode()));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    // SplitMix64 finalizer, spreads similar names like "Dragon 1" and "Dragon 2" over the whole ring
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xBF58476D1CE4E5B9L;
+        value = (value ^ (value >>> 27)) * 0x94D049BB133111EBL;
+        return value ^ (value >>> 31);
+    }
+}
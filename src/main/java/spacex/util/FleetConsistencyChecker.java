@@ -0,0 +1,55 @@
+package spacex.util;
+
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.repository.MissionRepository;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Recomputes the derived mission state from scratch and reports every place where it disagrees with the maintained one
+public class FleetConsistencyChecker {
+
+    public static List<String> findViolations(MissionRepository missionRepository) {
+        List<String> violations = new ArrayList<>();
+
+        for (Mission mission : missionRepository.getAllMissions().values()) {
+            checkRocketStatusCounts(mission, violations);
+            checkMissionStatus(mission, violations);
+
+            for (Rocket rocket : mission.getRockets()) {
+                Mission indexedMission = missionRepository.getMissionForRocket(rocket.getName());
+                if (indexedMission != mission) {
+                    violations.add(String.format("Rocket %s is in mission %s but indexed to %s",
+                            rocket.getName(), mission.getName(), indexedMission != null ? indexedMission.getName() : null));
+                }
+            }
+        }
+
+        return violations;
+    }
+
+    private static void checkRocketStatusCounts(Mission mission, List<String> violations) {
+        for (RocketStatus status : RocketStatus.values()) {
+            long actual = mission.getRockets().stream().filter(rocket -> rocket.getStatus() == status).count();
+            if (actual != mission.countRockets(status)) {
+                violations.add(String.format("Mission %s counts %d rockets %s but has %d",
+                        mission.getName(), mission.countRockets(status), status, actual));
+            }
+        }
+    }
+
+    private static void checkMissionStatus(Mission mission, List<String> violations) {
+        if (mission.getRockets().isEmpty()) {
+            return;
+        }
+
+        boolean anyInRepair = mission.getRockets().stream().anyMatch(rocket -> rocket.getStatus() == RocketStatus.IN_REPAIR);
+        MissionStatus expected = anyInRepair ? MissionStatus.PENDING : MissionStatus.IN_PROGRESS;
+        if (mission.getStatus() != expected) {
+            violations.add(String.format("Mission %s is %s but should be %s", mission.getName(), mission.getStatus(), expected));
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package spacex.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+// NameIndex laid out in a fixed-size (typically memory-mapped) buffer so it survives restarts:
+// [size, arenaSize][slots: int per table entry][offsets: int per entry + 1][arena: UTF-8 name bytes]
+public class MappedNameIndex {
+
+    private static final int SIZE_POSITION = 0;
+    private static final int ARENA_SIZE_POSITION = 4;
+    private static final int HEADER_BYTES = 8;
+
+    private final ByteBuffer buffer;
+    private final int maxEntries;
+    private final int arenaCapacity;
+    private final int tableSize;
+    private final int offsetsStart;
+    private final int arenaStart;
+
+    public MappedNameIndex(ByteBuffer buffer, int maxEntries, int arenaCapacity) {
+        this.buffer = buffer;
+        this.maxEntries = maxEntries;
+        this.arenaCapacity = arenaCapacity;
+        this.tableSize = tableSizeFor(maxEntries);
+        this.offsetsStart = HEADER_BYTES + tableSize * 4;
+        this.arenaStart = offsetsStart + (maxEntries + 1) * 4;
+    }
+
+    public static long regionBytes(int maxEntries, int arenaCapacity) {
+        return HEADER_BYTES + (long) tableSizeFor(maxEntries) * 4 + (long) (maxEntries + 1) * 4 + arenaCapacity;
+    }
+
+    public int size() {
+        return buffer.getInt(SIZE_POSITION);
+    }
+
+    public String nameOf(int id) {
+        int offset = offset(id);
+        byte[] bytes = new byte[offset(id + 1) - offset];
+        buffer.get(arenaStart + offset, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    public int idOf(String name) {
+        byte[] encoded = NameIndex.isAscii(name) ? null : name.getBytes(StandardCharsets.UTF_8);
+        return find(name, encoded, NameIndex.hash(name, encoded));
+    }
+
+    // Returns the id of the new name, or NO_ID if the name is already interned
+    public int add(String name) {
+        byte[] encoded = NameIndex.isAscii(name) ? null : name.getBytes(StandardCharsets.UTF_8);
+        int hash = NameIndex.hash(name, encoded);
+        if (find(name, encoded, hash) != NameIndex.NO_ID) {
+            return NameIndex.NO_ID;
+        }
+
+        int size = size();
+        int arenaSize = buffer.getInt(ARENA_SIZE_POSITION);
+        int length = encoded != null ? encoded.length : name.length();
+
+        if (size == maxEntries || arenaSize + length > arenaCapacity) {
+            throw new IllegalStateException("Name index is full: " + size + " names, " + arenaSize + " bytes");
+        }
+
+        if (encoded != null) {
+            buffer.put(arenaStart + arenaSize, encoded);
+        } else {
+            for (int i = 0; i < length; i++) {
+                buffer.put(arenaStart + arenaSize + i, (byte) name.charAt(i));
+            }
+        }
+
+        buffer.putInt(offsetsStart + (size + 1) * 4, arenaSize + length);
+        buffer.putInt(ARENA_SIZE_POSITION, arenaSize + length);
+
+        int mask = tableSize - 1;
+        int slot = hash & mask;
+        while (buffer.getInt(HEADER_BYTES + slot * 4) != 0) {
+            slot = (slot + 1) & mask;
+        }
+        buffer.putInt(HEADER_BYTES + slot * 4, size + 1);
+
+        // Published last, so a torn write leaves the previous names intact
+        buffer.putInt(SIZE_POSITION, size + 1);
+        return size;
+    }
+
+    private int find(String name, byte[] encoded, int hash) {
+        int mask = tableSize - 1;
+        for (int slot = hash & mask; ; slot = (slot + 1) & mask) {
+            int entry = buffer.getInt(HEADER_BYTES + slot * 4);
+            if (entry == 0) {
+                return NameIndex.NO_ID;
+            }
+            if (matches(entry - 1, name, encoded)) {
+                return entry - 1;
+            }
+        }
+    }
+
+    private boolean matches(int id, String name, byte[] encoded) {
+        int offset = arenaStart + offset(id);
+        int length = offset(id + 1) - offset(id);
+
+        if (encoded != null) {
+            if (length != encoded.length) {
+                return false;
+            }
+            for (int i = 0; i < length; i++) {
+                if (buffer.get(offset + i) != encoded[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(offset + i) != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private int offset(int id) {
+        return buffer.getInt(offsetsStart + id * 4);
+    }
+
+    private static int tableSizeFor(int maxEntries) {
+        return NameIndex.tableSizeFor(Math.max(maxEntries, 16) / 3 * 4 + 1);
+    }
+}
@@ -1,35 +1,126 @@
 package spacex.util;
 
 import spacex.domain.Mission;
-import spacex.domain.Rocket;
+import spacex.domain.MissionStatus;
+import spacex.domain.MissionView;
+import spacex.domain.RocketStatus;
+import spacex.domain.RocketView;
 
+import java.io.IOException;
 import java.util.List;
-import java.util.stream.Collectors;
 
+// Appends the constant fragments, the enum status names and the rocket count straight into a StringBuilder, so
+// formatting a block allocates nothing but the resulting string. Other targets get each block from a per-thread buffer.
 public class MissionSummaryFormatter {
 
+    private static final String MISSION_BULLET = "• ";
+    private static final String ROCKET_BULLET = "   • ";
+    private static final String SEPARATOR = " – ";
+    private static final String DRAGONS = " – Dragons: ";
+
+    // Reused by formatMission and the Appendable overloads on each thread; a buffer grown past the limit by a huge
+    // mission is not kept
+    private static final ThreadLocal<StringBuilder> BUFFER = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private static final int MAX_RETAINED_BUFFER = 64 * 1024;
+
     public static String formatMissions(List<Mission> missions) {
-        return missions.stream()
-                .map(MissionSummaryFormatter::formatMission)
-                .collect(Collectors.joining("\n"));
+        StringBuilder builder = new StringBuilder();
+        appendMissions(missions, builder);
+        return builder.toString();
+    }
+
+    // Same output as formatMissions; each mission is formatted on the common fork/join pool
+    public static String formatMissionsParallel(List<Mission> missions) {
+        return ParallelSummaryFormatter.join(ParallelSummaryFormatter.formatBlocks(missions, MissionSummaryFormatter::formatMission));
+    }
+
+    public static String formatMission(Mission mission) {
+        return formatMission(MissionView.of(mission));
+    }
+
+    public static String formatMission(MissionView mission) {
+        StringBuilder builder = acquireBuffer();
+        appendMission(mission, builder);
+        return releaseBuffer(builder);
+    }
+
+    public static void appendMissions(List<Mission> missions, StringBuilder target) {
+        for (int i = 0; i < missions.size(); i++) {
+            if (i > 0) {
+                target.append('\n');
+            }
+            appendMission(missions.get(i), target);
+        }
+    }
+
+    public static void appendMission(Mission mission, StringBuilder target) {
+        appendMission(MissionView.of(mission), target);
     }
 
-    private static String formatMission(Mission mission) {
-        String missionHeader = String.format("• %s – %s – Dragons: %d",
-                mission.getName(), mission.getStatus().getStatusName(), mission.getRockets().size());
+    // The one place a mission block is laid out; every other overload ends up here
+    public static void appendMission(MissionView mission, StringBuilder target) {
+        List<RocketView> rockets = mission.rockets();
+        appendMissionHeader(mission.name(), mission.status(), rockets.size(), target);
 
-        if (mission.getRockets().isEmpty()) {
-            return missionHeader;
+        // forEach rather than an iterator, so walking a mission's shared rocket list allocates nothing
+        rockets.forEach(rocket -> {
+            target.append('\n');
+            appendRocket(rocket.name(), rocket.status(), target);
+        });
+    }
+
+    public static void appendMissionHeader(String missionName, MissionStatus status, int rocketCount, StringBuilder target) {
+        target.append(MISSION_BULLET)
+                .append(missionName)
+                .append(SEPARATOR)
+                .append(status.getStatusName())
+                .append(DRAGONS)
+                .append(rocketCount);
+    }
+
+    public static void appendRocket(String rocketName, RocketStatus status, StringBuilder target) {
+        target.append(ROCKET_BULLET)
+                .append(rocketName)
+                .append(SEPARATOR)
+                .append(status.getStatusName());
+    }
+
+    // Writes the missions straight to the target one block at a time, each formatted in the per-thread buffer
+    public static void appendMissions(List<Mission> missions, Appendable target) throws IOException {
+        for (int i = 0; i < missions.size(); i++) {
+            if (i > 0) {
+                target.append('\n');
+            }
+            appendMission(missions.get(i), target);
         }
+    }
 
-        String rocketsInfo = mission.getRockets().stream()
-                .map(MissionSummaryFormatter::formatRocket)
-                .collect(Collectors.joining("\n", "\n", ""));
+    public static void appendMission(Mission mission, Appendable target) throws IOException {
+        appendMission(MissionView.of(mission), target);
+    }
+
+    public static void appendMission(MissionView mission, Appendable target) throws IOException {
+        StringBuilder builder = acquireBuffer();
+        appendMission(mission, builder);
+        target.append(builder);
+        dropIfOversized(builder);
+    }
 
-        return missionHeader + rocketsInfo;
+    private static StringBuilder acquireBuffer() {
+        StringBuilder builder = BUFFER.get();
+        builder.setLength(0);
+        return builder;
     }
 
-    private static String formatRocket(Rocket rocket) {
-        return String.format("   • %s – %s", rocket.getName(), rocket.getStatus().getStatusName());
+    private static String releaseBuffer(StringBuilder builder) {
+        String result = builder.toString();
+        dropIfOversized(builder);
+        return result;
+    }
+
+    private static void dropIfOversized(StringBuilder builder) {
+        if (builder.capacity() > MAX_RETAINED_BUFFER) {
+            BUFFER.remove();
+        }
     }
 }
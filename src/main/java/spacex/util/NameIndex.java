@@ -0,0 +1,164 @@
+package spacex.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Interns names into dense int ids. Names are kept as UTF-8 in one byte arena and looked up through an
+// open addressing table, so there is no String, boxed id or map entry per name.
+public class NameIndex {
+
+    public static final int NO_ID = -1;
+
+    private static final int MIN_CAPACITY = 16;
+
+    private byte[] arena;
+    private int arenaSize;
+    private int[] offsets;
+    private int[] slots;
+    private int size;
+
+    public NameIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    public NameIndex(int expectedSize) {
+        int capacity = Math.max(expectedSize, MIN_CAPACITY);
+        this.arena = new byte[capacity * 8];
+        this.offsets = new int[capacity + 1];
+        this.slots = new int[tableSizeFor(capacity / 3 * 4 + 1)];
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public String nameOf(int id) {
+        return new String(arena, offsets[id], offsets[id + 1] - offsets[id], StandardCharsets.UTF_8);
+    }
+
+    public int idOf(String name) {
+        byte[] encoded = isAscii(name) ? null : name.getBytes(StandardCharsets.UTF_8);
+        return find(name, encoded, hash(name, encoded));
+    }
+
+    // Returns the id of the new name, or NO_ID if the name is already interned
+    public int add(String name) {
+        byte[] encoded = isAscii(name) ? null : name.getBytes(StandardCharsets.UTF_8);
+        int hash = hash(name, encoded);
+        if (find(name, encoded, hash) != NO_ID) {
+            return NO_ID;
+        }
+
+        if ((size + 1) * 4 > slots.length * 3) {
+            rehash(slots.length * 2);
+        }
+        if (size + 1 == offsets.length) {
+            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+        }
+
+        int length = encoded != null ? encoded.length : name.length();
+        if (arenaSize + length > arena.length) {
+            arena = Arrays.copyOf(arena, Math.max(arena.length * 2, arenaSize + length));
+        }
+
+        if (encoded != null) {
+            System.arraycopy(encoded, 0, arena, arenaSize, length);
+        } else {
+            for (int i = 0; i < length; i++) {
+                arena[arenaSize + i] = (byte) name.charAt(i);
+            }
+        }
+
+        int id = size++;
+        arenaSize += length;
+        offsets[size] = arenaSize;
+        insert(id, hash);
+        return id;
+    }
+
+    private int find(String name, byte[] encoded, int hash) {
+        int mask = slots.length - 1;
+        for (int slot = hash & mask; slots[slot] != 0; slot = (slot + 1) & mask) {
+            int id = slots[slot] - 1;
+            if (matches(id, name, encoded)) {
+                return id;
+            }
+        }
+
+        return NO_ID;
+    }
+
+    private boolean matches(int id, String name, byte[] encoded) {
+        int offset = offsets[id];
+        int length = offsets[id + 1] - offset;
+
+        if (encoded != null) {
+            return Arrays.equals(arena, offset, offset + length, encoded, 0, encoded.length);
+        }
+
+        if (length != name.length()) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (arena[offset + i] != name.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void rehash(int capacity) {
+        slots = new int[capacity];
+        for (int id = 0; id < size; id++) {
+            insert(id, hash(arena, offsets[id], offsets[id + 1]));
+        }
+    }
+
+    private void insert(int id, int hash) {
+        int mask = slots.length - 1;
+        int slot = hash & mask;
+        while (slots[slot] != 0) {
+            slot = (slot + 1) & mask;
+        }
+        slots[slot] = id + 1;
+    }
+
+    static boolean isAscii(String name) {
+        for (int i = 0; i < name.length(); i++) {
+            if (name.charAt(i) >= 0x80) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // Hashes the UTF-8 bytes of the name; ASCII names are hashed straight from their chars
+    static int hash(String name, byte[] encoded) {
+        if (encoded != null) {
+            return hash(encoded, 0, encoded.length);
+        }
+
+        int hash = 0;
+        for (int i = 0; i < name.length(); i++) {
+            hash = 31 * hash + (byte) name.charAt(i);
+        }
+        return mix(hash);
+    }
+
+    static int hash(byte[] bytes, int from, int to) {
+        int hash = 0;
+        for (int i = from; i < to; i++) {
+            hash = 31 * hash + bytes[i];
+        }
+        return mix(hash);
+    }
+
+    private static int mix(int hash) {
+        hash *= 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    static int tableSizeFor(int size) {
+        return Integer.highestOneBit(size - 1) << 1;
+    }
+}
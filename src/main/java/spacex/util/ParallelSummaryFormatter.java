@@ -0,0 +1,83 @@
+package spacex.util;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Function;
+
+// Fork/join building blocks for summaries of very large fleets. The output is identical to formatting and joining
+// sequentially: blocks keep their positions and are copied into one buffer sized from their exact lengths.
+public class ParallelSummaryFormatter {
+
+    public static final int DEFAULT_THRESHOLD = 10_000;
+
+    // Blocks per leaf task when joining; small enough to balance, large enough to amortize the task overhead
+    private static final int JOIN_CHUNK = 4096;
+
+    // Formats every item into its own block on the common fork/join pool
+    public static <T> String[] formatBlocks(List<T> items, Function<? super T, String> formatter) {
+        String[] blocks = new String[items.size()];
+        Arrays.parallelSetAll(blocks, i -> formatter.apply(items.get(i)));
+        return blocks;
+    }
+
+    // Same result as String.join("\n", blocks)
+    public static String join(String[] blocks) {
+        if (blocks.length == 0) {
+            return "";
+        }
+
+        int[] offsets = new int[blocks.length];
+        long length = 0;
+        for (int i = 0; i < blocks.length; i++) {
+            offsets[i] = (int) length;
+            length += blocks[i].length() + 1;
+        }
+        length--;
+
+        if (length > Integer.MAX_VALUE - 8) {
+            throw new OutOfMemoryError("Summary is too large: " + length + " characters");
+        }
+
+        char[] chars = new char[(int) length];
+        ForkJoinPool.commonPool().invoke(new CopyTask(blocks, offsets, chars, 0, blocks.length));
+        return new String(chars);
+    }
+
+    private static final class CopyTask extends RecursiveAction {
+
+        private static final long serialVersionUID = 1L;
+
+        private final String[] blocks;
+        private final int[] offsets;
+        private final char[] target;
+        private final int from;
+        private final int to;
+
+        private CopyTask(String[] blocks, int[] offsets, char[] target, int from, int to) {
+            this.blocks = blocks;
+            this.offsets = offsets;
+            this.target = target;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from > JOIN_CHUNK) {
+                int middle = (from + to) >>> 1;
+                invokeAll(new CopyTask(blocks, offsets, target, from, middle), new CopyTask(blocks, offsets, target, middle, to));
+                return;
+            }
+
+            for (int i = from; i < to; i++) {
+                String block = blocks[i];
+                block.getChars(0, block.length(), target, offsets[i]);
+                if (i < blocks.length - 1) {
+                    target[offsets[i] + block.length()] = '\n';
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package spacex.util;
+
+import java.util.AbstractList;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+
+// Immutable list ordered by a long key. Versions share structure: putting or removing one element copies only the
+// O(log n) nodes on its path, so a new version of a large list is as cheap as one of a small list.
+// A treap whose priorities are derived from the keys, so ascending keys still give a balanced tree.
+public final class PersistentOrderedList<E> extends AbstractList<E> {
+
+    private static final PersistentOrderedList<?> EMPTY = new PersistentOrderedList<>(null);
+
+    private final Node<E> root;
+
+    private PersistentOrderedList(Node<E> root) {
+        this.root = root;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <E> PersistentOrderedList<E> empty() {
+        return (PersistentOrderedList<E>) EMPTY;
+    }
+
+    // Inserts the element under the key, or replaces the element already there
+    public PersistentOrderedList<E> with(long key, E value) {
+        return new PersistentOrderedList<>(put(root, key, value));
+    }
+
+    public PersistentOrderedList<E> without(long key) {
+        Node<E> newRoot = remove(root, key);
+        return newRoot == root ? this : new PersistentOrderedList<>(newRoot);
+    }
+
+    // By position in key order
+    @Override
+    public E get(int index) {
+        if (index < 0 || index >= size()) {
+            throw new IndexOutOfBoundsException(index);
+        }
+
+        Node<E> node = root;
+        while (true) {
+            int leftSize = sizeOf(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index == leftSize) {
+                return node.value;
+            } else {
+                index -= leftSize + 1;
+                node = node.right;
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return sizeOf(root);
+    }
+
+    // In-order walk with an explicit stack, linear instead of one descent per element
+    @Override
+    public Iterator<E> iterator() {
+        return new Iterator<>() {
+            private final Deque<Node<E>> path = new ArrayDeque<>();
+
+            {
+                pushLeft(root);
+            }
+
+            @Override
+            public boolean hasNext() {
+                return !path.isEmpty();
+            }
+
+            @Override
+            public E next() {
+                if (path.isEmpty()) {
+                    throw new NoSuchElementException();
+                }
+                Node<E> node = path.pop();
+                pushLeft(node.right);
+                return node.value;
+            }
+
+            private void pushLeft(Node<E> node) {
+                for (; node != null; node = node.left) {
+                    path.push(node);
+                }
+            }
+        };
+    }
+
+    // Recursive in-order walk, as deep as the tree; allocates nothing, unlike the iterator's stack
+    @Override
+    public void forEach(Consumer<? super E> action) {
+        forEach(root, action);
+    }
+
+    private static <E> void forEach(Node<E> node, Consumer<? super E> action) {
+        for (; node != null; node = node.right) {
+            forEach(node.left, action);
+            action.accept(node.value);
+        }
+    }
+
+    private static <E> Node<E> put(Node<E> node, long key, E value) {
+        if (node == null) {
+            return new Node<>(key, value, priorityOf(key), null, null);
+        }
+
+        if (key < node.key) {
+            Node<E> left = put(node.left, key, value);
+            Node<E> copy = new Node<>(node.key, node.value, node.priority, left, node.right);
+            return left.priority > copy.priority ? rotateRight(copy) : copy;
+        }
+        if (key > node.key) {
+            Node<E> right = put(node.right, key, value);
+            Node<E> copy = new Node<>(node.key, node.value, node.priority, node.left, right);
+            return right.priority > copy.priority ? rotateLeft(copy) : copy;
+        }
+        return new Node<>(key, value, node.priority, node.left, node.right);
+    }
+
+    private static <E> Node<E> remove(Node<E> node, long key) {
+        if (node == null) {
+            return null;
+        }
+
+        if (key < node.key) {
+            Node<E> left = remove(node.left, key);
+            return left == node.left ? node : new Node<>(node.key, node.value, node.priority, left, node.right);
+        }
+        if (key > node.key) {
+            Node<E> right = remove(node.right, key);
+            return right == node.right ? node : new Node<>(node.key, node.value, node.priority, node.left, right);
+        }
+        return merge(node.left, node.right);
+    }
+
+    // Every key in left is smaller than every key in right
+    private static <E> Node<E> merge(Node<E> left, Node<E> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+
+        if (left.priority > right.priority) {
+            return new Node<>(left.key, left.value, left.priority, left.left, merge(left.right, right));
+        }
+        return new Node<>(right.key, right.value, right.priority, merge(left, right.left), right.right);
+    }
+
+    private static <E> Node<E> rotateRight(Node<E> node) {
+        Node<E> left = node.left;
+        return new Node<>(left.key, left.value, left.priority, left.left,
+                new Node<>(node.key, node.value, node.priority, left.right, node.right));
+    }
+
+    private static <E> Node<E> rotateLeft(Node<E> node) {
+        Node<E> right = node.right;
+        return new Node<>(right.key, right.value, right.priority,
+                new Node<>(node.key, node.value, node.priority, node.left, right.left), right.right);
+    }
+
+    private static int sizeOf(Node<?> node) {
+        return node != null ? node.size : 0;
+    }
+
+    // SplitMix64 finalizer
+    private static int priorityOf(long key) {
+        key = (key ^ (key >>> 30)) * 0xBF58476D1CE4E5B9L;
+        key = (key ^ (key >>> 27)) * 0x94D049BB133111EBL;
+        return (int) (key ^ (key >>> 31));
+    }
+
+    private static final class Node<E> {
+
+        private final long key;
+        private final E value;
+        private final int priority;
+        private final Node<E> left;
+        private final Node<E> right;
+        private final int size;
+
+        private Node(long key, E value, int priority, Node<E> left, Node<E> right) {
+            this.key = key;
+            this.value = value;
+            this.priority = priority;
+            this.left = left;
+            this.right = right;
+            this.size = sizeOf(left) + sizeOf(right) + 1;
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package spacex.util;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Names grouped by status, for queries like "which rockets are in repair" without scanning the fleet.
+// Readers never lock; callers serialize changes to the same name, as the service does with its striped locks.
+public class StatusIndex<S extends Enum<S>> {
+
+    private final Map<S, Set<String>> namesByStatus;
+    private final Map<S, Set<String>> views;
+
+    public StatusIndex(Class<S> statusType) {
+        this.namesByStatus = new EnumMap<>(statusType);
+        this.views = new EnumMap<>(statusType);
+
+        for (S status : statusType.getEnumConstants()) {
+            Set<String> names = ConcurrentHashMap.newKeySet();
+            namesByStatus.put(status, names);
+            views.put(status, Collections.unmodifiableSet(names));
+        }
+    }
+
+    public void add(String name, S status) {
+        namesByStatus.get(status).add(name);
+    }
+
+    public void remove(String name, S status) {
+        namesByStatus.get(status).remove(name);
+    }
+
+    // Added before it is removed, so a concurrent reader may briefly see the name under both statuses but never under none
+    public void move(String name, S oldStatus, S newStatus) {
+        if (oldStatus != newStatus) {
+            namesByStatus.get(newStatus).add(name);
+            namesByStatus.get(oldStatus).remove(name);
+        }
+    }
+
+    // Live, unmodifiable view
+    public Set<String> getNames(S status) {
+        return views.get(status);
+    }
+
+    public int count(S status) {
+        return namesByStatus.get(status).size();
+    }
+}
@@ -0,0 +1,96 @@
+package spacex.util;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class StripedLocks {
+
+    private final ReentrantLock[] locks;
+    private final int mask;
+
+    public StripedLocks(int stripes) {
+        if (stripes <= 0) {
+            throw new IllegalArgumentException("Stripes must be positive: " + stripes);
+        }
+
+        int size = Integer.highestOneBit(stripes - 1) << 1;
+        this.locks = new ReentrantLock[Math.max(size, 1)];
+        this.mask = locks.length - 1;
+
+        for (int i = 0; i < locks.length; i++) {
+            locks[i] = new ReentrantLock();
+        }
+    }
+
+    public int stripeCount() {
+        return locks.length;
+    }
+
+    public int stripeOf(String key) {
+        int hash = key.hashCode();
+        return (hash ^ (hash >>> 16)) & mask;
+    }
+
+    // Locks the stripes of the given keys in ascending stripe order, so callers never deadlock each other
+    public Guard lock(String... keys) {
+        int[] stripes = new int[keys.length];
+        int count = 0;
+
+        for (String key : keys) {
+            if (key != null) {
+                stripes[count++] = stripeOf(key);
+            }
+        }
+
+        Arrays.sort(stripes, 0, count);
+
+        int distinct = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinct == 0 || stripes[distinct - 1] != stripes[i]) {
+                stripes[distinct++] = stripes[i];
+            }
+        }
+
+        return acquire(stripes, distinct);
+    }
+
+    public Guard lock(Collection<String> keys) {
+        return lock(keys.toArray(String[]::new));
+    }
+
+    public Guard lockAll() {
+        int[] stripes = new int[locks.length];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = i;
+        }
+
+        return acquire(stripes, stripes.length);
+    }
+
+    private Guard acquire(int[] stripes, int count) {
+        for (int i = 0; i < count; i++) {
+            locks[stripes[i]].lock();
+        }
+
+        return new Guard(stripes, count);
+    }
+
+    public class Guard implements AutoCloseable {
+
+        private final int[] stripes;
+        private final int count;
+
+        private Guard(int[] stripes, int count) {
+            this.stripes = stripes;
+            this.count = count;
+        }
+
+        @Override
+        public void close() {
+            for (int i = count - 1; i >= 0; i--) {
+                locks[stripes[i]].unlock();
+            }
+        }
+    }
+}
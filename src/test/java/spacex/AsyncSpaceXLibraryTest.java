@@ -0,0 +1,161 @@
+package spacex;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.BulkLoadResult;
+import spacex.domain.Mission;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Flow;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static spacex.constant.ErrorMessages.*;
+
+class AsyncSpaceXLibraryTest {
+
+    private SpaceXLibrary spaceXLibrary;
+    private AsyncSpaceXLibrary asyncSpaceXLibrary;
+
+    @BeforeEach
+    void setUp() {
+        spaceXLibrary = new SpaceXLibrary();
+        asyncSpaceXLibrary = new AsyncSpaceXLibrary(spaceXLibrary);
+    }
+
+    @AfterEach
+    void tearDown() {
+        asyncSpaceXLibrary.close();
+    }
+
+    @Test
+    void should_ApplyMutations_AndReadSummary() throws Exception {
+        // Given
+        asyncSpaceXLibrary.addMission(new Mission("Mars")).get(10, TimeUnit.SECONDS);
+        asyncSpaceXLibrary.addRocket(new Rocket("Dragon 1")).get(10, TimeUnit.SECONDS);
+
+        // When
+        asyncSpaceXLibrary.assignRocketToMission("Dragon 1", "Mars").get(10, TimeUnit.SECONDS);
+        asyncSpaceXLibrary.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR).get(10, TimeUnit.SECONDS);
+        String summary = asyncSpaceXLibrary.getMissionSummary().get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(spaceXLibrary.getMissionSummary(), summary);
+        assertTrue(summary.contains("Mars – Pending – Dragons: 1"));
+    }
+
+    @Test
+    void should_CompleteExceptionallyWithSpaceXException_WhenMutationIsRejected() {
+        // Given & When
+        CompletableFuture<Void> future = asyncSpaceXLibrary.assignRocketToMission("Dragon 1", "Mars");
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(SpaceXException.class, exception.getCause());
+        assertEquals(ROCKET_NOT_FOUND, exception.getCause().getMessage());
+    }
+
+    @Test
+    void should_RejectWithoutBlocking_WhenPendingMutationsReachTheLimit() throws Exception {
+        // Given
+        BlockingQueue<Runnable> tasks = new LinkedBlockingQueue<>();
+        AsyncSpaceXLibrary bounded = new AsyncSpaceXLibrary(spaceXLibrary, tasks::add, 2);
+        bounded.addRocket(new Rocket("Dragon 1"));
+        bounded.addRocket(new Rocket("Dragon 2"));
+
+        // When
+        CompletableFuture<Void> third = bounded.addRocket(new Rocket("Dragon 3"));
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> third.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(RejectedExecutionException.class, exception.getCause());
+        assertEquals(2, bounded.getPendingMutationCount());
+
+        tasks.take().run();
+        CompletableFuture<Void> retried = bounded.addRocket(new Rocket("Dragon 3"));
+        tasks.take().run();
+        tasks.take().run();
+
+        assertNull(retried.get(10, TimeUnit.SECONDS));
+        assertEquals(0, bounded.getPendingMutationCount());
+    }
+
+    @Test
+    void should_CompleteExceptionally_WhenMutationThrowsError() {
+        // Given
+        AsyncSpaceXLibrary failing = new AsyncSpaceXLibrary(spaceXLibrary, Runnable::run, 1);
+
+        // When
+        CompletableFuture<BulkLoadResult> future = failing.addRockets(new ArrayList<>() {
+            @Override
+            public Iterator<Rocket> iterator() {
+                throw new AssertionError("Broken collection");
+            }
+        });
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, exception.getCause());
+        assertEquals(0, failing.getPendingMutationCount());
+    }
+
+    @Test
+    void should_PublishSummaryBlocks_OnDemand() throws Exception {
+        // Given
+        spaceXLibrary.addMission(new Mission("Mars"));
+        spaceXLibrary.addMission(new Mission("Luna"));
+        spaceXLibrary.addRocket(new Rocket("Dragon 1"));
+        spaceXLibrary.assignRocketToMission("Dragon 1", "Mars");
+
+        List<String> received = new CopyOnWriteArrayList<>();
+        CountDownLatch firstBlock = new CountDownLatch(1);
+        CountDownLatch completed = new CountDownLatch(1);
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+
+        // When
+        asyncSpaceXLibrary.publishMissionSummary().subscribe(new Flow.Subscriber<>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+                s.request(1);
+            }
+
+            @Override
+            public void onNext(String block) {
+                received.add(block);
+                firstBlock.countDown();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+            }
+
+            @Override
+            public void onComplete() {
+                completed.countDown();
+            }
+        });
+
+        // Then
+        assertTrue(firstBlock.await(10, TimeUnit.SECONDS));
+        assertFalse(completed.await(100, TimeUnit.MILLISECONDS));
+        assertEquals(1, received.size());
+
+        subscription[0].request(Long.MAX_VALUE);
+        assertTrue(completed.await(10, TimeUnit.SECONDS));
+        assertEquals(spaceXLibrary.getMissionSummary(), String.join("\n", received));
+    }
+}
@@ -0,0 +1,303 @@
+package spacex;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.OperationResult;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.service.MissionRocketAssignmentService;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static spacex.constant.ErrorMessages.*;
+
+class ShardedSpaceXLibraryTest {
+
+    private static final RocketStatus[] ROCKET_STATUSES = RocketStatus.values();
+
+    private ShardedSpaceXLibrary shardedLibrary;
+
+    @BeforeEach
+    void setUp() {
+        shardedLibrary = new ShardedSpaceXLibrary(4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        shardedLibrary.close();
+    }
+
+    @Test
+    void should_MoveRocketToMissionOnAnotherShard() throws SpaceXException {
+        // Given
+        String rocketName = "Dragon 1";
+        shardedLibrary.addRocket(new Rocket(rocketName));
+        String firstMission = missionOnShard("Luna", shardedLibrary.getShardOfRocket(rocketName), true);
+        String secondMission = missionOnShard("Mars", shardedLibrary.getShardOfRocket(rocketName), false);
+        shardedLibrary.addMission(new Mission(firstMission));
+        shardedLibrary.addMission(new Mission(secondMission));
+        shardedLibrary.addRocket(new Rocket("Dragon 2"));
+        shardedLibrary.assignRocketToMission("Dragon 2", firstMission);
+
+        // When
+        shardedLibrary.assignRocketToMission(rocketName, firstMission);
+        shardedLibrary.changeRocketStatus(rocketName, RocketStatus.IN_REPAIR);
+        shardedLibrary.assignRocketToMission(rocketName, secondMission);
+
+        // Then
+        assertEquals(shardedLibrary.getShardOfMission(secondMission), shardedLibrary.getShardOfRocket(rocketName));
+        String expected = "• " + secondMission + " – Pending – Dragons: 1\n"
+                + "   • Dragon 1 – In repair\n"
+                + "• " + firstMission + " – In Progress – Dragons: 1\n"
+                + "   • Dragon 2 – In space";
+        assertEquals(expected, shardedLibrary.getMissionSummary());
+        assertEquals(1, shardedLibrary.countRockets(RocketStatus.IN_REPAIR));
+        assertEquals(1, shardedLibrary.countMissions(MissionStatus.PENDING));
+    }
+
+    @Test
+    void should_LeaveRocketInPlace_WhenCrossShardAssignmentIsRejected() throws SpaceXException {
+        // Given
+        shardedLibrary.addRocket(new Rocket("Dragon 1"));
+        shardedLibrary.addRocket(new Rocket("Dragon 2"));
+        String endedMission = missionOnShard("Luna", shardedLibrary.getShardOfRocket("Dragon 1"), false);
+        String currentMission = missionOnShard("Mars", shardedLibrary.getShardOfMission(endedMission), false);
+        shardedLibrary.addMission(new Mission(endedMission));
+        shardedLibrary.addMission(new Mission(currentMission));
+        shardedLibrary.assignRocketToMission("Dragon 2", endedMission);
+        shardedLibrary.changeRocketStatus("Dragon 2", RocketStatus.ON_GROUND);
+        shardedLibrary.assignRocketToMission("Dragon 1", currentMission);
+        String summaryBefore = shardedLibrary.getMissionSummary();
+
+        // When
+        SpaceXException exception = assertThrows(SpaceXException.class, () -> shardedLibrary.assignRocketToMission("Dragon 1", endedMission));
+
+        // Then
+        assertEquals(MISSION_NOT_AVAILABLE, exception.getMessage());
+        assertEquals(OperationResult.MISSION_NOT_FOUND, shardedLibrary.tryAssignRocketToMission("Dragon 1", "Unknown"));
+        assertEquals(OperationResult.ROCKET_NOT_FOUND, shardedLibrary.tryAssignRocketToMission("Unknown", currentMission));
+        assertEquals(summaryBefore, shardedLibrary.getMissionSummary());
+        assertEquals(shardedLibrary.getShardOfMission(currentMission), shardedLibrary.getShardOfRocket("Dragon 1"));
+    }
+
+    @Test
+    void should_KeepRocketOnSourceShard_WhenTargetShardFailsDuringTransfer() throws SpaceXException {
+        // Given
+        AtomicBoolean targetFails = new AtomicBoolean();
+        shardedLibrary.close();
+        shardedLibrary = new ShardedSpaceXLibrary(4, MissionRocketAssignmentService.DEFAULT_LOCK_STRIPES,
+                (rockets, missions) -> new MissionRocketAssignmentService(rockets, missions) {
+                    @Override
+                    public OperationResult tryAddRocketToMission(Rocket rocket, String missionName) {
+                        if (targetFails.get()) {
+                            throw new IllegalStateException("Target shard failed");
+                        }
+                        return super.tryAddRocketToMission(rocket, missionName);
+                    }
+                });
+
+        shardedLibrary.addRocket(new Rocket("Dragon 1"));
+        int sourceShard = shardedLibrary.getShardOfRocket("Dragon 1");
+        String sourceMission = missionOnShard("Luna", sourceShard, true);
+        String targetMission = missionOnShard("Mars", sourceShard, false);
+        shardedLibrary.addMission(new Mission(sourceMission));
+        shardedLibrary.addMission(new Mission(targetMission));
+        shardedLibrary.assignRocketToMission("Dragon 1", sourceMission);
+        String summaryBefore = shardedLibrary.getMissionSummary();
+
+        // When
+        targetFails.set(true);
+        assertThrows(IllegalStateException.class, () -> shardedLibrary.assignRocketToMission("Dragon 1", targetMission));
+        targetFails.set(false);
+
+        // Then
+        assertEquals(summaryBefore, shardedLibrary.getMissionSummary());
+        assertEquals(sourceShard, shardedLibrary.getShardOfRocket("Dragon 1"));
+        assertEquals(1, shardedLibrary.countRockets(RocketStatus.IN_SPACE));
+
+        shardedLibrary.assignRocketToMission("Dragon 1", targetMission);
+        assertEquals(shardedLibrary.getShardOfMission(targetMission), shardedLibrary.getShardOfRocket("Dragon 1"));
+        assertEquals(1, shardedLibrary.countRockets(RocketStatus.IN_SPACE));
+    }
+
+    @Test
+    void should_MatchSingleInstance_ForTheSameOperations() throws SpaceXException {
+        // Given
+        SpaceXLibrary singleLibrary = new SpaceXLibrary();
+        Random random = new Random(42);
+        int rocketCount = 60;
+        int missionCount = 15;
+
+        for (int i = 0; i < missionCount; i++) {
+            assertEquals(singleLibrary.tryAddMission(new Mission("Mission " + i)), shardedLibrary.tryAddMission(new Mission("Mission " + i)));
+        }
+        for (int i = 0; i < rocketCount; i++) {
+            assertEquals(singleLibrary.tryAddRocket(new Rocket("Dragon " + i)), shardedLibrary.tryAddRocket(new Rocket("Dragon " + i)));
+        }
+
+        // When
+        for (int step = 0; step < 3_000; step++) {
+            String rocketName = "Dragon " + random.nextInt(rocketCount + 2);
+            String missionName = "Mission " + random.nextInt(missionCount + 1);
+
+            switch (random.nextInt(4)) {
+                case 0, 1 -> assertEquals(singleLibrary.tryAssignRocketToMission(rocketName, missionName),
+                        shardedLibrary.tryAssignRocketToMission(rocketName, missionName), "Step " + step);
+                case 2 -> {
+                    List<String> rocketNames = List.of(rocketName, "Dragon " + random.nextInt(rocketCount), "Dragon " + random.nextInt(rocketCount));
+                    assertEquals(singleLibrary.tryAssignRocketsToMission(rocketNames, missionName),
+                            shardedLibrary.tryAssignRocketsToMission(rocketNames, missionName), "Step " + step);
+                }
+                default -> {
+                    RocketStatus status = ROCKET_STATUSES[random.nextInt(ROCKET_STATUSES.length)];
+                    assertEquals(singleLibrary.tryChangeRocketStatus(rocketName, status),
+                            shardedLibrary.tryChangeRocketStatus(rocketName, status), "Step " + step);
+                }
+            }
+        }
+
+        // Then
+        assertEquals(singleLibrary.getMissionSummary(), shardedLibrary.getMissionSummary());
+        assertEquals(OperationResult.ROCKET_ALREADY_EXISTS, shardedLibrary.tryAddRocket(new Rocket("Dragon 0")));
+        assertEquals(OperationResult.MISSION_ALREADY_EXISTS, shardedLibrary.tryAddMission(new Mission("Mission 0")));
+    }
+
+    @Test
+    void should_ListEveryRocketOnce_WhileRocketsMoveAcrossShardsConcurrently() throws Exception {
+        // Given
+        int rocketCount = 100;
+        int missionCount = 12;
+        for (int i = 0; i < missionCount; i++) {
+            shardedLibrary.addMission(new Mission("Mission " + i));
+        }
+        for (int i = 0; i < rocketCount; i++) {
+            shardedLibrary.addRocket(new Rocket("Dragon " + i));
+            shardedLibrary.assignRocketToMission("Dragon " + i, "Mission " + (i % missionCount));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Pattern dragons = Pattern.compile("Dragons: (\\d+)");
+        List<Future<?>> writers = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 3; t++) {
+            writers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 2_000; i++) {
+                    try {
+                        shardedLibrary.assignRocketToMission("Dragon " + random.nextInt(rocketCount), "Mission " + random.nextInt(missionCount));
+                    } catch (SpaceXException e) {
+                        // A mission that lost its last rocket has ended and rejects further assignments
+                    }
+                }
+                return null;
+            }));
+        }
+        Future<?> reader = executor.submit(() -> {
+            while (running.get()) {
+                Matcher matcher = dragons.matcher(shardedLibrary.getMissionSummary());
+                int assigned = 0;
+                while (matcher.find()) {
+                    assigned += Integer.parseInt(matcher.group(1));
+                }
+                assertEquals(rocketCount, assigned);
+            }
+            return null;
+        });
+
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        reader.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        Matcher matcher = dragons.matcher(shardedLibrary.getMissionSummary());
+        int assigned = 0;
+        while (matcher.find()) {
+            assigned += Integer.parseInt(matcher.group(1));
+        }
+        assertEquals(rocketCount, assigned);
+        assertEquals(rocketCount, shardedLibrary.countRockets(RocketStatus.IN_SPACE));
+    }
+
+    // First name with the prefix whose mission lands on (or off) the given shard
+    @Test
+    void should_ShowWholeBatchOrNone_WhileBatchesMoveAcrossShardsConcurrently() throws Exception {
+        // Given
+        String mars = missionOnShard("Mars", 0, true);
+        String luna = missionOnShard("Luna", 0, false);
+        shardedLibrary.addMission(new Mission(mars));
+        shardedLibrary.addMission(new Mission(luna));
+        // Anchors keep both missions from ending while the batch is on the other one
+        shardedLibrary.addRocket(new Rocket("Mars anchor"));
+        shardedLibrary.assignRocketToMission("Mars anchor", mars);
+        shardedLibrary.addRocket(new Rocket("Luna anchor"));
+        shardedLibrary.assignRocketToMission("Luna anchor", luna);
+
+        int batchSize = 30;
+        List<String> batch = new ArrayList<>();
+        for (int i = 0; i < batchSize; i++) {
+            batch.add("Dragon " + i);
+            shardedLibrary.addRocket(new Rocket("Dragon " + i));
+        }
+        shardedLibrary.assignRocketsToMission(batch, luna);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        AtomicBoolean running = new AtomicBoolean(true);
+        Pattern marsDragons = Pattern.compile("• " + Pattern.quote(mars) + " – .*? – Dragons: (\\d+)");
+
+        // When
+        Future<?> writer = executor.submit(() -> {
+            for (int i = 0; i < 200; i++) {
+                shardedLibrary.assignRocketsToMission(batch, i % 2 == 0 ? mars : luna);
+            }
+            return null;
+        });
+        Future<?> reader = executor.submit(() -> {
+            while (running.get()) {
+                Matcher matcher = marsDragons.matcher(shardedLibrary.getMissionSummary());
+                assertTrue(matcher.find());
+                int onMars = Integer.parseInt(matcher.group(1));
+                assertTrue(onMars == 1 || onMars == batchSize + 1, "Mars lists " + onMars + " rockets");
+                assertEquals(batchSize + 2, shardedLibrary.countRockets(RocketStatus.IN_SPACE));
+            }
+            return null;
+        });
+
+        writer.get(60, TimeUnit.SECONDS);
+        running.set(false);
+        reader.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        assertEquals(shardedLibrary.getShardOfMission(luna), shardedLibrary.getShardOfRocket("Dragon 0"));
+        assertEquals(batchSize + 2, shardedLibrary.countRockets(RocketStatus.IN_SPACE));
+    }
+
+    private String missionOnShard(String prefix, int shard, boolean sameShard) {
+        for (int i = 0; ; i++) {
+            String name = prefix + " " + i;
+            if ((shardedLibrary.getShardOfMission(name) == shard) == sameShard) {
+                return name;
+            }
+        }
+    }
+}
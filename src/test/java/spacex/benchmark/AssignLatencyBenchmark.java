@@ -0,0 +1,57 @@
+package spacex.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spacex.SpaceXLibrary;
+import spacex.domain.Mission;
+import spacex.domain.OperationResult;
+import spacex.domain.Rocket;
+import spacex.exception.SpaceXException;
+
+import java.util.concurrent.TimeUnit;
+
+// Latency of moving one rocket in and out of a mission, which should not grow with the size of that mission
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssignLatencyBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class FleetState {
+
+        @Param({"10", "1000", "100000"})
+        int missionSize;
+
+        SpaceXLibrary library;
+        boolean inLargeMission;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SpaceXException {
+            library = FleetFixture.createFleet(missionSize, missionSize);
+            library.addRocket(new Rocket("Shuttle"));
+            library.addRocket(new Rocket("Escort"));
+            library.addMission(new Mission("Shuttle Run"));
+
+            // Keeps the small mission in progress while the shuttle is away from it
+            library.assignRocketToMission("Escort", "Shuttle Run");
+        }
+    }
+
+    @Benchmark
+    public OperationResult reassign(FleetState state) {
+        state.inLargeMission = !state.inLargeMission;
+        return state.library.tryAssignRocketToMission("Shuttle", state.inLargeMission ? FleetFixture.missionName(0) : "Shuttle Run");
+    }
+}
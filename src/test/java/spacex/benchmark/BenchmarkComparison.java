@@ -0,0 +1,97 @@
+package spacex.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+// Compares two JMH CSV result files (-rf csv) and flags throughput regressions beyond a threshold
+public class BenchmarkComparison {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 5.0;
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BenchmarkComparison <baseline.csv> <current.csv> [thresholdPercent]");
+            System.exit(2);
+        }
+
+        double threshold = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Double> baseline = readScores(Path.of(args[0]));
+        Map<String, Double> current = readScores(Path.of(args[1]));
+
+        int regressions = 0;
+        for (Map.Entry<String, Double> entry : current.entrySet()) {
+            Double baselineScore = baseline.get(entry.getKey());
+            if (baselineScore == null) {
+                System.out.printf("%-90s %14s -> %14.2f   (new)%n", entry.getKey(), "-", entry.getValue());
+                continue;
+            }
+
+            double change = (entry.getValue() - baselineScore) / baselineScore * 100;
+            boolean regression = change < -threshold;
+            regressions += regression ? 1 : 0;
+
+            System.out.printf("%-90s %14.2f -> %14.2f %+8.2f%%%s%n",
+                    entry.getKey(), baselineScore, entry.getValue(), change, regression ? "   REGRESSION" : "");
+        }
+
+        if (regressions > 0) {
+            System.out.printf("%d benchmark(s) regressed by more than %.1f%%%n", regressions, threshold);
+            System.exit(1);
+        }
+    }
+
+    // Keys every score by benchmark name, mode and parameter values
+    static Map<String, Double> readScores(Path csv) throws IOException {
+        List<String> lines = Files.readAllLines(csv);
+        Map<String, Double> scores = new LinkedHashMap<>();
+        if (lines.isEmpty()) {
+            return scores;
+        }
+
+        List<String> header = parseLine(lines.get(0));
+        int scoreColumn = header.indexOf("Score");
+
+        for (String line : lines.subList(1, lines.size())) {
+            if (line.isBlank()) {
+                continue;
+            }
+
+            List<String> columns = parseLine(line);
+            StringBuilder key = new StringBuilder(columns.get(0)).append(' ').append(columns.get(1));
+            for (int i = 0; i < header.size(); i++) {
+                if (header.get(i).startsWith("Param: ") && i < columns.size()) {
+                    key.append(' ').append(header.get(i).substring("Param: ".length())).append('=').append(columns.get(i));
+                }
+            }
+
+            scores.put(key.toString(), Double.parseDouble(columns.get(scoreColumn)));
+        }
+
+        return scores;
+    }
+
+    private static List<String> parseLine(String line) {
+        List<String> columns = new ArrayList<>();
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (char c : line.toCharArray()) {
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+
+        return columns;
+    }
+}
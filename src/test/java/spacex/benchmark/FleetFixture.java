@@ -0,0 +1,58 @@
+package spacex.benchmark;
+
+import spacex.SpaceXLibrary;
+import spacex.domain.Mission;
+import spacex.domain.Rocket;
+import spacex.exception.SpaceXException;
+
+import java.util.ArrayList;
+import java.util.List;
+
+// Builds a fully assigned fleet of rockets spread over missions of equal size
+final class FleetFixture {
+
+    static final String ROCKET_PREFIX = "Dragon ";
+    static final String MISSION_PREFIX = "Mission ";
+
+    private FleetFixture() {
+    }
+
+    static SpaceXLibrary createFleet(int rockets, int rocketsPerMission) throws SpaceXException {
+        SpaceXLibrary library = new SpaceXLibrary();
+        int missions = missionCount(rockets, rocketsPerMission);
+
+        for (int i = 0; i < rockets; i++) {
+            library.addRocket(new Rocket(rocketName(i)));
+        }
+
+        for (int i = 0; i < missions; i++) {
+            library.addMission(new Mission(missionName(i)));
+        }
+
+        for (int i = 0; i < rockets; i++) {
+            library.assignRocketToMission(rocketName(i), missionName(i / rocketsPerMission));
+        }
+
+        return library;
+    }
+
+    static int missionCount(int rockets, int rocketsPerMission) {
+        return (rockets + rocketsPerMission - 1) / rocketsPerMission;
+    }
+
+    static String rocketName(int index) {
+        return ROCKET_PREFIX + index;
+    }
+
+    static String missionName(int index) {
+        return MISSION_PREFIX + index;
+    }
+
+    static List<String> names(String prefix, int count) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            names.add(prefix + i);
+        }
+        return names;
+    }
+}
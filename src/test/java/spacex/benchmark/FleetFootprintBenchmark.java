@@ -0,0 +1,103 @@
+package spacex.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import spacex.exception.SpaceXException;
+import spacex.repository.CompactFleetRepository;
+import spacex.service.CompactMissionRocketAssignmentService;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.util.concurrent.TimeUnit;
+
+// Loads a fully assigned fleet into the object and the compact storage and reports the heap it retains as the secondary
+// results retainedBytes and bytesPerRocket, so they land in -rf csv output and BenchmarkComparison like any score.
+// The load time includes the GCs of the measurement. JMH sums event counters over iterations and forks, so each run
+// measures a single load; repeat the run rather than raising -i or -f
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+@Measurement(iterations = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms12g", "-Xmx12g"})
+public class FleetFootprintBenchmark {
+
+    @State(Scope.Thread)
+    public static class FootprintState {
+
+        @Param({"10000000"})
+        public int rockets;
+
+        @Param({"10"})
+        public int rocketsPerMission;
+
+        Object fleet;
+        long usedBefore;
+
+        @Setup(Level.Iteration)
+        public void setUp() {
+            fleet = null;
+            usedBefore = usedHeapAfterGc();
+        }
+
+        private static long usedHeapAfterGc() {
+            MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+            for (int i = 0; i < 3; i++) {
+                System.gc();
+            }
+            return memory.getHeapMemoryUsage().getUsed();
+        }
+    }
+
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class Footprint {
+
+        public long retainedBytes;
+        public double bytesPerRocket;
+
+        private void measure(FootprintState state) {
+            retainedBytes = FootprintState.usedHeapAfterGc() - state.usedBefore;
+            bytesPerRocket = (double) retainedBytes / state.rockets;
+        }
+    }
+
+    @Benchmark
+    public Object objectFleet(FootprintState state, Footprint footprint) throws SpaceXException {
+        state.fleet = FleetFixture.createFleet(state.rockets, state.rocketsPerMission);
+        footprint.measure(state);
+        return state.fleet;
+    }
+
+    @Benchmark
+    public Object compactFleet(FootprintState state, Footprint footprint) throws SpaceXException {
+        int missions = FleetFixture.missionCount(state.rockets, state.rocketsPerMission);
+        CompactMissionRocketAssignmentService service =
+                new CompactMissionRocketAssignmentService(new CompactFleetRepository(state.rockets, missions));
+
+        for (int i = 0; i < state.rockets; i++) {
+            service.addRocket(FleetFixture.rocketName(i));
+        }
+        for (int i = 0; i < missions; i++) {
+            service.addMission(FleetFixture.missionName(i));
+        }
+        for (int i = 0; i < state.rockets; i++) {
+            service.assignRocketToMission(FleetFixture.rocketName(i), FleetFixture.missionName(i / state.rocketsPerMission));
+        }
+
+        state.fleet = service;
+        footprint.measure(state);
+        return state.fleet;
+    }
+}
@@ -0,0 +1,66 @@
+package spacex.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spacex.SpaceXLibrary;
+import spacex.exception.SpaceXException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.util.concurrent.TimeUnit;
+
+// Time to export a fleet to the binary snapshot format and to import it back into a new library
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class FleetSnapshotBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class SnapshotState {
+
+        @Param({"1000", "100000", "1000000"})
+        public int rockets;
+
+        @Param({"10"})
+        public int rocketsPerMission;
+
+        SpaceXLibrary library;
+        byte[] snapshot;
+        ByteArrayOutputStream output;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SpaceXException, IOException {
+            library = FleetFixture.createFleet(rockets, rocketsPerMission);
+            output = new ByteArrayOutputStream();
+            library.exportSnapshot(Channels.newChannel(output));
+            snapshot = output.toByteArray();
+            System.out.printf("%nSnapshot of %d rockets: %d bytes%n", rockets, snapshot.length);
+        }
+    }
+
+    @Benchmark
+    public int exportSnapshot(SnapshotState state) throws IOException {
+        state.output.reset();
+        state.library.exportSnapshot(Channels.newChannel(state.output));
+        return state.output.size();
+    }
+
+    @Benchmark
+    public SpaceXLibrary importSnapshot(SnapshotState state) throws IOException {
+        return SpaceXLibrary.importSnapshot(Channels.newChannel(new ByteArrayInputStream(state.snapshot)));
+    }
+}
@@ -0,0 +1,66 @@
+package spacex.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spacex.domain.Mission;
+import spacex.domain.MissionAssignments;
+import spacex.domain.Rocket;
+import spacex.util.MissionSummaryFormatter;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Sequential and fork/join formatting of a full summary; the parallel run should scale with the number of cores
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ParallelSummaryBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class MissionState {
+
+        @Param({"100000", "500000"})
+        public int missions;
+
+        @Param({"3"})
+        public int rocketsPerMission;
+
+        List<Mission> missionList;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            missionList = new ArrayList<>(missions);
+            MissionAssignments assignments = new MissionAssignments();
+            for (int i = 0; i < missions; i++) {
+                Mission mission = new Mission(FleetFixture.missionName(i));
+                for (int j = 0; j < rocketsPerMission; j++) {
+                    assignments.assign(new Rocket(FleetFixture.rocketName(i * rocketsPerMission + j)), mission);
+                }
+                missionList.add(mission);
+            }
+        }
+    }
+
+    @Benchmark
+    public String formatSequential(MissionState state) {
+        return MissionSummaryFormatter.formatMissions(state.missionList);
+    }
+
+    @Benchmark
+    public String formatParallel(MissionState state) {
+        return MissionSummaryFormatter.formatMissionsParallel(state.missionList);
+    }
+}
@@ -0,0 +1,77 @@
+package spacex.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spacex.SpaceXLibrary;
+import spacex.domain.Mission;
+import spacex.domain.OperationResult;
+import spacex.domain.Rocket;
+import spacex.exception.SpaceXException;
+
+import java.util.concurrent.TimeUnit;
+
+// Cost of a rejected assignment through the throwing API and through the result-code API
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RejectionBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class FleetState {
+
+        SpaceXLibrary library;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SpaceXException {
+            library = FleetFixture.createFleet(1000, 10);
+            library.addRocket(new Rocket("Shuttle"));
+
+            // A mission ends once its last rocket leaves it
+            library.addMission(new Mission("Ended"));
+            library.addMission(new Mission("Active"));
+            library.assignRocketToMission("Shuttle", "Ended");
+            library.assignRocketToMission("Shuttle", "Active");
+        }
+    }
+
+    @Benchmark
+    public Object throwingRocketNotFound(FleetState state) {
+        try {
+            state.library.assignRocketToMission("Unknown", "Active");
+            return null;
+        } catch (SpaceXException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public OperationResult resultRocketNotFound(FleetState state) {
+        return state.library.tryAssignRocketToMission("Unknown", "Active");
+    }
+
+    @Benchmark
+    public Object throwingMissionNotAvailable(FleetState state) {
+        try {
+            state.library.assignRocketToMission("Shuttle", "Ended");
+            return null;
+        } catch (SpaceXException e) {
+            return e;
+        }
+    }
+
+    @Benchmark
+    public OperationResult resultMissionNotAvailable(FleetState state) {
+        return state.library.tryAssignRocketToMission("Shuttle", "Ended");
+    }
+}
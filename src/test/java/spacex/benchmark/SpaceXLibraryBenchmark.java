@@ -0,0 +1,142 @@
+package spacex.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spacex.SpaceXLibrary;
+import spacex.domain.Mission;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Throughput of every public SpaceXLibrary operation, run with -prof gc to also get the allocation rate
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SpaceXLibraryBenchmark {
+
+    private static final int BATCH_SIZE = 10;
+
+    @State(Scope.Benchmark)
+    public static class FleetState {
+
+        @Param({"1000", "100000", "1000000"})
+        public int rockets;
+
+        @Param({"1", "10", "100"})
+        public int rocketsPerMission;
+
+        SpaceXLibrary library;
+        String[] rocketNames;
+
+        // Two missions that never end, used to move rockets back and forth in a steady state
+        String bayA;
+        String bayB;
+        String shuttle;
+        List<String> batch;
+
+        int statusCursor;
+        boolean shuttleInBayA;
+        boolean batchInBayA;
+
+        @Setup(Level.Trial)
+        public void setUp() throws SpaceXException {
+            library = FleetFixture.createFleet(rockets, rocketsPerMission);
+            rocketNames = FleetFixture.names(FleetFixture.ROCKET_PREFIX, rockets).toArray(String[]::new);
+
+            bayA = "Bay A";
+            bayB = "Bay B";
+            library.addMission(new Mission(bayA));
+            library.addMission(new Mission(bayB));
+
+            for (int i = 0; i < rocketsPerMission; i++) {
+                addAndAssign("Anchor A " + i, bayA);
+                addAndAssign("Anchor B " + i, bayB);
+            }
+
+            shuttle = "Shuttle";
+            addAndAssign(shuttle, bayA);
+            shuttleInBayA = true;
+
+            batch = FleetFixture.names("Batch ", BATCH_SIZE);
+            for (String rocketName : batch) {
+                addAndAssign(rocketName, bayA);
+            }
+            batchInBayA = true;
+        }
+
+        private void addAndAssign(String rocketName, String missionName) throws SpaceXException {
+            library.addRocket(new Rocket(rocketName));
+            library.assignRocketToMission(rocketName, missionName);
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class LoadState {
+
+        @Param({"1000", "100000", "1000000"})
+        public int rockets;
+
+        @Param({"1", "10", "100"})
+        public int rocketsPerMission;
+
+        SpaceXLibrary library;
+        long sequence;
+
+        // Rebuilt every iteration so the growing fleet stays close to the requested size
+        @Setup(Level.Iteration)
+        public void setUp() throws SpaceXException {
+            library = FleetFixture.createFleet(rockets, rocketsPerMission);
+            sequence = 0;
+        }
+    }
+
+    @Benchmark
+    public void addRocket(LoadState state) throws SpaceXException {
+        state.library.addRocket(new Rocket("New Dragon " + state.sequence++));
+    }
+
+    @Benchmark
+    public void addMission(LoadState state) throws SpaceXException {
+        state.library.addMission(new Mission("New Mission " + state.sequence++));
+    }
+
+    @Benchmark
+    public void assignRocketToMission(FleetState state) throws SpaceXException {
+        state.library.assignRocketToMission(state.shuttle, state.shuttleInBayA ? state.bayB : state.bayA);
+        state.shuttleInBayA = !state.shuttleInBayA;
+    }
+
+    @Benchmark
+    public void assignRocketsToMission(FleetState state) throws SpaceXException {
+        state.library.assignRocketsToMission(state.batch, state.batchInBayA ? state.bayB : state.bayA);
+        state.batchInBayA = !state.batchInBayA;
+    }
+
+    @Benchmark
+    public void changeRocketStatus(FleetState state) throws SpaceXException {
+        int cursor = state.statusCursor++;
+        // Every rocket is visited twice per cycle: first into repair, then back to space
+        RocketStatus status = (cursor / state.rockets) % 2 == 0 ? RocketStatus.IN_REPAIR : RocketStatus.IN_SPACE;
+        state.library.changeRocketStatus(state.rocketNames[cursor % state.rockets], status);
+    }
+
+    @Benchmark
+    public String getMissionSummary(FleetState state) {
+        return state.library.getMissionSummary();
+    }
+}
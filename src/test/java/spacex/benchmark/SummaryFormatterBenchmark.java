@@ -0,0 +1,61 @@
+package spacex.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spacex.domain.Mission;
+import spacex.domain.MissionAssignments;
+import spacex.domain.Rocket;
+import spacex.util.MissionSummaryFormatter;
+
+import java.util.concurrent.TimeUnit;
+
+// Per-block formatting cost; run with -prof gc and compare gc.alloc.rate.norm: appending into a reused builder should
+// allocate nothing, and formatMission only the resulting string
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SummaryFormatterBenchmark {
+
+    private static final int ROCKETS_PER_MISSION = 3;
+
+    @State(Scope.Thread)
+    public static class MissionState {
+
+        Mission mission;
+        StringBuilder builder;
+
+        @Setup(Level.Trial)
+        public void setUp() {
+            mission = new Mission(FleetFixture.missionName(42));
+            MissionAssignments assignments = new MissionAssignments();
+            for (int i = 0; i < ROCKETS_PER_MISSION; i++) {
+                assignments.assign(new Rocket(FleetFixture.rocketName(i)), mission);
+            }
+            builder = new StringBuilder(256);
+        }
+    }
+
+    @Benchmark
+    public String formatMission(MissionState state) {
+        return MissionSummaryFormatter.formatMission(state.mission);
+    }
+
+    @Benchmark
+    public int appendMissionToReusedBuilder(MissionState state) {
+        StringBuilder builder = state.builder;
+        builder.setLength(0);
+        MissionSummaryFormatter.appendMission(state.mission, builder);
+        return builder.length();
+    }
+}
@@ -0,0 +1,224 @@
+package spacex.command;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.repository.MissionRepository;
+import spacex.repository.RocketRepository;
+import spacex.service.MissionRocketAssignmentService;
+import spacex.util.FleetConsistencyChecker;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static spacex.constant.ErrorMessages.*;
+
+class FleetCommandPipelineTest {
+
+    private RocketRepository rocketRepository;
+    private MissionRepository missionRepository;
+    private FleetCommandPipeline fleetCommandPipeline;
+
+    @BeforeEach
+    void setUp() {
+        rocketRepository = new RocketRepository();
+        missionRepository = new MissionRepository();
+        fleetCommandPipeline = new FleetCommandPipeline(new MissionRocketAssignmentService(rocketRepository, missionRepository), 8, 4);
+    }
+
+    @AfterEach
+    void tearDown() {
+        fleetCommandPipeline.close();
+    }
+
+    @Test
+    void should_ApplyCommandsInSubmissionOrder() throws Exception {
+        // Given
+        fleetCommandPipeline.addMission(new Mission("Mars"));
+        fleetCommandPipeline.addRocket(new Rocket("Dragon 1"));
+        fleetCommandPipeline.assignRocketToMission("Dragon 1", "Mars");
+
+        // When
+        fleetCommandPipeline.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR).get(10, TimeUnit.SECONDS);
+
+        // Then
+        assertEquals(RocketStatus.IN_REPAIR, rocketRepository.getRocket("Dragon 1").getStatus());
+        assertEquals(MissionStatus.PENDING, missionRepository.getMission("Mars").getStatus());
+    }
+
+    @Test
+    void should_CompleteExceptionallyWithSpaceXException_WhenCommandIsRejected() {
+        // Given
+        fleetCommandPipeline.addMission(new Mission("Mars"));
+
+        // When
+        CompletableFuture<Void> future = fleetCommandPipeline.assignRocketToMission("Dragon 1", "Mars");
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> future.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(SpaceXException.class, exception.getCause());
+        assertEquals(ROCKET_NOT_FOUND, exception.getCause().getMessage());
+    }
+
+    @Test
+    void should_ApplyEnqueuedCommandsOnClose_AndRejectLaterCommands() throws Exception {
+        // Given
+        CompletableFuture<Void> enqueued = fleetCommandPipeline.addRocket(new Rocket("Dragon 1"));
+
+        // When
+        fleetCommandPipeline.close();
+        CompletableFuture<Void> rejected = fleetCommandPipeline.addRocket(new Rocket("Dragon 2"));
+
+        // Then
+        assertNull(enqueued.get(10, TimeUnit.SECONDS));
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> rejected.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+        assertNull(rocketRepository.getRocket("Dragon 2"));
+    }
+
+    @Test
+    void should_NeverRejectAppliedCommand_WhenClosingDuringSubmissions() throws Exception {
+        // Given
+        int producerCount = 4;
+        ExecutorService executor = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<CompletableFuture<Void>>>> producers = new ArrayList<>();
+
+        for (int p = 0; p < producerCount; p++) {
+            int producer = p;
+            producers.add(executor.submit(() -> {
+                start.await();
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+                for (int i = 0; i < 2_000; i++) {
+                    futures.add(fleetCommandPipeline.addRocket(new Rocket("Dragon " + producer + "-" + i)));
+                }
+                return futures;
+            }));
+        }
+
+        // When
+        start.countDown();
+        Thread.sleep(1);
+        fleetCommandPipeline.close();
+
+        // Then
+        for (int p = 0; p < producerCount; p++) {
+            List<CompletableFuture<Void>> futures = producers.get(p).get(60, TimeUnit.SECONDS);
+            for (int i = 0; i < futures.size(); i++) {
+                boolean rejected = futures.get(i).handle((ignored, e) -> e != null).get(10, TimeUnit.SECONDS);
+                assertEquals(rejected, rocketRepository.getRocket("Dragon " + p + "-" + i) == null);
+            }
+        }
+        executor.shutdown();
+    }
+
+    @Test
+    void should_FailOnlyThatCommand_WhenItThrowsError() throws Exception {
+        // Given
+        fleetCommandPipeline.close();
+        fleetCommandPipeline = new FleetCommandPipeline(new MissionRocketAssignmentService(rocketRepository, missionRepository) {
+            @Override
+            public void addMission(Mission mission) throws SpaceXException {
+                if (mission.getName().equals("Broken")) {
+                    throw new AssertionError("Broken mission");
+                }
+                super.addMission(mission);
+            }
+        }, 8, 4);
+
+        // When
+        CompletableFuture<Void> broken = fleetCommandPipeline.addMission(new Mission("Broken"));
+        CompletableFuture<Void> next = fleetCommandPipeline.addMission(new Mission("Mars"));
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class, () -> broken.get(10, TimeUnit.SECONDS));
+        assertInstanceOf(AssertionError.class, exception.getCause());
+        assertNull(next.get(10, TimeUnit.SECONDS));
+        assertNotNull(missionRepository.getMission("Mars"));
+    }
+
+    @Test
+    void should_NotDeadlock_WhenClosedFromCompletionCallback() throws Exception {
+        // Given
+        CompletableFuture<Void> closed = fleetCommandPipeline.addRocket(new Rocket("Dragon 1"))
+                .thenRun(fleetCommandPipeline::close);
+
+        // When
+        closed.get(10, TimeUnit.SECONDS);
+        fleetCommandPipeline.close();
+
+        // Then
+        ExecutionException exception = assertThrows(ExecutionException.class,
+                () -> fleetCommandPipeline.addRocket(new Rocket("Dragon 2")).get(10, TimeUnit.SECONDS));
+        assertInstanceOf(IllegalStateException.class, exception.getCause());
+    }
+
+    @Test
+    void should_KeepFleetInvariants_WithManyProducers() throws Exception {
+        // Given
+        int rocketCount = 100;
+        int missionCount = 10;
+        int producerCount = 8;
+
+        List<CompletableFuture<Void>> setup = new ArrayList<>();
+        for (int i = 0; i < missionCount; i++) {
+            setup.add(fleetCommandPipeline.addMission(new Mission("Mission " + i)));
+        }
+        for (int i = 0; i < rocketCount; i++) {
+            setup.add(fleetCommandPipeline.addRocket(new Rocket("Dragon " + i)));
+        }
+        CompletableFuture.allOf(setup.toArray(CompletableFuture[]::new)).get(10, TimeUnit.SECONDS);
+
+        ExecutorService executor = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<List<CompletableFuture<Void>>>> producers = new ArrayList<>();
+
+        // When
+        for (int p = 0; p < producerCount; p++) {
+            producers.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                RocketStatus[] statuses = RocketStatus.values();
+                List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+                for (int i = 0; i < 5_000; i++) {
+                    String rocketName = "Dragon " + random.nextInt(rocketCount);
+                    futures.add(random.nextInt(3) == 0
+                            ? fleetCommandPipeline.changeRocketStatus(rocketName, statuses[random.nextInt(statuses.length)])
+                            : fleetCommandPipeline.assignRocketToMission(rocketName, "Mission " + random.nextInt(missionCount)));
+                }
+                return futures;
+            }));
+        }
+        start.countDown();
+
+        for (Future<List<CompletableFuture<Void>>> producer : producers) {
+            for (CompletableFuture<Void> future : producer.get(60, TimeUnit.SECONDS)) {
+                try {
+                    future.get(60, TimeUnit.SECONDS);
+                } catch (ExecutionException e) {
+                    // Rejections are expected, e.g. assigning to an ended mission
+                    assertInstanceOf(SpaceXException.class, e.getCause());
+                }
+            }
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(List.of(), FleetConsistencyChecker.findViolations(missionRepository));
+    }
+}
@@ -0,0 +1,156 @@
+package spacex.event;
+
+import org.junit.jupiter.api.Test;
+import spacex.domain.RocketStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetEventDispatcherTest {
+
+    @Test
+    void should_BeInactive_WithoutListeners() {
+        // Given
+        FleetEventDispatcher dispatcher = new FleetEventDispatcher();
+        FleetEventListener listener = events -> {
+        };
+
+        // When & Then
+        assertFalse(dispatcher.isActive());
+        dispatcher.addListener(listener);
+        assertTrue(dispatcher.isActive());
+        dispatcher.removeListener(listener);
+        assertFalse(dispatcher.isActive());
+    }
+
+    @Test
+    void should_DeliverEventsInPublishOrder() throws InterruptedException {
+        // Given
+        FleetEventDispatcher dispatcher = new FleetEventDispatcher();
+        List<FleetEvent> received = new ArrayList<>();
+        CountDownLatch delivered = new CountDownLatch(1);
+
+        dispatcher.addListener(events -> {
+            received.addAll(events);
+            if (received.size() == 100) {
+                delivered.countDown();
+            }
+        });
+
+        List<FleetEvent> published = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            published.add(new FleetEvent.RocketStatusChanged("Dragon " + i, RocketStatus.ON_GROUND, RocketStatus.IN_SPACE));
+        }
+
+        // When
+        published.forEach(dispatcher::publish);
+
+        // Then
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        assertEquals(published, received);
+    }
+
+    @Test
+    void should_KeepDelivering_WhenListenerThrows() throws InterruptedException {
+        // Given
+        FleetEventDispatcher dispatcher = new FleetEventDispatcher();
+        CountDownLatch delivered = new CountDownLatch(2);
+
+        dispatcher.addListener(events -> {
+            throw new IllegalStateException("Listener failed");
+        });
+        dispatcher.addListener(events -> events.forEach(event -> delivered.countDown()));
+
+        // When
+        dispatcher.publish(new FleetEvent.RocketStatusChanged("Dragon 1", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE));
+        Thread.sleep(50);
+        dispatcher.publish(new FleetEvent.RocketStatusChanged("Dragon 2", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE));
+
+        // Then
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void should_KeepDelivering_WhenListenerThrowsError() throws InterruptedException {
+        // Given
+        FleetEventDispatcher dispatcher = new FleetEventDispatcher();
+        CountDownLatch delivered = new CountDownLatch(2);
+
+        dispatcher.addListener(events -> {
+            throw new Error("Listener failed");
+        });
+        dispatcher.addListener(events -> events.forEach(event -> delivered.countDown()));
+
+        // When
+        dispatcher.publish(new FleetEvent.RocketStatusChanged("Dragon 1", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE));
+        Thread.sleep(50);
+        dispatcher.publish(new FleetEvent.RocketStatusChanged("Dragon 2", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE));
+
+        // Then
+        assertTrue(delivered.await(10, TimeUnit.SECONDS));
+        dispatcher.close();
+    }
+
+    @Test
+    void should_DropNewEventsAndReportCount_WhenQueueIsFull() throws InterruptedException {
+        // Given
+        FleetEventDispatcher dispatcher = new FleetEventDispatcher(4);
+        List<FleetEvent> received = new CopyOnWriteArrayList<>();
+        CountDownLatch firstDelivered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        dispatcher.addListener(events -> {
+            received.addAll(events);
+            firstDelivered.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+
+        dispatcher.publish(statusChanged(0));
+        assertTrue(firstDelivered.await(10, TimeUnit.SECONDS));
+
+        // When
+        for (int i = 1; i <= 10; i++) {
+            dispatcher.publish(statusChanged(i));
+        }
+        release.countDown();
+        dispatcher.close();
+
+        // Then
+        assertEquals(List.of(statusChanged(0), statusChanged(1), statusChanged(2), statusChanged(3), statusChanged(4),
+                new FleetEvent.EventsDropped(6)), received);
+    }
+
+    @Test
+    void should_DeliverPendingEvents_AndStopOnClose() {
+        // Given
+        FleetEventDispatcher dispatcher = new FleetEventDispatcher();
+        List<FleetEvent> received = new CopyOnWriteArrayList<>();
+        dispatcher.addListener(received::addAll);
+
+        for (int i = 0; i < 100; i++) {
+            dispatcher.publish(statusChanged(i));
+        }
+
+        // When
+        dispatcher.close();
+
+        // Then
+        assertEquals(100, received.size());
+        assertFalse(dispatcher.isActive());
+        assertThrows(IllegalStateException.class, () -> dispatcher.addListener(events -> {
+        }));
+    }
+
+    private static FleetEvent statusChanged(int rocket) {
+        return new FleetEvent.RocketStatusChanged("Dragon " + rocket, RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+    }
+}
@@ -0,0 +1,230 @@
+package spacex.history;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.RocketStatus;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StatusHistoryTest {
+
+    private static final Instant START = Instant.parse("2026-01-05T00:00:00Z");
+
+    private MutableClock clock;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(START);
+    }
+
+    @Test
+    void should_ReturnTransitionsOfOneName_InTimeOrder() {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 16, Duration.ofDays(7), clock);
+        history.record("Dragon 1", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+        clock.advance(Duration.ofHours(1));
+        history.record("Dragon 2", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+        clock.advance(Duration.ofHours(1));
+        history.record("Dragon 1", RocketStatus.IN_SPACE, RocketStatus.IN_REPAIR);
+
+        // When
+        List<StatusTransition<RocketStatus>> transitions = history.getTransitions("Dragon 1", START, START.plus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(List.of(
+                new StatusTransition<>("Dragon 1", START, RocketStatus.ON_GROUND, RocketStatus.IN_SPACE),
+                new StatusTransition<>("Dragon 1", START.plus(Duration.ofHours(2)), RocketStatus.IN_SPACE, RocketStatus.IN_REPAIR)
+        ), transitions);
+        assertEquals(1, history.getTransitions("Dragon 1", START.plusSeconds(1), START.plus(Duration.ofDays(1))).size());
+        assertTrue(history.getTransitions("Unknown", START, START.plus(Duration.ofDays(1))).isEmpty());
+    }
+
+    @Test
+    void should_OverwriteOldestRecords_WhenCapacityIsReached() {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 4, Duration.ofDays(7), clock);
+
+        // When
+        for (int i = 0; i < 10; i++) {
+            clock.advance(Duration.ofMinutes(1));
+            history.record("Dragon " + (i % 2), RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+        }
+
+        // Then
+        assertEquals(4, history.size());
+        assertEquals(2, history.getTransitions("Dragon 0", START, START.plus(Duration.ofDays(1))).size());
+        assertEquals(2, history.getTransitions("Dragon 1", START, START.plus(Duration.ofDays(1))).size());
+        assertEquals(START.plus(Duration.ofMinutes(6)), history.getCoveredSince());
+    }
+
+    @Test
+    void should_DropRecordsOlderThanRetention() {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 16, Duration.ofHours(1), clock);
+        history.record("Dragon 1", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+        clock.advance(Duration.ofMinutes(90));
+        history.record("Dragon 1", RocketStatus.IN_SPACE, RocketStatus.IN_REPAIR);
+
+        // When
+        List<StatusTransition<RocketStatus>> transitions = history.getTransitions("Dragon 1", START, START.plus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(1, history.size());
+        assertEquals(RocketStatus.IN_REPAIR, transitions.get(0).newStatus());
+        assertEquals(START.plus(Duration.ofMinutes(30)), history.getCoveredSince());
+    }
+
+    @Test
+    void should_ComputeTimeInStatus_WithinWindow() {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 16, Duration.ofDays(30), clock);
+        clock.advance(Duration.ofDays(1));
+        history.record("Dragon 1", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+        clock.advance(Duration.ofDays(1));
+        history.record("Dragon 1", RocketStatus.IN_SPACE, RocketStatus.IN_REPAIR);
+        clock.advance(Duration.ofHours(10));
+        history.record("Dragon 1", RocketStatus.IN_REPAIR, RocketStatus.IN_SPACE);
+        clock.advance(Duration.ofDays(1));
+        history.record("Dragon 1", RocketStatus.IN_SPACE, RocketStatus.IN_REPAIR);
+        clock.advance(Duration.ofHours(5));
+
+        // When
+        Duration wholeWeek = history.getTimeInStatus("Dragon 1", RocketStatus.IN_REPAIR, RocketStatus.IN_REPAIR, START, START.plus(Duration.ofDays(7)));
+        Duration firstRepairOnly = history.getTimeInStatus("Dragon 1", RocketStatus.IN_REPAIR, RocketStatus.IN_REPAIR,
+                START, START.plus(Duration.ofDays(3)));
+        Duration onGround = history.getTimeInStatus("Dragon 1", RocketStatus.ON_GROUND, RocketStatus.IN_REPAIR, START, START.plus(Duration.ofDays(7)));
+
+        // Then
+        assertEquals(Duration.ofHours(15), wholeWeek);
+        assertEquals(Duration.ofHours(10), firstRepairOnly);
+        assertEquals(Duration.ofDays(1), onGround);
+    }
+
+    @Test
+    void should_UseCurrentStatus_WhenNameHasNoTransitions() {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 16, Duration.ofDays(7), clock);
+        clock.advance(Duration.ofHours(3));
+
+        // When
+        Duration inRepair = history.getTimeInStatus("Dragon 1", RocketStatus.IN_REPAIR, RocketStatus.IN_REPAIR,
+                START.minus(Duration.ofDays(1)), START.plus(Duration.ofDays(1)));
+
+        // Then
+        assertEquals(Duration.ofHours(3), inRepair);
+    }
+
+    @Test
+    void should_SplitCapacityOverStripes_KeepingEveryNameComplete() {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 100, Duration.ofDays(7), clock, 8);
+
+        // When
+        for (int i = 0; i < 20; i++) {
+            clock.advance(Duration.ofMinutes(1));
+            history.record("Dragon " + (i % 5), RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+        }
+
+        // Then
+        assertEquals(100, history.capacity());
+        assertEquals(20, history.size());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(4, history.getTransitions("Dragon " + i, START, START.plus(Duration.ofDays(1))).size());
+        }
+    }
+
+    @Test
+    void should_ForgetNames_WhoseRecordsWereAllEvicted() {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 8, Duration.ofDays(7), clock);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            history.record("Dragon " + i, RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+        }
+
+        // Then
+        assertTrue(history.nameCount() <= 8 + 64 + 1, "Interned names: " + history.nameCount());
+        assertEquals(8, history.size());
+        assertEquals(1, history.getTransitions("Dragon 9999", START, START.plus(Duration.ofDays(1))).size());
+        assertEquals(1, history.getTransitions("Dragon 9992", START, START.plus(Duration.ofDays(1))).size());
+        assertTrue(history.getTransitions("Dragon 9991", START, START.plus(Duration.ofDays(1))).isEmpty());
+    }
+
+    @Test
+    void should_KeepEveryNameConsistent_WhenRecordedConcurrently() throws Exception {
+        // Given
+        StatusHistory<RocketStatus> history = new StatusHistory<>(RocketStatus.class, 160_000, Duration.ofDays(7), clock, 16);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<?>> writers = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < 4; t++) {
+            int writer = t;
+            writers.add(executor.submit(() -> {
+                for (int i = 0; i < 10_000; i++) {
+                    history.record("Dragon " + writer + "-" + (i % 100), RocketStatus.ON_GROUND, RocketStatus.IN_SPACE);
+                }
+            }));
+        }
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertEquals(40_000, history.size());
+        for (int t = 0; t < 4; t++) {
+            assertEquals(100, history.getTransitions("Dragon " + t + "-7", START, START.plus(Duration.ofDays(1))).size());
+        }
+    }
+
+    @Test
+    void should_RejectNonPositiveCapacityOrRetention() {
+        // Given & When & Then
+        assertThrows(IllegalArgumentException.class, () -> new StatusHistory<>(RocketStatus.class, 0, Duration.ofDays(1), clock));
+        assertThrows(IllegalArgumentException.class, () -> new StatusHistory<>(RocketStatus.class, 16, Duration.ZERO, clock));
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        private void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package spacex.metrics;
+
+import org.junit.jupiter.api.Test;
+import spacex.SpaceXLibrary;
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.OperationResult;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import javax.management.openmbean.TabularData;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetMetricsJmxTest {
+
+    @Test
+    void should_CountCallsAndRejectionsPerReason() throws SpaceXException {
+        // Given
+        SpaceXLibrary spaceXLibrary = new SpaceXLibrary();
+        InMemoryFleetMetrics metrics = new InMemoryFleetMetrics();
+        spaceXLibrary.setMetrics(metrics);
+
+        spaceXLibrary.addMission(new Mission("Mars"));
+        spaceXLibrary.addRocket(new Rocket("Dragon 1"));
+
+        // When
+        spaceXLibrary.assignRocketToMission("Dragon 1", "Mars");
+        spaceXLibrary.tryAssignRocketToMission("Dragon 2", "Mars");
+        assertThrows(SpaceXException.class, () -> spaceXLibrary.assignRocketToMission("Dragon 1", "Luna"));
+        spaceXLibrary.getMissionSummary();
+
+        // Then
+        assertEquals(3, metrics.getCallCount(FleetOperation.ASSIGN_ROCKET));
+        assertEquals(1, metrics.getRejectionCount(FleetOperation.ASSIGN_ROCKET, OperationResult.ROCKET_NOT_FOUND));
+        assertEquals(1, metrics.getRejectionCount(FleetOperation.ASSIGN_ROCKET, OperationResult.MISSION_NOT_FOUND));
+        assertEquals(Map.of(OperationResult.ROCKET_NOT_FOUND, 1L, OperationResult.MISSION_NOT_FOUND, 1L),
+                metrics.getRejectionCounts(FleetOperation.ASSIGN_ROCKET));
+        assertEquals(1, metrics.getCallCount(FleetOperation.GET_MISSION_SUMMARY));
+        assertEquals(3, metrics.getLatencyHistogram(FleetOperation.ASSIGN_ROCKET).getCount());
+    }
+
+    @Test
+    void should_StopMeasuring_WhenMetricsAreDisabled() throws SpaceXException {
+        // Given
+        SpaceXLibrary spaceXLibrary = new SpaceXLibrary();
+        InMemoryFleetMetrics metrics = new InMemoryFleetMetrics();
+        spaceXLibrary.setMetrics(metrics);
+        spaceXLibrary.addRocket(new Rocket("Dragon 1"));
+
+        // When
+        spaceXLibrary.setMetrics(FleetMetrics.NOOP);
+        spaceXLibrary.addRocket(new Rocket("Dragon 2"));
+
+        // Then
+        assertEquals(1, metrics.getCallCount(FleetOperation.ADD_ROCKET));
+    }
+
+    @Test
+    void should_ExposeMetricsAndGauges_ThroughJmx() throws SpaceXException, JMException {
+        // Given
+        SpaceXLibrary spaceXLibrary = new SpaceXLibrary();
+        InMemoryFleetMetrics metrics = new InMemoryFleetMetrics();
+        spaceXLibrary.setMetrics(metrics);
+
+        spaceXLibrary.addMission(new Mission("Mars"));
+        spaceXLibrary.addMission(new Mission("Luna"));
+        spaceXLibrary.addRocket(new Rocket("Dragon 1"));
+        spaceXLibrary.addRocket(new Rocket("Dragon 2"));
+        spaceXLibrary.assignRocketToMission("Dragon 1", "Mars");
+        spaceXLibrary.tryAssignRocketToMission("Dragon 1", "Venus");
+
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+
+        // When
+        ObjectName name = FleetMetricsJmx.register("test", metrics, spaceXLibrary);
+
+        // Then
+        try {
+            TabularData callCounts = (TabularData) server.getAttribute(name, "CallCounts");
+            assertEquals(2L, callCounts.get(new Object[]{"ASSIGN_ROCKET"}).get("value"));
+
+            TabularData rejections = (TabularData) server.getAttribute(name, "RejectionCounts");
+            assertEquals(1L, rejections.get(new Object[]{"ASSIGN_ROCKET.MISSION_NOT_FOUND"}).get("value"));
+
+            TabularData rockets = (TabularData) server.getAttribute(name, "RocketsByStatus");
+            assertEquals(1, rockets.get(new Object[]{"IN_SPACE"}).get("value"));
+            assertEquals(1, rockets.get(new Object[]{"ON_GROUND"}).get("value"));
+
+            assertEquals(Map.of(MissionStatus.SCHEDULED, 1, MissionStatus.PENDING, 0, MissionStatus.IN_PROGRESS, 1, MissionStatus.ENDED, 0),
+                    spaceXLibrary.countMissionsByStatus());
+            assertEquals(0, spaceXLibrary.countRocketsByStatus().get(RocketStatus.IN_REPAIR));
+        } finally {
+            server.unregisterMBean(name);
+        }
+    }
+}
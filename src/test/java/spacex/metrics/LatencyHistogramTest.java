@@ -0,0 +1,64 @@
+package spacex.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    @Test
+    void should_ReturnZero_WhenNothingIsRecorded() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When & Then
+        assertEquals(0, histogram.getCount());
+        assertEquals(0, histogram.getValueAtPercentile(99));
+    }
+
+    @Test
+    void should_KeepSmallValuesExact() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (int value = 1; value <= 10; value++) {
+            histogram.record(value);
+        }
+
+        // Then
+        assertEquals(10, histogram.getCount());
+        assertEquals(5, histogram.getValueAtPercentile(50));
+        assertEquals(10, histogram.getValueAtPercentile(100));
+        assertEquals(10, histogram.getMax());
+    }
+
+    @Test
+    void should_ReportPercentilesWithinBucketPrecision() {
+        // Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        // When
+        for (long value = 1; value <= 1_000_000; value++) {
+            histogram.record(value * 1000);
+        }
+
+        // Then
+        assertEquals(500_000_000, histogram.getValueAtPercentile(50), 500_000_000 * 0.035);
+        assertEquals(990_000_000, histogram.getValueAtPercentile(99), 990_000_000 * 0.035);
+        assertEquals(1_000_000_000, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    void should_MapEveryValueIntoABucketThatContainsIt() {
+        // Given
+        long[] values = {0, 31, 32, 33, 63, 64, 65, 1000, 123_456_789, Long.MAX_VALUE};
+
+        // When & Then
+        for (long value : values) {
+            int bucket = LatencyHistogram.bucketOf(value);
+            assertTrue(LatencyHistogram.upperBoundOf(bucket) >= value);
+            assertTrue(bucket == 0 || LatencyHistogram.upperBoundOf(bucket - 1) < value);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package spacex.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FileFleetJournalTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_ReplayRecordsInOrder() throws IOException {
+        // Given
+        Path file = directory.resolve("fleet-0.journal");
+        writeRecords(file);
+
+        // When
+        List<String> replayed = new ArrayList<>();
+        long length = FileFleetJournal.replay(file, new RecordingHandler(replayed));
+
+        // Then
+        assertEquals(Files.size(file), length);
+        assertEquals(List.of(
+                "addRocket Dragon 1 ON_GROUND",
+                "addMission Mars SCHEDULED",
+                "assignRocket Dragon 1 Mars",
+                "assignRockets [Dragon 1, Dragon 2] Mars",
+                "changeRocketStatus Dragon 1 IN_REPAIR"), replayed);
+    }
+
+    @Test
+    void should_ReplayRocketTransferRecords() throws IOException {
+        // Given
+        Path file = directory.resolve("fleet-0.journal");
+        try (FileFleetJournal journal = FileFleetJournal.open(file, new RecordingHandler(new ArrayList<>()))) {
+            journal.logRemoveRocket("Dragon 1");
+            journal.sync(journal.logAddRocketToMission("Dragon 2", RocketStatus.IN_REPAIR, "Mars"));
+        }
+
+        // When
+        List<String> replayed = new ArrayList<>();
+        FileFleetJournal.replay(file, new RecordingHandler(replayed));
+
+        // Then
+        assertEquals(List.of("removeRocket Dragon 1", "addRocketToMission Dragon 2 IN_REPAIR Mars"), replayed);
+    }
+
+    @Test
+    void should_DropTruncatedTail_AndContinueAfterLastIntactRecord() throws IOException {
+        // Given
+        Path file = directory.resolve("fleet-0.journal");
+        writeRecords(file);
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.WRITE)) {
+            channel.truncate(channel.size() - 3);
+        }
+
+        // When
+        List<String> replayed = new ArrayList<>();
+        try (FileFleetJournal journal = FileFleetJournal.open(file, new RecordingHandler(replayed))) {
+            journal.sync(journal.logAddRocket("Dragon 3", RocketStatus.ON_GROUND));
+        }
+
+        // Then
+        assertEquals(4, replayed.size());
+
+        List<String> replayedAgain = new ArrayList<>();
+        FileFleetJournal.replay(file, new RecordingHandler(replayedAgain));
+        assertEquals(5, replayedAgain.size());
+        assertEquals("addRocket Dragon 3 ON_GROUND", replayedAgain.get(4));
+    }
+
+    @Test
+    void should_StopAtTornRecord_WhenChecksumDoesNotMatch() throws IOException {
+        // Given
+        Path file = directory.resolve("fleet-0.journal");
+        writeRecords(file);
+        byte[] bytes = Files.readAllBytes(file);
+        bytes[bytes.length - 1] ^= 0x01;
+        Files.write(file, bytes);
+
+        // When
+        List<String> replayed = new ArrayList<>();
+        long length = FileFleetJournal.replay(file, new RecordingHandler(replayed));
+
+        // Then
+        assertEquals(4, replayed.size());
+        assertTrue(length < bytes.length);
+    }
+
+    @Test
+    void should_StopAtZeroFilledTail() throws IOException {
+        // Given
+        Path file = directory.resolve("fleet-0.journal");
+        writeRecords(file);
+        Files.write(file, new byte[64], StandardOpenOption.APPEND);
+
+        // When
+        List<String> replayed = new ArrayList<>();
+        long length = FileFleetJournal.replay(file, new RecordingHandler(replayed));
+
+        // Then
+        assertEquals(5, replayed.size());
+        assertEquals(Files.size(file) - 64, length);
+    }
+
+    @Test
+    void should_StartOver_WhenFileHeaderIsTorn() throws IOException {
+        // Given
+        Path file = Files.write(directory.resolve("fleet-0.journal"), new byte[]{0x46, 0x4A});
+
+        // When
+        List<String> replayed = new ArrayList<>();
+        try (FileFleetJournal journal = FileFleetJournal.open(file, new RecordingHandler(replayed))) {
+            journal.sync(journal.logAddMission("Mars", MissionStatus.SCHEDULED));
+        }
+
+        // Then
+        assertTrue(replayed.isEmpty());
+        FileFleetJournal.replay(file, new RecordingHandler(replayed));
+        assertEquals(List.of("addMission Mars SCHEDULED"), replayed);
+    }
+
+    @Test
+    void should_ThrowException_WhenFileIsNotAJournal() throws IOException {
+        // Given
+        Path file = Files.write(directory.resolve("fleet-0.journal"), new byte[32]);
+
+        // When & Then
+        assertThrows(IOException.class, () -> FileFleetJournal.replay(file, new RecordingHandler(new ArrayList<>())));
+    }
+
+    @Test
+    void should_KeepEveryRecord_WhenWritersSyncConcurrently() throws Exception {
+        // Given
+        Path file = directory.resolve("fleet-0.journal");
+        int threads = 8;
+        int recordsPerThread = 200;
+
+        // When
+        try (FileFleetJournal journal = FileFleetJournal.open(file, new RecordingHandler(new ArrayList<>()))) {
+            ExecutorService executor = Executors.newFixedThreadPool(threads);
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < recordsPerThread; i++) {
+                        journal.sync(journal.logAddRocket("Dragon " + thread + "-" + i, RocketStatus.ON_GROUND));
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+            executor.shutdown();
+        }
+
+        // Then
+        List<String> replayed = new ArrayList<>();
+        FileFleetJournal.replay(file, new RecordingHandler(replayed));
+        assertEquals(threads * recordsPerThread, replayed.size());
+    }
+
+    private static void writeRecords(Path file) throws IOException {
+        try (FileFleetJournal journal = FileFleetJournal.open(file, new RecordingHandler(new ArrayList<>()))) {
+            journal.logAddRocket("Dragon 1", RocketStatus.ON_GROUND);
+            journal.logAddMission("Mars", MissionStatus.SCHEDULED);
+            journal.logAssignRocket("Dragon 1", "Mars");
+            journal.logAssignRockets(List.of("Dragon 1", "Dragon 2"), "Mars");
+            journal.sync(journal.logChangeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR));
+        }
+    }
+
+    private record RecordingHandler(List<String> records) implements FileFleetJournal.Handler {
+
+        @Override
+        public void addRocket(String rocketName, RocketStatus status) {
+            records.add("addRocket " + rocketName + " " + status);
+        }
+
+        @Override
+        public void addMission(String missionName, MissionStatus status) {
+            records.add("addMission " + missionName + " " + status);
+        }
+
+        @Override
+        public void assignRocket(String rocketName, String missionName) {
+            records.add("assignRocket " + rocketName + " " + missionName);
+        }
+
+        @Override
+        public void assignRockets(List<String> rocketNames, String missionName) {
+            records.add("assignRockets " + rocketNames + " " + missionName);
+        }
+
+        @Override
+        public void changeRocketStatus(String rocketName, RocketStatus status) {
+            records.add("changeRocketStatus " + rocketName + " " + status);
+        }
+
+        @Override
+        public void removeRocket(String rocketName) {
+            records.add("removeRocket " + rocketName);
+        }
+
+        @Override
+        public void addRocketToMission(String rocketName, RocketStatus status, String missionName) {
+            records.add("addRocketToMission " + rocketName + " " + status + " " + missionName);
+        }
+    }
+}
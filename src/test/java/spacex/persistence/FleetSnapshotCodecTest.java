@@ -0,0 +1,191 @@
+package spacex.persistence;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.repository.MissionRepository;
+import spacex.repository.RocketRepository;
+import spacex.service.MissionRocketAssignmentService;
+import spacex.util.FleetConsistencyChecker;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetSnapshotCodecTest {
+
+    @TempDir
+    Path directory;
+
+    private RocketRepository rocketRepository;
+    private MissionRepository missionRepository;
+    private MissionRocketAssignmentService missionRocketAssignmentService;
+
+    @BeforeEach
+    void setUp() {
+        rocketRepository = new RocketRepository();
+        missionRepository = new MissionRepository();
+        missionRocketAssignmentService = new MissionRocketAssignmentService(rocketRepository, missionRepository);
+    }
+
+    @Test
+    void should_RestoreFleet_WhenSnapshotIsDecoded() throws SpaceXException, IOException {
+        // Given
+        for (String missionName : List.of("Mars", "Luna", "Titan", "Europa")) {
+            missionRocketAssignmentService.addMission(new Mission(missionName));
+        }
+        for (int i = 1; i <= 6; i++) {
+            missionRocketAssignmentService.addRocket(new Rocket("Dragon " + i));
+        }
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 3", "Dragon 1", "Dragon 2"), "Mars");
+        missionRocketAssignmentService.assignRocketToMission("Dragon 4", "Luna");
+        missionRocketAssignmentService.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR);
+        missionRocketAssignmentService.assignRocketToMission("Dragon 5", "Titan");
+        missionRocketAssignmentService.changeRocketStatus("Dragon 5", RocketStatus.ON_GROUND);
+
+        // When
+        FleetSnapshotCodec.DecodedFleet fleet = FleetSnapshotCodec.decode(Channels.newChannel(new ByteArrayInputStream(encode(7))));
+
+        // Then
+        RocketRepository restoredRocketRepository = fleet.rocketRepository();
+        MissionRepository restoredMissionRepository = fleet.missionRepository();
+        MissionRocketAssignmentService restoredService = new MissionRocketAssignmentService(restoredRocketRepository, restoredMissionRepository);
+        assertEquals(7, fleet.generation());
+        assertEquals(missionRocketAssignmentService.getMissionSummary(), restoredService.getMissionSummary());
+        assertEquals(MissionStatus.ENDED, restoredMissionRepository.getMission("Titan").getStatus());
+        assertEquals(MissionStatus.SCHEDULED, restoredMissionRepository.getMission("Europa").getStatus());
+        assertEquals(RocketStatus.ON_GROUND, restoredRocketRepository.getRocket("Dragon 6").getStatus());
+        assertNull(restoredMissionRepository.getMissionForRocket("Dragon 5"));
+        assertEquals(6, restoredRocketRepository.getAllRockets().size());
+        assertTrue(FleetConsistencyChecker.findViolations(restoredMissionRepository).isEmpty());
+    }
+
+    @Test
+    void should_RestoreNamesLargerThanTheBuffer() throws SpaceXException, IOException {
+        // Given
+        String longName = "Dragon " + "X".repeat(200_000);
+        missionRocketAssignmentService.addRocket(new Rocket(longName));
+
+        // When
+        FleetSnapshotCodec.DecodedFleet fleet = FleetSnapshotCodec.decode(Channels.newChannel(new ByteArrayInputStream(encode(0))));
+
+        // Then
+        assertNotNull(fleet.rocketRepository().getRocket(longName));
+    }
+
+    @Test
+    void should_ThrowException_WhenSnapshotIsTruncated() throws SpaceXException, IOException {
+        // Given
+        missionRocketAssignmentService.addMission(new Mission("Mars"));
+        byte[] snapshot = encode(0);
+
+        // When & Then
+        assertThrows(EOFException.class, () -> FleetSnapshotCodec.decode(
+                Channels.newChannel(new ByteArrayInputStream(Arrays.copyOf(snapshot, snapshot.length - 2)))));
+    }
+
+    @Test
+    void should_ThrowException_WhenSnapshotIsCorrupted() throws SpaceXException, IOException {
+        // Given
+        missionRocketAssignmentService.addMission(new Mission("Mars"));
+        byte[] snapshot = encode(0);
+        snapshot[snapshot.length - 6] ^= 0x01;
+
+        // When & Then
+        assertThrows(IOException.class, () -> FleetSnapshotCodec.decode(
+                Channels.newChannel(new ByteArrayInputStream(snapshot))));
+    }
+
+    @Test
+    void should_ThrowException_WhenVersionIsNotSupported() throws IOException {
+        // Given
+        byte[] snapshot = encode(0);
+        snapshot[4] = 1;
+
+        // When & Then
+        IOException exception = assertThrows(IOException.class, () -> FleetSnapshotCodec.decode(
+                Channels.newChannel(new ByteArrayInputStream(snapshot))));
+        assertEquals("Unsupported fleet snapshot version 1", exception.getMessage());
+    }
+
+    @Test
+    void should_ThrowIOException_WhenCountsExceedTheSnapshotFile() throws IOException {
+        // Given
+        Path snapshotFile = directory.resolve("fleet.snapshot");
+        Files.write(snapshotFile, snapshot(0, 0xFF, 0xFF, 0xFF, 0xFF, 0x07, 0xFF, 0xFF, 0xFF, 0xFF, 0x07));
+
+        // When & Then
+        try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+            IOException exception = assertThrows(IOException.class, () -> FleetSnapshotCodec.decode(channel));
+            assertEquals("Fleet snapshot is corrupted", exception.getMessage());
+        }
+    }
+
+    @Test
+    void should_ThrowEOFException_WhenNameLengthExceedsTheStream() {
+        // Given
+        byte[] snapshot = snapshot(0, 1, 0, 0xF0, 0xFF, 0xFF, 0xFF, 0x07);
+
+        // When & Then
+        assertThrows(EOFException.class, () -> FleetSnapshotCodec.decode(
+                Channels.newChannel(new ByteArrayInputStream(snapshot))));
+    }
+
+    @Test
+    void should_ThrowException_WhenMissionNameIsDuplicated() {
+        // Given
+        byte[] snapshot = snapshot(0, 2, 0, 4, 'M', 'a', 'r', 's', 0, 0, 4, 'M', 'a', 'r', 's', 0, 0, 0);
+
+        // When & Then
+        IOException exception = assertThrows(IOException.class, () -> FleetSnapshotCodec.decode(
+                Channels.newChannel(new ByteArrayInputStream(snapshot))));
+        assertEquals("Fleet snapshot has duplicate mission Mars", exception.getMessage());
+    }
+
+    @Test
+    void should_ThrowException_WhenRocketNameIsDuplicated() {
+        // Given
+        byte[] snapshot = snapshot(0, 0, 2, 2, 2, 'D', '1', 0, 2, 'D', '1', 0);
+
+        // When & Then
+        IOException exception = assertThrows(IOException.class, () -> FleetSnapshotCodec.decode(
+                Channels.newChannel(new ByteArrayInputStream(snapshot))));
+        assertEquals("Fleet snapshot has duplicate rocket D1", exception.getMessage());
+    }
+
+    private byte[] encode(long generation) throws IOException {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        FleetSnapshotCodec.encode(generation, rocketRepository, missionRepository, Channels.newChannel(output));
+        return output.toByteArray();
+    }
+
+    // Magic and version, the given bytes after them and a valid checksum
+    private static byte[] snapshot(int... body) {
+        ByteBuffer buffer = ByteBuffer.allocate(9 + body.length);
+        buffer.putInt(0x46534E50).put((byte) FleetSnapshotCodec.VERSION);
+        for (int value : body) {
+            buffer.put((byte) value);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(buffer.array(), 0, buffer.position());
+        buffer.putInt((int) crc.getValue());
+        return buffer.array();
+    }
+}
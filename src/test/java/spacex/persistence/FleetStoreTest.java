@@ -0,0 +1,134 @@
+package spacex.persistence;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spacex.domain.Mission;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.service.MissionRocketAssignmentService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetStoreTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_RestoreFleet_FromJournal() throws IOException, SpaceXException {
+        // Given
+        String summary;
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+            summary = addFleet(fleetStore.getMissionRocketAssignmentService());
+        }
+
+        // When
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+
+            // Then
+            assertEquals(summary, fleetStore.getMissionRocketAssignmentService().getMissionSummary());
+        }
+    }
+
+    @Test
+    void should_RestoreFleet_FromSnapshotAndJournalTail() throws IOException, SpaceXException {
+        // Given
+        String summary;
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+            MissionRocketAssignmentService service = fleetStore.getMissionRocketAssignmentService();
+            addFleet(service);
+            fleetStore.snapshot();
+
+            service.changeRocketStatus("Dragon 2", RocketStatus.IN_SPACE);
+            service.addRocket(new Rocket("Dragon 4"));
+            service.assignRocketToMission("Dragon 4", "Luna");
+            summary = service.getMissionSummary();
+        }
+
+        // When
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+
+            // Then
+            assertEquals(summary, fleetStore.getMissionRocketAssignmentService().getMissionSummary());
+            assertEquals(List.of("fleet-1.journal", "fleet.snapshot"), listFiles());
+        }
+    }
+
+    @Test
+    void should_RestoreIntactPart_WhenJournalTailIsTorn() throws IOException, SpaceXException {
+        // Given
+        String summary;
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+            summary = addFleet(fleetStore.getMissionRocketAssignmentService());
+        }
+        Files.write(directory.resolve("fleet-0.journal"), new byte[]{0, 0, 0, 42, 1, 2}, StandardOpenOption.APPEND);
+
+        // When
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+            MissionRocketAssignmentService service = fleetStore.getMissionRocketAssignmentService();
+
+            // Then
+            assertEquals(summary, service.getMissionSummary());
+            service.addMission(new Mission("Titan"));
+        }
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+            assertTrue(fleetStore.getMissionRocketAssignmentService().getMissionSummary().contains("Titan"));
+        }
+    }
+
+    @Test
+    void should_ReplayEveryJournal_WhenSnapshotWasNotWritten() throws IOException, SpaceXException {
+        // Given
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+            addFleet(fleetStore.getMissionRocketAssignmentService());
+        }
+        byte[] firstJournal = Files.readAllBytes(directory.resolve("fleet-0.journal"));
+
+        String summary;
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+            fleetStore.snapshot();
+            fleetStore.getMissionRocketAssignmentService().addMission(new Mission("Titan"));
+            summary = fleetStore.getMissionRocketAssignmentService().getMissionSummary();
+        }
+
+        // As if the process died after rolling to fleet-1.journal but before the snapshot was written
+        Files.delete(directory.resolve("fleet.snapshot"));
+        Files.write(directory.resolve("fleet-0.journal"), firstJournal);
+
+        // When
+        try (FleetStore fleetStore = FleetStore.open(directory, 4, null)) {
+
+            // Then
+            assertEquals(summary, fleetStore.getMissionRocketAssignmentService().getMissionSummary());
+            fleetStore.snapshot();
+            assertEquals(List.of("fleet-2.journal", "fleet.snapshot"), listFiles());
+        }
+    }
+
+    private static String addFleet(MissionRocketAssignmentService service) throws SpaceXException {
+        service.addMission(new Mission("Mars"));
+        service.addMission(new Mission("Luna"));
+        service.addRocket(new Rocket("Dragon 1"));
+        service.addRocket(new Rocket("Dragon 2"));
+        service.addRocket(new Rocket("Dragon 3"));
+        service.assignRocketToMission("Dragon 1", "Mars");
+        service.assignRocketsToMission(List.of("Dragon 2", "Dragon 3"), "Mars");
+        service.changeRocketStatus("Dragon 2", RocketStatus.IN_REPAIR);
+        service.assignRocketToMission("Dragon 3", "Luna");
+        return service.getMissionSummary();
+    }
+
+    private List<String> listFiles() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.map(file -> file.getFileName().toString()).sorted().toList();
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package spacex.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static spacex.repository.FleetRepository.NO_ID;
+
+class CompactFleetRepositoryTest {
+
+    private CompactFleetRepository fleetRepository;
+    private int mission;
+
+    @BeforeEach
+    void setUp() {
+        fleetRepository = new CompactFleetRepository(2, 2);
+        mission = fleetRepository.addMission("Mars");
+    }
+
+    @Test
+    void should_AddAndRetrieveRocket() {
+        // Given & When
+        int rocket = fleetRepository.addRocket("Falcon 9", RocketStatus.ON_GROUND);
+
+        // Then
+        assertEquals(rocket, fleetRepository.getRocketId("Falcon 9"));
+        assertEquals("Falcon 9", fleetRepository.getRocketName(rocket));
+        assertEquals(RocketStatus.ON_GROUND, fleetRepository.getRocketStatus(rocket));
+        assertEquals(NO_ID, fleetRepository.getMissionOfRocket(rocket));
+    }
+
+    @Test
+    void should_RejectDuplicateNames() {
+        // Given
+        fleetRepository.addRocket("Falcon 9", RocketStatus.ON_GROUND);
+
+        // When & Then
+        assertEquals(NO_ID, fleetRepository.addRocket("Falcon 9", RocketStatus.ON_GROUND));
+        assertEquals(NO_ID, fleetRepository.addMission("Mars"));
+        assertEquals(MissionStatus.SCHEDULED, fleetRepository.getMissionStatus(mission));
+    }
+
+    @Test
+    void should_KeepMissionRocketsInInsertionOrder_WhenRemovingFromAnyPosition() {
+        // Given
+        List<Integer> rockets = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            int rocket = fleetRepository.addRocket("Dragon " + i, RocketStatus.IN_SPACE);
+            fleetRepository.addRocketToMission(rocket, mission);
+            rockets.add(rocket);
+        }
+
+        // When
+        fleetRepository.removeRocketFromMission(rockets.get(0));
+        fleetRepository.removeRocketFromMission(rockets.get(2));
+        fleetRepository.removeRocketFromMission(rockets.get(4));
+
+        // Then
+        assertEquals(List.of(rockets.get(1), rockets.get(3)), missionRockets(mission));
+        assertEquals(2, fleetRepository.getRocketCountOfMission(mission));
+        assertEquals(NO_ID, fleetRepository.getMissionOfRocket(rockets.get(2)));
+    }
+
+    @Test
+    void should_TrackInRepairCount_OnStatusChangeAndRemoval() {
+        // Given
+        int rocket1 = fleetRepository.addRocket("Dragon 1", RocketStatus.IN_SPACE);
+        int rocket2 = fleetRepository.addRocket("Dragon 2", RocketStatus.IN_REPAIR);
+        fleetRepository.addRocketToMission(rocket1, mission);
+        fleetRepository.addRocketToMission(rocket2, mission);
+
+        // When
+        fleetRepository.setRocketStatus(rocket1, RocketStatus.IN_REPAIR);
+
+        // Then
+        assertEquals(2, fleetRepository.getInRepairCountOfMission(mission));
+
+        fleetRepository.removeRocketFromMission(rocket2);
+        assertEquals(1, fleetRepository.getInRepairCountOfMission(mission));
+    }
+
+    private List<Integer> missionRockets(int mission) {
+        List<Integer> rockets = new ArrayList<>();
+        for (int rocket = fleetRepository.getFirstRocketOfMission(mission); rocket != NO_ID; rocket = fleetRepository.getNextRocketInMission(rocket)) {
+            rockets.add(rocket);
+        }
+        return rockets;
+    }
+}
@@ -0,0 +1,93 @@
+package spacex.repository;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import spacex.domain.MissionStatus;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.service.CompactMissionRocketAssignmentService;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static spacex.repository.FleetRepository.NO_ID;
+
+class MappedFleetRepositoryTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void should_AddAndRetrieveRocketsAndMissions() throws IOException {
+        // Given
+        try (MappedFleetRepository fleetRepository = MappedFleetRepository.create(directory.resolve("fleet.dat"), 4, 2, 16)) {
+            int mission = fleetRepository.addMission("Mars");
+            int first = fleetRepository.addRocket("Dragon 1", RocketStatus.IN_SPACE);
+            int second = fleetRepository.addRocket("Dragon 2", RocketStatus.IN_REPAIR);
+
+            // When
+            fleetRepository.addRocketToMission(first, mission);
+            fleetRepository.addRocketToMission(second, mission);
+            fleetRepository.removeRocketFromMission(first);
+
+            // Then
+            assertEquals(NO_ID, fleetRepository.addRocket("Dragon 1", RocketStatus.ON_GROUND));
+            assertEquals(second, fleetRepository.getRocketId("Dragon 2"));
+            assertEquals(NO_ID, fleetRepository.getMissionOfRocket(first));
+            assertEquals(second, fleetRepository.getFirstRocketOfMission(mission));
+            assertEquals(1, fleetRepository.getRocketCountOfMission(mission));
+            assertEquals(1, fleetRepository.getInRepairCountOfMission(mission));
+        }
+    }
+
+    @Test
+    void should_KeepFleet_WhenReopened() throws IOException, SpaceXException {
+        // Given
+        Path file = directory.resolve("fleet.dat");
+        try (MappedFleetRepository fleetRepository = MappedFleetRepository.create(file, 8, 4, 16)) {
+            CompactMissionRocketAssignmentService service = new CompactMissionRocketAssignmentService(fleetRepository);
+            service.addMission("Mars");
+            service.addRocket("Dragon 1");
+            service.addRocket("Dragon 2");
+            service.assignRocketsToMission(List.of("Dragon 1", "Dragon 2"), "Mars");
+            service.changeRocketStatus("Dragon 2", RocketStatus.IN_REPAIR);
+        }
+
+        // When
+        try (MappedFleetRepository fleetRepository = MappedFleetRepository.open(file)) {
+            CompactMissionRocketAssignmentService service = new CompactMissionRocketAssignmentService(fleetRepository);
+
+            // Then
+            assertEquals(2, fleetRepository.getRocketCount());
+            assertEquals(MissionStatus.PENDING, service.getMissionStatus("Mars"));
+            assertEquals(RocketStatus.IN_REPAIR, service.getRocketStatus("Dragon 2"));
+            assertEquals("""
+                    • Mars – Pending – Dragons: 2
+                       • Dragon 1 – In space
+                       • Dragon 2 – In repair""", service.getMissionSummary());
+        }
+    }
+
+    @Test
+    void should_ThrowException_WhenStoreIsFull() throws IOException {
+        // Given
+        try (MappedFleetRepository fleetRepository = MappedFleetRepository.create(directory.resolve("fleet.dat"), 1, 1, 16)) {
+            fleetRepository.addRocket("Dragon 1", RocketStatus.ON_GROUND);
+
+            // When & Then
+            assertThrows(IllegalStateException.class, () -> fleetRepository.addRocket("Dragon 2", RocketStatus.ON_GROUND));
+        }
+    }
+
+    @Test
+    void should_ThrowException_WhenFileIsNotAFleetStore() throws IOException {
+        // Given
+        Path file = Files.write(directory.resolve("other.dat"), new byte[128]);
+
+        // When & Then
+        assertThrows(IOException.class, () -> MappedFleetRepository.open(file));
+    }
+}
@@ -3,6 +3,8 @@ package spacex.repository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import spacex.domain.Mission;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
 
 import java.util.Map;
 
@@ -52,4 +54,105 @@ class MissionRepositoryTest {
         assertTrue(missions.containsKey("Apollo 11"));
         assertTrue(missions.containsKey("Mars Rover"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_AddMissionsInBulk() {
+        // Given & When
+        missionRepository.addMissions(Map.of(mission1.getName(), mission1, mission2.getName(), mission2));
+
+        // Then
+        assertSame(mission1, missionRepository.getMission("Apollo 11"));
+        assertSame(mission2, missionRepository.getMission("Mars Rover"));
+    }
+
+    @Test
+    void should_IndexRocket_WhenAddedToMission() {
+        // Given
+        Rocket rocket = new Rocket("Dragon 1");
+        missionRepository.addMission(mission1);
+
+        // When
+        missionRepository.addRocketToMission(rocket, mission1);
+
+        // Then
+        assertSame(mission1, missionRepository.getMissionForRocket("Dragon 1"));
+        assertTrue(mission1.getRockets().contains(rocket));
+    }
+
+    @Test
+    void should_RemoveRocketFromIndex_WhenRemovedFromMission() {
+        // Given
+        Rocket rocket = new Rocket("Dragon 1");
+        missionRepository.addMission(mission1);
+        missionRepository.addRocketToMission(rocket, mission1);
+
+        // When
+        missionRepository.removeRocketFromMission(rocket, mission1);
+
+        // Then
+        assertNull(missionRepository.getMissionForRocket("Dragon 1"));
+        assertFalse(mission1.getRockets().contains(rocket));
+    }
+
+    @Test
+    void should_ReturnNull_IfRocketIsNotAssigned() {
+        // Given & When & Then
+        assertNull(missionRepository.getMissionForRocket("Dragon 1"));
+    }
+
+    @Test
+    void should_NotAllowMutatingMissionRocketsDirectly() {
+        // Given
+        Rocket rocket = new Rocket("Dragon 1");
+        missionRepository.addMission(mission1);
+        missionRepository.addRocketToMission(rocket, mission1);
+
+        // When & Then
+        assertThrows(UnsupportedOperationException.class, () -> mission1.getRockets().remove(rocket));
+        assertThrows(UnsupportedOperationException.class, () -> mission1.getRockets().add(new Rocket("Dragon 2")));
+    }
+
+    @Test
+    void should_KeepMissionCounts_WhenAssignedRocketChangesStatus() {
+        // Given
+        Rocket rocket = new Rocket("Dragon 1");
+        missionRepository.addRocketToMission(rocket, mission1);
+
+        // When
+        missionRepository.changeRocketStatus(rocket, RocketStatus.IN_REPAIR);
+
+        // Then
+        assertEquals(RocketStatus.IN_REPAIR, rocket.getStatus());
+        assertEquals(0, mission1.countRockets(RocketStatus.ON_GROUND));
+        assertEquals(1, mission1.countRockets(RocketStatus.IN_REPAIR));
+        assertEquals(RocketStatus.IN_REPAIR, mission1.getRocketViews().get(0).status());
+    }
+
+    @Test
+    void should_ChangeStatusOnly_WhenRocketIsNotAssigned() {
+        // Given
+        Rocket rocket = new Rocket("Dragon 1");
+
+        // When
+        missionRepository.changeRocketStatus(rocket, RocketStatus.IN_SPACE);
+
+        // Then
+        assertEquals(RocketStatus.IN_SPACE, rocket.getStatus());
+        assertEquals(0, mission1.countRockets(RocketStatus.IN_SPACE));
+    }
+
+    @Test
+    void should_RejectStatusChange_WhenRocketIsNoLongerInIndexedMission() {
+        // Given
+        Rocket rocket = new Rocket("Dragon 1");
+        missionRepository.addRocketToMission(rocket, mission1);
+        // Removed through another repository, so this one still indexes it to the mission
+        new MissionRepository().removeRocketFromMission(rocket, mission1);
+
+        // When & Then
+        assertThrows(IllegalArgumentException.class, () -> missionRepository.changeRocketStatus(rocket, RocketStatus.IN_REPAIR));
+        assertEquals(RocketStatus.ON_GROUND, rocket.getStatus());
+        assertEquals(0, mission1.countRockets(RocketStatus.ON_GROUND));
+        assertEquals(0, mission1.countRockets(RocketStatus.IN_REPAIR));
+    }
+}
@@ -4,6 +4,8 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import spacex.domain.Rocket;
 
+import java.util.Map;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 class RocketRepositoryTest {
@@ -33,4 +35,17 @@ class RocketRepositoryTest {
         // Given & When & Then
         assertNull(rocketRepository.getRocket("Starship"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_AddRocketsInBulk() {
+        // Given
+        Rocket starship = new Rocket("Starship");
+
+        // When
+        rocketRepository.addRockets(Map.of(rocket.getName(), rocket, starship.getName(), starship));
+
+        // Then
+        assertSame(rocket, rocketRepository.getRocket("Falcon 9"));
+        assertSame(starship, rocketRepository.getRocket("Starship"));
+    }
+}
@@ -0,0 +1,135 @@
+package spacex.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.exception.SpaceXException;
+import spacex.repository.CompactFleetRepository;
+import spacex.repository.MissionRepository;
+import spacex.repository.RocketRepository;
+
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CompactMissionRocketAssignmentServiceTest {
+
+    private CompactMissionRocketAssignmentService compactService;
+
+    @BeforeEach
+    void setUp() {
+        compactService = new CompactMissionRocketAssignmentService(new CompactFleetRepository());
+    }
+
+    @Test
+    void should_AssignRocketToMission() throws SpaceXException {
+        // Given
+        compactService.addRocket("Dragon 1");
+        compactService.addMission("Mars");
+
+        // When
+        compactService.assignRocketToMission("Dragon 1", "Mars");
+
+        // Then
+        assertEquals(RocketStatus.IN_SPACE, compactService.getRocketStatus("Dragon 1"));
+        assertEquals(MissionStatus.IN_PROGRESS, compactService.getMissionStatus("Mars"));
+    }
+
+    @Test
+    void should_ThrowException_WhenRocketOrMissionAlreadyExists() throws SpaceXException {
+        // Given
+        compactService.addRocket("Dragon 1");
+        compactService.addMission("Mars");
+
+        // When & Then
+        assertThrows(SpaceXException.class, () -> compactService.addRocket("Dragon 1"));
+        assertThrows(SpaceXException.class, () -> compactService.addMission("Mars"));
+    }
+
+    @Test
+    void should_ThrowException_WhenRocketStatusChangeInRepair_WithNoMissionAssigned() throws SpaceXException {
+        // Given
+        compactService.addRocket("Dragon 1");
+
+        // When & Then
+        assertThrows(SpaceXException.class, () -> compactService.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR));
+    }
+
+    @Test
+    void should_EndMission_WhenLastRocketReturnsToGround() throws SpaceXException {
+        // Given
+        compactService.addRocket("Dragon 1");
+        compactService.addMission("Mars");
+        compactService.assignRocketToMission("Dragon 1", "Mars");
+
+        // When
+        compactService.changeRocketStatus("Dragon 1", RocketStatus.ON_GROUND);
+
+        // Then
+        assertEquals(MissionStatus.ENDED, compactService.getMissionStatus("Mars"));
+        assertThrows(SpaceXException.class, () -> compactService.assignRocketToMission("Dragon 1", "Mars"));
+    }
+
+    @Test
+    void should_ProduceSameSummaryAsObjectService_ForSameOperations() throws SpaceXException {
+        // Given
+        MissionRocketAssignmentService objectService = new MissionRocketAssignmentService(new RocketRepository(), new MissionRepository());
+        Random random = new Random(42);
+        RocketStatus[] statuses = RocketStatus.values();
+
+        for (int i = 0; i < 50; i++) {
+            objectService.addRocket(new Rocket("Dragon " + i));
+            compactService.addRocket("Dragon " + i);
+        }
+        for (int i = 0; i < 8; i++) {
+            objectService.addMission(new Mission("Mission " + i));
+            compactService.addMission("Mission " + i);
+        }
+
+        // When
+        for (int i = 0; i < 2_000; i++) {
+            String rocketName = "Dragon " + random.nextInt(50);
+            String otherRocketName = "Dragon " + random.nextInt(50);
+            String missionName = "Mission " + random.nextInt(8);
+            RocketStatus status = statuses[random.nextInt(statuses.length)];
+            int operation = random.nextInt(3);
+
+            boolean objectFailed;
+            boolean compactFailed;
+
+            if (operation == 0) {
+                objectFailed = apply(() -> objectService.changeRocketStatus(rocketName, status));
+                compactFailed = apply(() -> compactService.changeRocketStatus(rocketName, status));
+            } else if (operation == 1) {
+                objectFailed = apply(() -> objectService.assignRocketToMission(rocketName, missionName));
+                compactFailed = apply(() -> compactService.assignRocketToMission(rocketName, missionName));
+            } else {
+                objectFailed = apply(() -> objectService.assignRocketsToMission(List.of(rocketName, otherRocketName), missionName));
+                compactFailed = apply(() -> compactService.assignRocketsToMission(List.of(rocketName, otherRocketName), missionName));
+            }
+
+            assertEquals(objectFailed, compactFailed);
+        }
+
+        // Then
+        assertEquals(objectService.getMissionSummary(), compactService.getMissionSummary());
+    }
+
+    private boolean apply(SpaceXAction action) {
+        try {
+            action.run();
+            return false;
+        } catch (SpaceXException e) {
+            return true;
+        }
+    }
+
+    @FunctionalInterface
+    private interface SpaceXAction {
+        void run() throws SpaceXException;
+    }
+}
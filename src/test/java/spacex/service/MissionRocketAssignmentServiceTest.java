@@ -2,16 +2,43 @@ package spacex.service;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import spacex.constant.ErrorMessages;
+import spacex.domain.BulkLoadResult;
+import spacex.domain.FleetView;
 import spacex.domain.Mission;
 import spacex.domain.MissionStatus;
+import spacex.domain.MissionSummaryPage;
+import spacex.domain.MissionView;
+import spacex.domain.OperationResult;
 import spacex.domain.Rocket;
 import spacex.domain.RocketStatus;
+import spacex.event.FleetEvent;
 import spacex.exception.SpaceXException;
+import spacex.history.FleetStatusHistory;
+import spacex.history.StatusTransition;
 import spacex.repository.MissionRepository;
 import spacex.repository.RocketRepository;
+import spacex.util.FleetConsistencyChecker;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -84,6 +111,43 @@ class MissionRocketAssignmentServiceTest {
         assertThrows(SpaceXException.class, () -> missionRocketAssignmentService.addMission(mission2));
     }
 
+    @Test
+    void should_AddRocketsInBulk_AndReportAllDuplicates() throws SpaceXException {
+        // Given
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+        List<Rocket> rockets = List.of(new Rocket("Dragon 1"), new Rocket("Dragon 2"), new Rocket("Dragon 3"), new Rocket("Dragon 2"));
+
+        // When
+        BulkLoadResult result = missionRocketAssignmentService.addRockets(rockets);
+
+        // Then
+        assertEquals(2, result.addedCount());
+        assertFalse(result.isSuccessful());
+        assertEquals(List.of(
+                new BulkLoadResult.Failure("Dragon 1", ErrorMessages.ROCKET_ALREADY_EXISTS),
+                new BulkLoadResult.Failure("Dragon 2", ErrorMessages.ROCKET_ALREADY_EXISTS)), result.failures());
+
+        assertSame(rockets.get(1), rocketRepository.getRocket("Dragon 2"));
+        assertNotNull(rocketRepository.getRocket("Dragon 3"));
+    }
+
+    @Test
+    void should_AddMissionsInBulk_AndIncludeThemInSummary() throws SpaceXException {
+        // Given
+        missionRocketAssignmentService.addMission(new Mission("Mars"));
+
+        // When
+        BulkLoadResult result = missionRocketAssignmentService.addMissions(List.of(new Mission("Mars"), new Mission("Luna"), new Mission("Venus")));
+
+        // Then
+        assertEquals(2, result.addedCount());
+        assertEquals(List.of(new BulkLoadResult.Failure("Mars", ErrorMessages.MISSION_ALREADY_EXISTS)), result.failures());
+        assertEquals("""
+                • Venus – Scheduled – Dragons: 0
+                • Mars – Scheduled – Dragons: 0
+                • Luna – Scheduled – Dragons: 0""", missionRocketAssignmentService.getMissionSummary());
+    }
+
     @Test
     void should_AssignRocketToMission() throws SpaceXException {
         // Given
@@ -103,7 +167,7 @@ class MissionRocketAssignmentServiceTest {
         assertEquals(mission.getName(), assignedMission.getName());
         assertEquals(MissionStatus.IN_PROGRESS, mission.getStatus());
 
-        List<Rocket> rockets = assignedMission.getRockets();
+        List<Rocket> rockets = List.copyOf(assignedMission.getRockets());
 
         assertNotNull(rockets);
 
@@ -144,6 +208,168 @@ class MissionRocketAssignmentServiceTest {
         assertThrows(SpaceXException.class, () -> missionRocketAssignmentService.assignRocketToMission(rocket.getName(), mission.getName()));
     }
 
+    @Test
+    void should_ReturnResult_InsteadOfThrowing_WhenAssignmentIsRejected() throws SpaceXException {
+        // Given
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+        missionRocketAssignmentService.addMission(new Mission("Mars"));
+        missionRocketAssignmentService.addMission(new Mission("Luna"));
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Mars");
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Luna");
+
+        // When & Then
+        assertEquals(OperationResult.ROCKET_NOT_FOUND, missionRocketAssignmentService.tryAssignRocketToMission("Dragon 2", "Luna"));
+        assertEquals(OperationResult.MISSION_NOT_FOUND, missionRocketAssignmentService.tryAssignRocketToMission("Dragon 1", "Venus"));
+        assertEquals(OperationResult.MISSION_NOT_AVAILABLE, missionRocketAssignmentService.tryAssignRocketToMission("Dragon 1", "Mars"));
+        assertEquals(OperationResult.MISSION_NOT_AVAILABLE, missionRocketAssignmentService.tryAssignRocketsToMission(List.of("Dragon 1"), "Mars"));
+        assertEquals(OperationResult.ROCKET_ALREADY_EXISTS, missionRocketAssignmentService.tryAddRocket(new Rocket("Dragon 1")));
+        assertEquals(OperationResult.MISSION_ALREADY_EXISTS, missionRocketAssignmentService.tryAddMission(new Mission("Mars")));
+        assertSame(missionRepository.getMission("Luna"), missionRepository.getMissionForRocket("Dragon 1"));
+    }
+
+    @Test
+    void should_ReturnSuccess_AndApplyChange_WhenTryMethodsSucceed() {
+        // Given
+        assertEquals(OperationResult.SUCCESS, missionRocketAssignmentService.tryAddRocket(new Rocket("Dragon 1")));
+        assertEquals(OperationResult.SUCCESS, missionRocketAssignmentService.tryAddMission(new Mission("Mars")));
+
+        // When
+        OperationResult assigned = missionRocketAssignmentService.tryAssignRocketToMission("Dragon 1", "Mars");
+        OperationResult changed = missionRocketAssignmentService.tryChangeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR);
+
+        // Then
+        assertTrue(assigned.isSuccess());
+        assertTrue(changed.isSuccess());
+        assertEquals(MissionStatus.PENDING, missionRepository.getMission("Mars").getStatus());
+    }
+
+    @Test
+    void should_ThrowExceptionWithResultMessage_WhenThrowingMethodIsRejected() throws SpaceXException {
+        // Given
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+
+        // When
+        SpaceXException exception = assertThrows(SpaceXException.class,
+                () -> missionRocketAssignmentService.changeRocketStatus("Dragon 1", RocketStatus.IN_SPACE));
+
+        // Then
+        assertEquals(OperationResult.ROCKET_CANNOT_BE_IN_SPACE_OR_IN_REPAIR_WITHOUT_MISSION.getMessage(), exception.getMessage());
+        assertEquals(ErrorMessages.ROCKET_CANNOT_BE_IN_SPACE_OR_IN_REPAIR_WITHOUT_MISSION, exception.getMessage());
+    }
+
+    @Test
+    void should_EmitEvents_ForAssignmentsAndStatusChanges() throws Exception {
+        // Given
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+        missionRocketAssignmentService.addMission(new Mission("Mars"));
+        missionRocketAssignmentService.addMission(new Mission("Luna"));
+
+        BlockingQueue<FleetEvent> received = new LinkedBlockingQueue<>();
+        missionRocketAssignmentService.addEventListener(received::addAll);
+
+        // When
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Mars");
+        missionRocketAssignmentService.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR);
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Luna");
+        assertEquals(OperationResult.MISSION_NOT_AVAILABLE, missionRocketAssignmentService.tryAssignRocketToMission("Dragon 1", "Mars"));
+
+        // Then
+        List<FleetEvent> expected = List.of(
+                new FleetEvent.RocketAssigned("Dragon 1", null, "Mars"),
+                new FleetEvent.RocketStatusChanged("Dragon 1", RocketStatus.ON_GROUND, RocketStatus.IN_SPACE),
+                new FleetEvent.MissionStatusChanged("Mars", MissionStatus.SCHEDULED, MissionStatus.IN_PROGRESS),
+                new FleetEvent.RocketStatusChanged("Dragon 1", RocketStatus.IN_SPACE, RocketStatus.IN_REPAIR),
+                new FleetEvent.MissionStatusChanged("Mars", MissionStatus.IN_PROGRESS, MissionStatus.PENDING),
+                new FleetEvent.RocketAssigned("Dragon 1", "Mars", "Luna"),
+                new FleetEvent.MissionStatusChanged("Mars", MissionStatus.PENDING, MissionStatus.ENDED),
+                new FleetEvent.MissionStatusChanged("Luna", MissionStatus.SCHEDULED, MissionStatus.PENDING));
+
+        List<FleetEvent> events = new ArrayList<>();
+        while (events.size() < expected.size()) {
+            FleetEvent event = received.poll(10, TimeUnit.SECONDS);
+            assertNotNull(event);
+            events.add(event);
+        }
+        assertEquals(expected, events);
+        assertNull(received.poll(50, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    void should_EmitNoStatusChanges_WhenRocketIsReassignedToItsOwnMission() throws Exception {
+        // Given
+        Instant from = Instant.now().minusSeconds(60);
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+        missionRocketAssignmentService.addMission(new Mission("Mars"));
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Mars");
+        missionRocketAssignmentService.setStatusHistory(new FleetStatusHistory(1024, Duration.ofDays(7)));
+
+        BlockingQueue<FleetEvent> received = new LinkedBlockingQueue<>();
+        missionRocketAssignmentService.addEventListener(received::addAll);
+
+        // When
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Mars");
+
+        // Then
+        assertEquals(new FleetEvent.RocketAssigned("Dragon 1", "Mars", "Mars"), received.poll(10, TimeUnit.SECONDS));
+        assertNull(received.poll(50, TimeUnit.MILLISECONDS));
+
+        Instant to = Instant.now().plusSeconds(60);
+        assertEquals(List.of(), missionRocketAssignmentService.getMissionStatusHistory("Mars", from, to));
+        assertEquals(List.of(), missionRocketAssignmentService.getRocketStatusHistory("Dragon 1", from, to));
+        assertEquals(MissionStatus.IN_PROGRESS, missionRepository.getMission("Mars").getStatus());
+        assertEquals(1, missionRocketAssignmentService.countMissions(MissionStatus.IN_PROGRESS));
+        assertEquals(0, missionRocketAssignmentService.countMissions(MissionStatus.ENDED));
+    }
+
+    @Test
+    void should_IndexRocketsAndMissionsByStatus() throws SpaceXException {
+        // Given
+        addMissionsWithRockets();
+
+        // When
+        missionRocketAssignmentService.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR);
+        missionRocketAssignmentService.changeRocketStatus("Dragon 4", RocketStatus.ON_GROUND);
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 5"));
+
+        // Then
+        assertEquals(Set.of("Dragon 1"), missionRocketAssignmentService.getRocketNamesByStatus(RocketStatus.IN_REPAIR));
+        assertEquals(Set.of("Dragon 2", "Dragon 3"), missionRocketAssignmentService.getRocketNamesByStatus(RocketStatus.IN_SPACE));
+        assertEquals(Set.of("Dragon 4", "Dragon 5"), missionRocketAssignmentService.getRocketNamesByStatus(RocketStatus.ON_GROUND));
+        assertEquals(Set.of("Venus"), missionRocketAssignmentService.getMissionNamesByStatus(MissionStatus.PENDING));
+        assertEquals(Set.of("Mars"), missionRocketAssignmentService.getMissionNamesByStatus(MissionStatus.IN_PROGRESS));
+        assertEquals(Set.of("Luna"), missionRocketAssignmentService.getMissionNamesByStatus(MissionStatus.ENDED));
+        assertEquals(1, missionRocketAssignmentService.countMissions(MissionStatus.SCHEDULED));
+        assertEquals(2, missionRocketAssignmentService.countRockets(RocketStatus.ON_GROUND));
+    }
+
+    @Test
+    void should_IndexRestoredFleet_WhenServiceIsCreatedOverExistingRepositories() throws SpaceXException {
+        // Given
+        addMissionsWithRockets();
+
+        // When
+        MissionRocketAssignmentService restored = new MissionRocketAssignmentService(rocketRepository, missionRepository);
+
+        // Then
+        assertEquals(4, restored.countRockets(RocketStatus.IN_SPACE));
+        assertEquals(Set.of("Apollo"), restored.getMissionNamesByStatus(MissionStatus.SCHEDULED));
+    }
+
+    @Test
+    void should_GetSameMissionSummary_WithParallelFormatting() throws SpaceXException {
+        // Given
+        addMissionsWithRockets();
+        MissionRocketAssignmentService parallelService = new MissionRocketAssignmentService(rocketRepository, missionRepository);
+        parallelService.setParallelSummaryThreshold(1);
+
+        // When
+        String summary = parallelService.getMissionSummary();
+
+        // Then
+        assertEquals(missionRocketAssignmentService.getMissionSummary(), summary);
+        assertThrows(IllegalArgumentException.class, () -> parallelService.setParallelSummaryThreshold(0));
+    }
+
     @Test
     void should_ThrowException_WhenInRepairRocket_WithoutMission_AssignedToOtherMission() throws SpaceXException {
         // Given
@@ -197,6 +423,100 @@ class MissionRocketAssignmentServiceTest {
         assertEquals(MissionStatus.IN_PROGRESS, mission.getStatus());
     }
 
+    @Test
+    void should_NotAssignAnyRocket_WhenOneRocketOfBatchIsNotAvailable() throws SpaceXException {
+        // Given
+        Rocket rocket1 = new Rocket("Dragon 1");
+        Rocket rocket2 = new Rocket("Dragon 2");
+        rocket2.setStatus(RocketStatus.IN_REPAIR);
+        Mission mission = new Mission("Mars");
+
+        missionRocketAssignmentService.addRocket(rocket1);
+        missionRocketAssignmentService.addRocket(rocket2);
+        missionRocketAssignmentService.addMission(mission);
+
+        // When
+        assertThrows(SpaceXException.class,
+                () -> missionRocketAssignmentService.assignRocketsToMission(List.of(rocket1.getName(), rocket2.getName()), mission.getName()));
+
+        // Then
+        assertTrue(mission.getRockets().isEmpty());
+        assertEquals(MissionStatus.SCHEDULED, mission.getStatus());
+        assertEquals(RocketStatus.ON_GROUND, rocket1.getStatus());
+        assertNull(missionRepository.getMissionForRocket(rocket1.getName()));
+    }
+
+    @Test
+    void should_NotAssignAnyRocket_WhenOneRocketOfBatchIsNotFound() throws SpaceXException {
+        // Given
+        Rocket rocket = new Rocket("Dragon 1");
+        Mission mission = new Mission("Mars");
+
+        missionRocketAssignmentService.addRocket(rocket);
+        missionRocketAssignmentService.addMission(mission);
+
+        // When
+        assertThrows(SpaceXException.class,
+                () -> missionRocketAssignmentService.assignRocketsToMission(List.of(rocket.getName(), "NonExistentRocket"), mission.getName()));
+
+        // Then
+        assertTrue(mission.getRockets().isEmpty());
+        assertEquals(RocketStatus.ON_GROUND, rocket.getStatus());
+    }
+
+    @Test
+    void should_MoveRocketsFromSeveralMissions_AndUpdateEveryMissionStatusOnce() throws SpaceXException {
+        // Given
+        for (String rocketName : List.of("Dragon 1", "Dragon 2", "Dragon 3", "Dragon 4", "Dragon 5")) {
+            missionRocketAssignmentService.addRocket(new Rocket(rocketName));
+        }
+
+        Mission mars = new Mission("Mars");
+        Mission luna = new Mission("Luna");
+        Mission venus = new Mission("Venus");
+        missionRocketAssignmentService.addMissions(List.of(mars, luna, venus));
+
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 1", "Dragon 2"), mars.getName());
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 3", "Dragon 4"), luna.getName());
+        missionRocketAssignmentService.changeRocketStatus("Dragon 3", RocketStatus.IN_REPAIR);
+
+        // When
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 1", "Dragon 2", "Dragon 3", "Dragon 5"), venus.getName());
+
+        // Then
+        assertEquals(MissionStatus.ENDED, mars.getStatus());
+        assertEquals(MissionStatus.IN_PROGRESS, luna.getStatus());
+        assertEquals(MissionStatus.PENDING, venus.getStatus());
+
+        assertEquals(List.of("Dragon 1", "Dragon 2", "Dragon 3", "Dragon 5"),
+                venus.getRockets().stream().map(Rocket::getName).toList());
+        assertEquals(RocketStatus.IN_SPACE, rocketRepository.getRocket("Dragon 5").getStatus());
+        assertRocketMissionIndexConsistent(List.of("Dragon 1", "Dragon 2", "Dragon 3", "Dragon 4", "Dragon 5"));
+        assertEquals(List.of(), FleetConsistencyChecker.findViolations(missionRepository));
+        assertEquals(1, venus.countRockets(RocketStatus.IN_REPAIR));
+        assertEquals(3, venus.countRockets(RocketStatus.IN_SPACE));
+    }
+
+    @Test
+    void should_KeepLastOccurrenceOrder_WhenBatchReassignsRocketsAlreadyInMission() throws SpaceXException {
+        // Given
+        for (String rocketName : List.of("Dragon 1", "Dragon 2", "Dragon 3")) {
+            missionRocketAssignmentService.addRocket(new Rocket(rocketName));
+        }
+
+        Mission mission = new Mission("Mars");
+        missionRocketAssignmentService.addMission(mission);
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 1", "Dragon 2"), mission.getName());
+
+        // When
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 1", "Dragon 3", "Dragon 2", "Dragon 1"), mission.getName());
+
+        // Then
+        assertEquals(List.of("Dragon 3", "Dragon 2", "Dragon 1"),
+                mission.getRockets().stream().map(Rocket::getName).toList());
+        assertEquals(MissionStatus.IN_PROGRESS, mission.getStatus());
+    }
+
     @Test
     void should_ChangeRocketStatusToInRepair_And_UpdateMissionStatusToPending() throws SpaceXException {
         // Given
@@ -218,7 +538,7 @@ class MissionRocketAssignmentServiceTest {
         Mission assignedMission = missionRepository.getMission(mission.getName());
         assertNotNull(assignedMission);
 
-        List<Rocket> rockets = mission.getRockets();
+        List<Rocket> rockets = List.copyOf(mission.getRockets());
         assertEquals(1, rockets.size());
         assertEquals(MissionStatus.PENDING, assignedMission.getStatus());
 
@@ -273,7 +593,7 @@ class MissionRocketAssignmentServiceTest {
         assertNotNull(assignedMission);
         assertEquals(MissionStatus.IN_PROGRESS, assignedMission.getStatus());
 
-        List<Rocket> rockets = mission.getRockets();
+        List<Rocket> rockets = List.copyOf(mission.getRockets());
         assertEquals(2, rockets.size());
 
         assertEquals(RocketStatus.IN_SPACE, rockets.get(0).getStatus());
@@ -310,7 +630,7 @@ class MissionRocketAssignmentServiceTest {
         assertNotNull(assignedMission);
         assertEquals(MissionStatus.PENDING, assignedMission.getStatus());
 
-        List<Rocket> rockets = mission.getRockets();
+        List<Rocket> rockets = List.copyOf(mission.getRockets());
         assertEquals(3, rockets.size());
 
         assertEquals(RocketStatus.IN_REPAIR, rockets.get(0).getStatus());
@@ -337,7 +657,7 @@ class MissionRocketAssignmentServiceTest {
         assertNotNull(assignedMission);
         assertEquals(MissionStatus.ENDED, assignedMission.getStatus());
 
-        List<Rocket> rockets = assignedMission.getRockets();
+        List<Rocket> rockets = List.copyOf(assignedMission.getRockets());
         assertEquals(0, rockets.size());
     }
 
@@ -368,7 +688,7 @@ class MissionRocketAssignmentServiceTest {
         assertNotNull(assignedMission);
         assertEquals(MissionStatus.IN_PROGRESS, assignedMission.getStatus());
 
-        List<Rocket> rockets = assignedMission.getRockets();
+        List<Rocket> rockets = List.copyOf(assignedMission.getRockets());
         assertEquals(1, rockets.size());
 
         Rocket rocket = rockets.get(0);
@@ -402,7 +722,7 @@ class MissionRocketAssignmentServiceTest {
         assertNotNull(assignedMission);
         assertEquals(MissionStatus.PENDING, assignedMission.getStatus());
 
-        List<Rocket> rockets = assignedMission.getRockets();
+        List<Rocket> rockets = List.copyOf(assignedMission.getRockets());
         assertEquals(1, rockets.size());
 
         Rocket rocket = rockets.get(0);
@@ -437,4 +757,450 @@ class MissionRocketAssignmentServiceTest {
         // Then
         assertEquals(expected, summary);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_UpdateMissionSummary_AfterReassignmentAndStatusChange() throws SpaceXException {
+        // Given
+        Mission mission1 = new Mission("Mars");
+        Mission mission2 = new Mission("Luna");
+        Rocket rocket1 = new Rocket("Dragon 1");
+        Rocket rocket2 = new Rocket("Dragon 2");
+        Rocket rocket3 = new Rocket("Dragon 3");
+
+        missionRocketAssignmentService.addMission(mission1);
+        missionRocketAssignmentService.addMission(mission2);
+        missionRocketAssignmentService.addRocket(rocket1);
+        missionRocketAssignmentService.addRocket(rocket2);
+        missionRocketAssignmentService.addRocket(rocket3);
+
+        missionRocketAssignmentService.assignRocketsToMission(List.of(rocket1.getName(), rocket2.getName()), mission1.getName());
+        missionRocketAssignmentService.assignRocketToMission(rocket3.getName(), mission2.getName());
+        missionRocketAssignmentService.getMissionSummary();
+
+        String expected = """
+                • Luna – Pending – Dragons: 2
+                   • Dragon 3 – In space
+                   • Dragon 2 – In repair
+                • Mars – In Progress – Dragons: 1
+                   • Dragon 1 – In space""";
+
+        // When
+        missionRocketAssignmentService.changeRocketStatus(rocket2.getName(), RocketStatus.IN_REPAIR);
+        missionRocketAssignmentService.assignRocketToMission(rocket2.getName(), mission2.getName());
+
+        // Then
+        assertEquals(expected, missionRocketAssignmentService.getMissionSummary());
+    }
+
+    @Test
+    void should_WriteMissionSummary_SameAsGetMissionSummary() throws SpaceXException, IOException {
+        // Given
+        missionRocketAssignmentService.addMission(new Mission("Mars"));
+        missionRocketAssignmentService.addMission(new Mission("Luna"));
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 2"));
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 1", "Dragon 2"), "Luna");
+
+        StringWriter writer = new StringWriter();
+
+        // When
+        missionRocketAssignmentService.writeMissionSummary(writer);
+
+        // Then
+        assertEquals(missionRocketAssignmentService.getMissionSummary(), writer.toString());
+    }
+
+    @Test
+    void should_GetTopMissionSummary() throws SpaceXException {
+        // Given
+        addMissionsWithRockets();
+
+        String expected = """
+                • Venus – In Progress – Dragons: 2
+                   • Dragon 1 – In space
+                   • Dragon 2 – In space
+                • Mars – In Progress – Dragons: 1
+                   • Dragon 3 – In space""";
+
+        // When
+        String summary = missionRocketAssignmentService.getTopMissionSummary(2);
+
+        // Then
+        assertEquals(expected, summary);
+    }
+
+    @Test
+    void should_PageThroughMissionSummary_InSummaryOrder() throws SpaceXException {
+        // Given
+        addMissionsWithRockets();
+        StringBuilder pagedSummary = new StringBuilder();
+
+        // When
+        MissionSummaryPage page = missionRocketAssignmentService.getMissionSummaryPage(null, 1);
+        pagedSummary.append(page.summary());
+        int pages = 1;
+
+        while (page.hasNext()) {
+            page = missionRocketAssignmentService.getMissionSummaryPage(page.nextCursor(), 1);
+            pagedSummary.append('\n').append(page.summary());
+            pages++;
+        }
+
+        // Then
+        assertEquals(4, pages);
+        assertEquals(missionRocketAssignmentService.getMissionSummary(), pagedSummary.toString());
+    }
+
+    @Test
+    void should_ThrowException_WhenSummaryCursorIsNotValid() {
+        // Given & When & Then
+        assertThrows(SpaceXException.class, () -> missionRocketAssignmentService.getMissionSummaryPage("Mars", 10));
+    }
+
+    @Test
+    void should_KeepRocketMissionIndexConsistent_AfterAssignReassignAndStatusChanges() throws SpaceXException {
+        // Given
+        List<String> rocketNames = List.of("Dragon 1", "Dragon 2", "Dragon 3", "Dragon 4");
+        for (String rocketName : rocketNames) {
+            missionRocketAssignmentService.addRocket(new Rocket(rocketName));
+        }
+
+        Mission mars = new Mission("Mars");
+        Mission luna = new Mission("Luna");
+        missionRocketAssignmentService.addMission(mars);
+        missionRocketAssignmentService.addMission(luna);
+
+        // When & Then
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 1", "Dragon 2", "Dragon 3"), mars.getName());
+        assertRocketMissionIndexConsistent(rocketNames);
+
+        missionRocketAssignmentService.assignRocketToMission("Dragon 2", luna.getName());
+        assertRocketMissionIndexConsistent(rocketNames);
+
+        missionRocketAssignmentService.changeRocketStatus("Dragon 3", RocketStatus.IN_REPAIR);
+        missionRocketAssignmentService.assignRocketToMission("Dragon 3", luna.getName());
+        assertRocketMissionIndexConsistent(rocketNames);
+
+        missionRocketAssignmentService.changeRocketStatus("Dragon 1", RocketStatus.ON_GROUND);
+        assertRocketMissionIndexConsistent(rocketNames);
+        assertNull(missionRepository.getMissionForRocket("Dragon 1"));
+
+        missionRocketAssignmentService.assignRocketToMission("Dragon 4", luna.getName());
+        missionRocketAssignmentService.assignRocketToMission("Dragon 4", luna.getName());
+        assertRocketMissionIndexConsistent(rocketNames);
+        assertSame(luna, missionRepository.getMissionForRocket("Dragon 4"));
+    }
+
+    @Test
+    void should_KeepFleetInvariants_UnderConcurrentAssignmentsAndStatusChanges() throws Exception {
+        // Given
+        int rocketCount = 200;
+        int missionCount = 20;
+        int threadCount = 8;
+        int operationsPerThread = 20_000;
+
+        List<String> rocketNames = new ArrayList<>();
+        for (int i = 0; i < rocketCount; i++) {
+            rocketNames.add("Dragon " + i);
+            missionRocketAssignmentService.addRocket(new Rocket("Dragon " + i));
+        }
+
+        List<String> missionNames = new ArrayList<>();
+        for (int i = 0; i < missionCount; i++) {
+            missionNames.add("Mission " + i);
+            missionRocketAssignmentService.addMission(new Mission("Mission " + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // When
+        for (int t = 0; t < threadCount; t++) {
+            futures.add(executor.submit(() -> {
+                start.await();
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                RocketStatus[] statuses = RocketStatus.values();
+
+                for (int i = 0; i < operationsPerThread; i++) {
+                    String rocketName = rocketNames.get(random.nextInt(rocketCount));
+                    try {
+                        if (random.nextInt(3) == 0) {
+                            missionRocketAssignmentService.changeRocketStatus(rocketName, statuses[random.nextInt(statuses.length)]);
+                        } else {
+                            missionRocketAssignmentService.assignRocketToMission(rocketName, missionNames.get(random.nextInt(missionCount)));
+                        }
+                    } catch (SpaceXException e) {
+                        // Rejections are expected, e.g. assigning to an ended mission
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        for (Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertRocketMissionIndexConsistent(rocketNames);
+
+        for (String rocketName : rocketNames) {
+            Rocket rocket = rocketRepository.getRocket(rocketName);
+            boolean assigned = missionRepository.getMissionForRocket(rocketName) != null;
+            assertEquals(assigned, rocket.getStatus() != RocketStatus.ON_GROUND);
+        }
+
+        assertEquals(List.of(), FleetConsistencyChecker.findViolations(missionRepository));
+
+        for (String rocketName : rocketNames) {
+            RocketStatus status = rocketRepository.getRocket(rocketName).getStatus();
+            for (RocketStatus indexed : RocketStatus.values()) {
+                assertEquals(indexed == status, missionRocketAssignmentService.getRocketNamesByStatus(indexed).contains(rocketName));
+            }
+        }
+        for (String missionName : missionNames) {
+            MissionStatus status = missionRepository.getMission(missionName).getStatus();
+            assertTrue(missionRocketAssignmentService.getMissionNamesByStatus(status).contains(missionName));
+        }
+        assertEquals(missionCount, Arrays.stream(MissionStatus.values()).mapToInt(missionRocketAssignmentService::countMissions).sum());
+    }
+
+    @Test
+    void should_ReadConsistentSummaries_WhileRocketsAreReassignedConcurrently() throws Exception {
+        // Given
+        int rocketCount = 100;
+        int missionCount = 10;
+        List<String> rocketNames = new ArrayList<>();
+        List<String> missionNames = new ArrayList<>();
+
+        for (int i = 0; i < missionCount; i++) {
+            missionNames.add("Mission " + i);
+            missionRocketAssignmentService.addMission(new Mission("Mission " + i));
+        }
+        for (int i = 0; i < rocketCount; i++) {
+            rocketNames.add("Dragon " + i);
+            missionRocketAssignmentService.addRocket(new Rocket("Dragon " + i));
+            missionRocketAssignmentService.assignRocketToMission("Dragon " + i, missionNames.get(i % missionCount));
+        }
+
+        FleetView initialView = missionRocketAssignmentService.getFleetView();
+
+        ExecutorService executor = Executors.newFixedThreadPool(6);
+        AtomicBoolean running = new AtomicBoolean(true);
+        List<Future<?>> writers = new ArrayList<>();
+        List<Future<?>> readers = new ArrayList<>();
+        Pattern dragons = Pattern.compile("Dragons: (\\d+)");
+
+        // When
+        for (int t = 0; t < 3; t++) {
+            writers.add(executor.submit(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int i = 0; i < 10_000; i++) {
+                    try {
+                        missionRocketAssignmentService.assignRocketToMission(
+                                rocketNames.get(random.nextInt(rocketCount)), missionNames.get(random.nextInt(missionCount)));
+                    } catch (SpaceXException e) {
+                        // A mission that lost its last rocket has ended and rejects further assignments
+                    }
+                }
+                return null;
+            }));
+        }
+        for (int t = 0; t < 3; t++) {
+            readers.add(executor.submit(() -> {
+                while (running.get()) {
+                    // Every summary reflects one version, so no rocket is counted twice or missed mid-move
+                    Matcher matcher = dragons.matcher(missionRocketAssignmentService.getMissionSummary());
+                    int assigned = 0;
+                    while (matcher.find()) {
+                        assigned += Integer.parseInt(matcher.group(1));
+                    }
+                    assertEquals(rocketCount, assigned);
+
+                    int inView = 0;
+                    for (MissionView mission : missionRocketAssignmentService.getFleetView().getMissions()) {
+                        inView += mission.rockets().size();
+                    }
+                    assertEquals(rocketCount, inView);
+                }
+                return null;
+            }));
+        }
+
+        for (Future<?> writer : writers) {
+            writer.get(60, TimeUnit.SECONDS);
+        }
+        running.set(false);
+        for (Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        for (MissionView mission : initialView.getMissions()) {
+            assertEquals(rocketCount / missionCount, mission.rockets().size());
+        }
+        assertTrue(missionRocketAssignmentService.getFleetView().getVersion() > initialView.getVersion());
+    }
+
+    @Test
+    void should_RecordStatusTransitions_WhenHistoryIsEnabled() throws SpaceXException {
+        // Given
+        Instant from = Instant.now().minusSeconds(60);
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+        missionRocketAssignmentService.addMission(new Mission("Luna"));
+        missionRocketAssignmentService.setStatusHistory(new FleetStatusHistory(1024, Duration.ofDays(7)));
+
+        // When
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Luna");
+        missionRocketAssignmentService.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR);
+        missionRocketAssignmentService.changeRocketStatus("Dragon 1", RocketStatus.IN_REPAIR);
+        Instant to = Instant.now().plusSeconds(60);
+
+        // Then
+        List<StatusTransition<RocketStatus>> rocketTransitions = missionRocketAssignmentService.getRocketStatusHistory("Dragon 1", from, to);
+        assertEquals(List.of(RocketStatus.IN_SPACE, RocketStatus.IN_REPAIR), rocketTransitions.stream().map(StatusTransition::newStatus).toList());
+        assertEquals(RocketStatus.ON_GROUND, rocketTransitions.get(0).oldStatus());
+
+        List<StatusTransition<MissionStatus>> missionTransitions = missionRocketAssignmentService.getMissionStatusHistory("Luna", from, to);
+        assertEquals(List.of(MissionStatus.IN_PROGRESS, MissionStatus.PENDING), missionTransitions.stream().map(StatusTransition::newStatus).toList());
+
+        assertEquals(Duration.ZERO, missionRocketAssignmentService.getRocketTimeInStatus("Dragon 1", RocketStatus.ON_GROUND,
+                rocketTransitions.get(0).timestamp(), to));
+        // The window before the history was enabled is not covered, so the minute before it does not count as scheduled
+        assertTrue(missionRocketAssignmentService.getMissionTimeInStatus("Luna", MissionStatus.SCHEDULED, from, to).compareTo(Duration.ofSeconds(30)) < 0);
+    }
+
+    @Test
+    void should_RejectHistoryQueries_ForUnknownNamesOrDisabledHistory() {
+        // Given
+        Instant now = Instant.now();
+
+        // When & Then
+        assertThrows(IllegalStateException.class, () -> missionRocketAssignmentService.getRocketStatusHistory("Dragon 1", now, now));
+
+        missionRocketAssignmentService.setStatusHistory(new FleetStatusHistory(16, Duration.ofHours(1)));
+        SpaceXException rocketException = assertThrows(SpaceXException.class,
+                () -> missionRocketAssignmentService.getRocketTimeInStatus("Dragon 1", RocketStatus.IN_REPAIR, now, now));
+        SpaceXException missionException = assertThrows(SpaceXException.class,
+                () -> missionRocketAssignmentService.getMissionStatusHistory("Luna", now, now));
+        assertEquals(ErrorMessages.ROCKET_NOT_FOUND, rocketException.getMessage());
+        assertEquals(ErrorMessages.MISSION_NOT_FOUND, missionException.getMessage());
+    }
+
+    @Test
+    void should_RemoveRocket_AndEndMissionLeftWithoutRockets() throws SpaceXException {
+        // Given
+        missionRocketAssignmentService.addRocket(new Rocket("Dragon 1"));
+        missionRocketAssignmentService.addMission(new Mission("Luna"));
+        missionRocketAssignmentService.assignRocketToMission("Dragon 1", "Luna");
+
+        // When
+        missionRocketAssignmentService.removeRocket("Dragon 1");
+
+        // Then
+        assertNull(rocketRepository.getRocket("Dragon 1"));
+        assertEquals(MissionStatus.ENDED, missionRepository.getMission("Luna").getStatus());
+        assertEquals(0, missionRocketAssignmentService.countRockets(RocketStatus.IN_SPACE));
+        assertEquals("• Luna – Ended – Dragons: 0", missionRocketAssignmentService.getMissionSummary());
+        assertEquals(OperationResult.ROCKET_NOT_FOUND, missionRocketAssignmentService.tryRemoveRocket("Dragon 1"));
+    }
+
+    @Test
+    void should_NotResurrectRemovedRockets_WhenRemovalRacesWithMutations() throws Exception {
+        // Given
+        int rocketCount = 3_000;
+        List<String> rocketNames = new ArrayList<>();
+        for (int i = 0; i < rocketCount; i++) {
+            rocketNames.add("Dragon " + i);
+            missionRocketAssignmentService.addRocket(new Rocket("Dragon " + i));
+            missionRocketAssignmentService.addMission(new Mission("Mission " + i));
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        // When
+        Future<?> removals = executor.submit(() -> {
+            start.await();
+            for (String rocketName : rocketNames) {
+                missionRocketAssignmentService.tryRemoveRocket(rocketName);
+            }
+            return null;
+        });
+        Future<?> mutations = executor.submit(() -> {
+            start.await();
+            for (int i = 0; i < rocketCount; i++) {
+                String rocketName = rocketNames.get(i);
+                switch (i % 3) {
+                    case 0 -> missionRocketAssignmentService.tryAssignRocketToMission(rocketName, "Mission " + i);
+                    case 1 -> missionRocketAssignmentService.tryAssignRocketsToMission(List.of(rocketName), "Mission " + i);
+                    default -> missionRocketAssignmentService.tryChangeRocketStatus(rocketName, RocketStatus.IN_REPAIR);
+                }
+            }
+            return null;
+        });
+        start.countDown();
+        removals.get(60, TimeUnit.SECONDS);
+        mutations.get(60, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // Then
+        for (int i = 0; i < rocketCount; i++) {
+            assertNull(rocketRepository.getRocket(rocketNames.get(i)));
+            assertNull(missionRepository.getMissionForRocket(rocketNames.get(i)));
+            assertEquals(0, missionRepository.getMission("Mission " + i).getRockets().size());
+        }
+        for (RocketStatus status : RocketStatus.values()) {
+            assertEquals(Set.of(), missionRocketAssignmentService.getRocketNamesByStatus(status));
+        }
+        assertEquals(List.of(), FleetConsistencyChecker.findViolations(missionRepository));
+    }
+
+    @Test
+    void should_AddRocketToMission_KeepingItsStatus() throws SpaceXException {
+        // Given
+        missionRocketAssignmentService.addMission(new Mission("Luna"));
+        Rocket rocket = new Rocket("Dragon 1");
+        rocket.setStatus(RocketStatus.IN_REPAIR);
+
+        // When
+        missionRocketAssignmentService.addRocketToMission(rocket, "Luna");
+
+        // Then
+        assertEquals(MissionStatus.PENDING, missionRepository.getMission("Luna").getStatus());
+        assertEquals(Set.of("Dragon 1"), missionRocketAssignmentService.getRocketNamesByStatus(RocketStatus.IN_REPAIR));
+        assertEquals(OperationResult.ROCKET_ALREADY_EXISTS, missionRocketAssignmentService.tryAddRocketToMission(rocket, "Luna"));
+        assertEquals(OperationResult.MISSION_NOT_FOUND, missionRocketAssignmentService.tryAddRocketToMission(new Rocket("Dragon 2"), "Mars"));
+    }
+
+    private void addMissionsWithRockets() throws SpaceXException {
+        for (String missionName : List.of("Mars", "Luna", "Venus", "Apollo")) {
+            missionRocketAssignmentService.addMission(new Mission(missionName));
+        }
+
+        for (String rocketName : List.of("Dragon 1", "Dragon 2", "Dragon 3", "Dragon 4")) {
+            missionRocketAssignmentService.addRocket(new Rocket(rocketName));
+        }
+
+        missionRocketAssignmentService.assignRocketsToMission(List.of("Dragon 1", "Dragon 2"), "Venus");
+        missionRocketAssignmentService.assignRocketToMission("Dragon 3", "Mars");
+        missionRocketAssignmentService.assignRocketToMission("Dragon 4", "Luna");
+    }
+
+    private void assertRocketMissionIndexConsistent(List<String> rocketNames) {
+        for (String rocketName : rocketNames) {
+            Rocket rocket = rocketRepository.getRocket(rocketName);
+            List<Mission> containingMissions = missionRepository.getAllMissions().values().stream()
+                    .filter(mission -> mission.getRockets().contains(rocket))
+                    .toList();
+
+            assertTrue(containingMissions.size() <= 1);
+            assertEquals(containingMissions.isEmpty() ? null : containingMissions.get(0),
+                    missionRepository.getMissionForRocket(rocketName));
+        }
+    }
+}
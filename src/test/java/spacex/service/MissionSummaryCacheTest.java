@@ -0,0 +1,214 @@
+package spacex.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.FleetView;
+import spacex.domain.Mission;
+import spacex.domain.MissionAssignments;
+import spacex.domain.MissionView;
+import spacex.domain.Rocket;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MissionSummaryCacheTest {
+
+    private final MissionAssignments assignments = new MissionAssignments();
+    private MissionSummaryCache missionSummaryCache;
+    private FleetView fleetView;
+
+    @BeforeEach
+    void setUp() {
+        missionSummaryCache = new MissionSummaryCache();
+        fleetView = FleetView.empty();
+    }
+
+    @Test
+    void should_OrderMissions_ByRocketCountThenNameDescending() {
+        // Given
+        addMission("Luna", 1);
+        addMission("Mars", 1);
+        addMission("Transit", 2);
+        addMission("Apollo", 0);
+
+        String expected = """
+                • Transit – Scheduled – Dragons: 2
+                   • Transit Dragon 0 – On ground
+                   • Transit Dragon 1 – On ground
+                • Mars – Scheduled – Dragons: 1
+                   • Mars Dragon 0 – On ground
+                • Luna – Scheduled – Dragons: 1
+                   • Luna Dragon 0 – On ground
+                • Apollo – Scheduled – Dragons: 0""";
+
+        // When
+        String summary = missionSummaryCache.getSummary(fleetView);
+
+        // Then
+        assertEquals(expected, summary);
+    }
+
+    @Test
+    void should_ReturnCachedSummary_WhenNoMissionIsInvalidated() {
+        // Given
+        Mission mars = addMission("Mars", 1);
+        String firstSummary = missionSummaryCache.getSummary(fleetView);
+
+        // Not published, so the view does not change
+        assignments.assign(new Rocket("Unannounced Dragon"), mars);
+
+        // When
+        String secondSummary = missionSummaryCache.getSummary(fleetView);
+
+        // Then
+        assertSame(firstSummary, secondSummary);
+    }
+
+    @Test
+    void should_RebuildOnlyInvalidatedMission_AndReorderIt() {
+        // Given
+        addMission("Luna", 1);
+        Mission mars = addMission("Mars", 2);
+        missionSummaryCache.getSummary(fleetView);
+
+        List.copyOf(mars.getRockets()).forEach(rocket -> assignments.unassign(rocket, mars));
+
+        // When
+        publish(mars);
+        String summary = missionSummaryCache.getSummary(fleetView);
+
+        // Then
+        String expected = """
+                • Luna – Scheduled – Dragons: 1
+                   • Luna Dragon 0 – On ground
+                • Mars – Scheduled – Dragons: 0""";
+
+        assertEquals(expected, summary);
+    }
+
+    @Test
+    void should_ReturnPageAfterKey_WithOneLookaheadEntry() {
+        // Given
+        addMission("Luna", 1);
+        addMission("Mars", 1);
+        addMission("Transit", 2);
+
+        // When
+        List<Map.Entry<MissionSummaryCache.SummaryKey, String>> page =
+                missionSummaryCache.getPage(fleetView, new MissionSummaryCache.SummaryKey(2, "Transit"), 1);
+
+        // Then
+        assertEquals(2, page.size());
+        assertEquals("Mars", page.get(0).getKey().missionName());
+        assertEquals("Luna", page.get(1).getKey().missionName());
+    }
+
+    @Test
+    void should_ReturnWholeSummary_WhenLimitIsMaxValue() {
+        // Given
+        addMission("Luna", 1);
+        addMission("Transit", 2);
+
+        // When
+        List<Map.Entry<MissionSummaryCache.SummaryKey, String>> page = missionSummaryCache.getPage(fleetView, null, Integer.MAX_VALUE);
+        List<Map.Entry<MissionSummaryCache.SummaryKey, String>> emptyPage =
+                new MissionSummaryCache().getPage(FleetView.empty(), null, Integer.MAX_VALUE);
+
+        // Then
+        assertEquals(List.of("Transit", "Luna"), page.stream().map(entry -> entry.getKey().missionName()).toList());
+        assertEquals(List.of(), emptyPage);
+    }
+
+    @Test
+    void should_RoundTripSummaryKeyThroughCursor() {
+        // Given
+        MissionSummaryCache.SummaryKey key = new MissionSummaryCache.SummaryKey(3, "Mars: Phase 2");
+
+        // When & Then
+        assertEquals(key, MissionSummaryCache.SummaryKey.fromCursor(key.toCursor()));
+    }
+
+    @Test
+    void should_ReturnEmptySummary_ForNoMissions() {
+        // Given & When & Then
+        assertEquals("", missionSummaryCache.getSummary(fleetView));
+    }
+
+    @Test
+    void should_KeepSummaryOfNewerView_WhenReaderHasOlderView() {
+        // Given
+        Mission mars = addMission("Mars", 1);
+        FleetView olderView = fleetView;
+
+        assignments.assign(new Rocket("Dragon 2"), mars);
+        publish(mars);
+        String newerSummary = missionSummaryCache.getSummary(fleetView);
+
+        // When
+        String summary = missionSummaryCache.getSummary(olderView);
+
+        // Then
+        assertSame(newerSummary, summary);
+    }
+
+    @Test
+    void should_BuildSummaryOfOlderView_WhenNewerChangeIsNotPublishedYet() {
+        // Given
+        Mission mars = addMission("Mars", 1);
+        FleetView publishedView = fleetView;
+
+        assignments.assign(new Rocket("Dragon 2"), mars);
+        FleetView pendingView = fleetView.withMissions(List.of(MissionView.of(mars)));
+        missionSummaryCache.invalidate("Mars", pendingView.getVersion());
+
+        // When
+        String summary = missionSummaryCache.getSummary(publishedView);
+
+        // Then
+        assertEquals("""
+                • Mars – Scheduled – Dragons: 1
+                   • Mars Dragon 0 – On ground""", summary);
+        assertTrue(missionSummaryCache.getSummary(pendingView).contains("Dragon 2"));
+    }
+
+    @Test
+    void should_BuildSameSummaryInParallel_AsSequentially() {
+        // Given
+        MissionSummaryCache sequentialCache = new MissionSummaryCache();
+        missionSummaryCache.setParallelThreshold(1);
+
+        for (int i = 0; i < 500; i++) {
+            addMission("Mission " + i, i % 5);
+            sequentialCache.invalidate("Mission " + i, fleetView.getVersion());
+        }
+
+        // When
+        String coldSummary = missionSummaryCache.getSummary(fleetView);
+
+        Mission changed = addMission("Mission 7", 9);
+        sequentialCache.invalidate(changed.getName(), fleetView.getVersion());
+        String updatedSummary = missionSummaryCache.getSummary(fleetView);
+
+        // Then
+        assertTrue(coldSummary.startsWith("• Mission 99 – Scheduled – Dragons: 4"));
+        assertEquals(sequentialCache.getSummary(fleetView), updatedSummary);
+        assertTrue(updatedSummary.startsWith("• Mission 7 – Scheduled – Dragons: 9"));
+    }
+
+    private Mission addMission(String name, int rocketCount) {
+        Mission mission = new Mission(name);
+        for (int i = 0; i < rocketCount; i++) {
+            assignments.assign(new Rocket(name + " Dragon " + i), mission);
+        }
+
+        publish(mission);
+        return mission;
+    }
+
+    private void publish(Mission mission) {
+        fleetView = fleetView.withMissions(List.of(MissionView.of(mission)));
+        missionSummaryCache.invalidate(mission.getName(), fleetView.getVersion());
+    }
+}
@@ -0,0 +1,58 @@
+package spacex.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ConsistentHashRingTest {
+
+    @Test
+    void should_MapNamesDeterministically_AndSpreadThemOverAllNodes() {
+        // Given
+        ConsistentHashRing ring = new ConsistentHashRing(4);
+        ConsistentHashRing sameRing = new ConsistentHashRing(4);
+        int[] counts = new int[4];
+
+        // When
+        for (int i = 0; i < 40_000; i++) {
+            String name = "Dragon " + i;
+            int node = ring.nodeOf(name);
+            assertEquals(node, sameRing.nodeOf(name));
+            counts[node]++;
+        }
+
+        // Then
+        for (int count : counts) {
+            assertTrue(count > 7_000 && count < 13_000, "Unbalanced node: " + count);
+        }
+    }
+
+    @Test
+    void should_MoveOnlyAFractionOfNames_WhenANodeIsAdded() {
+        // Given
+        ConsistentHashRing fourNodes = new ConsistentHashRing(4);
+        ConsistentHashRing fiveNodes = new ConsistentHashRing(5);
+        int moved = 0;
+
+        // When
+        for (int i = 0; i < 40_000; i++) {
+            String name = "Mission " + i;
+            int before = fourNodes.nodeOf(name);
+            int after = fiveNodes.nodeOf(name);
+            if (before != after) {
+                moved++;
+                assertEquals(4, after);
+            }
+        }
+
+        // Then
+        assertTrue(moved > 4_000 && moved < 12_000, "Moved names: " + moved);
+    }
+
+    @Test
+    void should_RejectNonPositiveNodeCount() {
+        // Given & When & Then
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(0));
+        assertThrows(IllegalArgumentException.class, () -> new ConsistentHashRing(2, 0));
+    }
+}
@@ -0,0 +1,66 @@
+package spacex.util;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import spacex.domain.Mission;
+import spacex.domain.MissionStatus;
+import spacex.domain.Rocket;
+import spacex.domain.RocketStatus;
+import spacex.repository.MissionRepository;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class FleetConsistencyCheckerTest {
+
+    private MissionRepository missionRepository;
+    private Mission mission;
+    private Rocket rocket;
+
+    @BeforeEach
+    void setUp() {
+        missionRepository = new MissionRepository();
+        mission = new Mission("Mars");
+        missionRepository.addMission(mission);
+
+        rocket = new Rocket("Dragon 1");
+        rocket.setStatus(RocketStatus.IN_SPACE);
+        missionRepository.addRocketToMission(rocket, mission);
+        mission.setStatus(MissionStatus.IN_PROGRESS);
+    }
+
+    @Test
+    void should_ReportNoViolations_ForConsistentFleet() {
+        // Given & When & Then
+        assertEquals(List.of(), FleetConsistencyChecker.findViolations(missionRepository));
+    }
+
+    @Test
+    void should_ReportViolations_WhenRocketStatusChangedBehindMissionsBack() {
+        // Given
+        rocket.setStatus(RocketStatus.IN_REPAIR);
+
+        // When
+        List<String> violations = FleetConsistencyChecker.findViolations(missionRepository);
+
+        // Then
+        assertEquals(List.of(
+                "Mission Mars counts 1 rockets IN_SPACE but has 0",
+                "Mission Mars counts 0 rockets IN_REPAIR but has 1",
+                "Mission Mars is IN_PROGRESS but should be PENDING"), violations);
+    }
+
+    @Test
+    void should_ReportViolation_WhenRocketIsNotIndexed() {
+        // Given
+        // Assigned through another repository, so this one never indexed it
+        new MissionRepository().addRocketToMission(new Rocket("Dragon 2"), mission);
+
+        // When
+        List<String> violations = FleetConsistencyChecker.findViolations(missionRepository);
+
+        // Then
+        assertEquals(List.of("Rocket Dragon 2 is in mission Mars but indexed to null"), violations);
+    }
+}
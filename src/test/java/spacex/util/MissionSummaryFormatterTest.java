@@ -3,14 +3,20 @@ package spacex.util;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import spacex.domain.Mission;
+import spacex.domain.MissionAssignments;
 import spacex.domain.Rocket;
 
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
 import java.util.List;
 
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 class MissionSummaryFormatterTest {
 
+    private final MissionAssignments assignments = new MissionAssignments();
     private Mission missionWithRockets;
     private Mission emptyMission;
 
@@ -20,7 +26,8 @@ class MissionSummaryFormatterTest {
         Rocket rocket2 = new Rocket("Falcon Heavy");
 
         missionWithRockets = new Mission("Transit");
-        missionWithRockets.getRockets().addAll(List.of(rocket1, rocket2));
+        assignments.assign(rocket1, missionWithRockets);
+        assignments.assign(rocket2, missionWithRockets);
 
         emptyMission = new Mission("Mars");
     }
@@ -56,7 +63,7 @@ class MissionSummaryFormatterTest {
     void should_FormatMultipleMissionsCorrectly() {
         // Given
         Mission anotherMission = new Mission("Luna1");
-        anotherMission.getRockets().add(new Rocket("Red Dragon"));
+        assignments.assign(new Rocket("Red Dragon"), anotherMission);
 
         String expected = """
                 • Transit – Scheduled – Dragons: 2
@@ -81,4 +88,71 @@ class MissionSummaryFormatterTest {
         // Then
         assertEquals("", result);
     }
-}
\ No newline at end of file
+
+    @Test
+    void should_AppendMissions_SameAsFormattedString() throws IOException {
+        // Given
+        StringWriter writer = new StringWriter();
+        List<Mission> missions = List.of(missionWithRockets, emptyMission);
+
+        // When
+        MissionSummaryFormatter.appendMissions(missions, writer);
+
+        // Then
+        assertEquals(MissionSummaryFormatter.formatMissions(missions), writer.toString());
+    }
+
+    @Test
+    void should_FormatMissionsInParallel_SameAsSequential() {
+        // Given
+        List<Mission> missions = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            Mission mission = new Mission("Mission " + i);
+            for (int j = 0; j < i % 4; j++) {
+                assignments.assign(new Rocket("Dragon " + i + "-" + j), mission);
+            }
+            missions.add(mission);
+        }
+
+        // When
+        String result = MissionSummaryFormatter.formatMissionsParallel(missions);
+
+        // Then
+        assertEquals(MissionSummaryFormatter.formatMissions(missions), result);
+        assertEquals("", MissionSummaryFormatter.formatMissionsParallel(List.of()));
+        assertEquals(MissionSummaryFormatter.formatMissions(List.of(emptyMission)), MissionSummaryFormatter.formatMissionsParallel(List.of(emptyMission)));
+    }
+
+    @Test
+    void should_FormatEachMissionIndependently_WhenBufferIsReused() {
+        // Given
+        String first = MissionSummaryFormatter.formatMission(missionWithRockets);
+
+        // When
+        String second = MissionSummaryFormatter.formatMission(emptyMission);
+        String third = MissionSummaryFormatter.formatMission(missionWithRockets);
+
+        // Then
+        assertEquals("• Mars – Scheduled – Dragons: 0", second);
+        assertEquals(first, third);
+    }
+
+    @Test
+    void should_FormatMissionLargerThanRetainedBuffer() {
+        // Given
+        Mission largeMission = new Mission("Starbase");
+        for (int i = 0; i < 5_000; i++) {
+            assignments.assign(new Rocket("Dragon " + i), largeMission);
+        }
+        StringWriter writer = new StringWriter();
+
+        // When
+        String large = MissionSummaryFormatter.formatMission(largeMission);
+        String small = MissionSummaryFormatter.formatMission(emptyMission);
+
+        // Then
+        assertDoesNotThrow(() -> MissionSummaryFormatter.appendMission(largeMission, (Appendable) writer));
+        assertEquals(writer.toString(), large);
+        assertEquals("• Mars – Scheduled – Dragons: 0", small);
+    }
+}
@@ -0,0 +1,115 @@
+package spacex.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class MpscRingBufferTest {
+
+    @Test
+    void should_RoundCapacityUpToPowerOfTwo() {
+        // Given & When & Then
+        assertEquals(1, new MpscRingBuffer<>(1).capacity());
+        assertEquals(8, new MpscRingBuffer<>(5).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    void should_RejectOffer_WhenFull_AndAcceptAgainAfterPoll() {
+        // Given
+        MpscRingBuffer<String> buffer = new MpscRingBuffer<>(2);
+        assertTrue(buffer.offer("Dragon 1"));
+        assertTrue(buffer.offer("Dragon 2"));
+
+        // When
+        boolean offeredWhenFull = buffer.offer("Dragon 3");
+        String polled = buffer.poll();
+        boolean offeredAfterPoll = buffer.offer("Dragon 3");
+
+        // Then
+        assertFalse(offeredWhenFull);
+        assertEquals("Dragon 1", polled);
+        assertTrue(offeredAfterPoll);
+        assertEquals("Dragon 2", buffer.poll());
+        assertEquals("Dragon 3", buffer.poll());
+        assertNull(buffer.poll());
+        assertTrue(buffer.isEmpty());
+    }
+
+    @Test
+    void should_DrainAtMostLimitElements_InOfferOrder() {
+        // Given
+        MpscRingBuffer<Integer> buffer = new MpscRingBuffer<>(8);
+        for (int i = 0; i < 5; i++) {
+            buffer.offer(i);
+        }
+        List<Integer> drained = new ArrayList<>();
+
+        // When
+        int count = buffer.drain(drained::add, 3);
+
+        // Then
+        assertEquals(3, count);
+        assertEquals(List.of(0, 1, 2), drained);
+        assertFalse(buffer.isEmpty());
+    }
+
+    @Test
+    void should_DeliverEveryElementOnce_InPerProducerOrder_WithConcurrentProducers() throws Exception {
+        // Given
+        int producerCount = 4;
+        int elementsPerProducer = 50_000;
+        MpscRingBuffer<long[]> buffer = new MpscRingBuffer<>(64);
+        ExecutorService executor = Executors.newFixedThreadPool(producerCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> producers = new ArrayList<>();
+
+        // When
+        for (int p = 0; p < producerCount; p++) {
+            long producer = p;
+            producers.add(executor.submit(() -> {
+                start.await();
+                for (long i = 0; i < elementsPerProducer; i++) {
+                    long[] element = {producer, i};
+                    // Yield rather than spin, so the consumer gets the core even on a single-CPU machine
+                    while (!buffer.offer(element)) {
+                        Thread.yield();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+
+        long[] nextExpected = new long[producerCount];
+        int received = 0;
+        while (received < producerCount * elementsPerProducer) {
+            long[] element = buffer.poll();
+            if (element == null) {
+                Thread.yield();
+                continue;
+            }
+            assertEquals(nextExpected[(int) element[0]]++, element[1]);
+            received++;
+        }
+
+        for (Future<?> producer : producers) {
+            producer.get(60, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        // Then
+        assertTrue(buffer.isEmpty());
+        for (long count : nextExpected) {
+            assertEquals(elementsPerProducer, count);
+        }
+    }
+}
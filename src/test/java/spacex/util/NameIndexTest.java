@@ -0,0 +1,72 @@
+package spacex.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NameIndexTest {
+
+    @Test
+    void should_AssignDenseIds_InInsertionOrder() {
+        // Given
+        NameIndex nameIndex = new NameIndex();
+
+        // When
+        int mars = nameIndex.add("Mars");
+        int luna = nameIndex.add("Luna");
+
+        // Then
+        assertEquals(0, mars);
+        assertEquals(1, luna);
+        assertEquals("Luna", nameIndex.nameOf(luna));
+        assertEquals(mars, nameIndex.idOf("Mars"));
+    }
+
+    @Test
+    void should_RejectDuplicateName() {
+        // Given
+        NameIndex nameIndex = new NameIndex();
+        nameIndex.add("Mars");
+
+        // When & Then
+        assertEquals(NameIndex.NO_ID, nameIndex.add("Mars"));
+        assertEquals(1, nameIndex.size());
+    }
+
+    @Test
+    void should_ReturnNoId_ForUnknownName() {
+        // Given & When & Then
+        assertEquals(NameIndex.NO_ID, new NameIndex().idOf("Venus"));
+    }
+
+    @Test
+    void should_KeepAllNames_WhenGrowingBeyondExpectedSize() {
+        // Given
+        NameIndex nameIndex = new NameIndex(2);
+
+        // When
+        for (int i = 0; i < 10_000; i++) {
+            nameIndex.add("Dragon " + i);
+        }
+
+        // Then
+        assertEquals(10_000, nameIndex.size());
+        for (int i = 0; i < 10_000; i++) {
+            assertEquals(i, nameIndex.idOf("Dragon " + i));
+        }
+    }
+
+    @Test
+    void should_InternNonAsciiNames() {
+        // Given
+        NameIndex nameIndex = new NameIndex();
+
+        // When
+        int id = nameIndex.add("Dragon – Ünity");
+
+        // Then
+        assertEquals(id, nameIndex.idOf("Dragon – Ünity"));
+        assertEquals("Dragon – Ünity", nameIndex.nameOf(id));
+        assertEquals(NameIndex.NO_ID, nameIndex.idOf("Dragon – Unity"));
+    }
+}
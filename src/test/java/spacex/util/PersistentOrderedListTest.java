@@ -0,0 +1,82 @@
+package spacex.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class PersistentOrderedListTest {
+
+    @Test
+    void should_KeepElementsInKeyOrder() {
+        // Given
+        PersistentOrderedList<String> list = PersistentOrderedList.empty();
+
+        // When
+        list = list.with(3, "Luna").with(1, "Mars").with(2, "Venus");
+
+        // Then
+        assertEquals(List.of("Mars", "Venus", "Luna"), list);
+        assertEquals("Venus", list.get(1));
+        assertEquals(3, list.size());
+    }
+
+    @Test
+    void should_LeaveEarlierVersionsUnchanged() {
+        // Given
+        PersistentOrderedList<String> original = PersistentOrderedList.<String>empty().with(1, "Mars").with(2, "Luna");
+
+        // When
+        PersistentOrderedList<String> replaced = original.with(1, "Red Planet");
+        PersistentOrderedList<String> removed = original.without(2);
+
+        // Then
+        assertEquals(List.of("Mars", "Luna"), original);
+        assertEquals(List.of("Red Planet", "Luna"), replaced);
+        assertEquals(List.of("Mars"), removed);
+    }
+
+    @Test
+    void should_ReturnSameList_WhenRemovingUnknownKey() {
+        // Given
+        PersistentOrderedList<String> list = PersistentOrderedList.<String>empty().with(1, "Mars");
+
+        // When & Then
+        assertSame(list, list.without(7));
+        assertThrows(IndexOutOfBoundsException.class, () -> list.get(1));
+    }
+
+    @Test
+    void should_MatchSortedMap_UnderRandomChanges() {
+        // Given
+        Random random = new Random(42);
+        TreeMap<Long, Integer> expected = new TreeMap<>();
+        PersistentOrderedList<Integer> list = PersistentOrderedList.empty();
+
+        // When
+        for (int i = 0; i < 20_000; i++) {
+            long key = random.nextInt(2_000);
+            if (random.nextInt(3) == 0) {
+                expected.remove(key);
+                list = list.without(key);
+            } else {
+                expected.put(key, i);
+                list = list.with(key, i);
+            }
+        }
+
+        // Then
+        List<Integer> values = new ArrayList<>(expected.values());
+        assertEquals(values, list);
+        for (int i = 0; i < values.size(); i++) {
+            assertEquals(values.get(i), list.get(i));
+        }
+        List<Integer> walked = new ArrayList<>();
+        list.forEach(walked::add);
+        assertEquals(values, walked);
+    }
+}
@@ -0,0 +1,55 @@
+package spacex.util;
+
+import org.junit.jupiter.api.Test;
+import spacex.domain.RocketStatus;
+
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StatusIndexTest {
+
+    @Test
+    void should_GroupNamesByStatus() {
+        // Given
+        StatusIndex<RocketStatus> index = new StatusIndex<>(RocketStatus.class);
+
+        // When
+        index.add("Dragon 1", RocketStatus.ON_GROUND);
+        index.add("Dragon 2", RocketStatus.ON_GROUND);
+        index.move("Dragon 2", RocketStatus.ON_GROUND, RocketStatus.IN_REPAIR);
+
+        // Then
+        assertEquals(Set.of("Dragon 1"), index.getNames(RocketStatus.ON_GROUND));
+        assertEquals(Set.of("Dragon 2"), index.getNames(RocketStatus.IN_REPAIR));
+        assertEquals(0, index.count(RocketStatus.IN_SPACE));
+        assertEquals(1, index.count(RocketStatus.IN_REPAIR));
+    }
+
+    @Test
+    void should_ReturnLiveUnmodifiableView() {
+        // Given
+        StatusIndex<RocketStatus> index = new StatusIndex<>(RocketStatus.class);
+        Set<String> inSpace = index.getNames(RocketStatus.IN_SPACE);
+
+        // When
+        index.add("Dragon 1", RocketStatus.IN_SPACE);
+
+        // Then
+        assertEquals(Set.of("Dragon 1"), inSpace);
+        assertThrows(UnsupportedOperationException.class, () -> inSpace.add("Dragon 2"));
+    }
+
+    @Test
+    void should_KeepName_WhenMovedToSameStatus() {
+        // Given
+        StatusIndex<RocketStatus> index = new StatusIndex<>(RocketStatus.class);
+        index.add("Dragon 1", RocketStatus.IN_SPACE);
+
+        // When
+        index.move("Dragon 1", RocketStatus.IN_SPACE, RocketStatus.IN_SPACE);
+
+        // Then
+        assertEquals(Set.of("Dragon 1"), index.getNames(RocketStatus.IN_SPACE));
+    }
+}
@@ -0,0 +1,79 @@
+package spacex.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class StripedLocksTest {
+
+    @Test
+    void should_RoundStripeCountUpToPowerOfTwo() {
+        // Given & When & Then
+        assertEquals(1, new StripedLocks(1).stripeCount());
+        assertEquals(8, new StripedLocks(5).stripeCount());
+        assertEquals(64, new StripedLocks(64).stripeCount());
+    }
+
+    @Test
+    void should_ThrowException_WhenStripeCountIsNotPositive() {
+        // Given & When & Then
+        assertThrows(IllegalArgumentException.class, () -> new StripedLocks(0));
+    }
+
+    @Test
+    void should_LockSameStripeOnlyOnce_ForDuplicateAndNullKeys() {
+        // Given
+        StripedLocks stripedLocks = new StripedLocks(4);
+
+        // When & Then
+        assertDoesNotThrow(() -> {
+            try (StripedLocks.Guard ignored = stripedLocks.lock("Mars", null, "Mars")) {
+                try (StripedLocks.Guard ignoredAgain = stripedLocks.lock("Mars")) {
+                    // Reentrant within the same thread
+                }
+            }
+        });
+    }
+
+    @Test
+    void should_NotDeadlock_WhenKeysAreLockedInOppositeOrder() throws Exception {
+        // Given
+        StripedLocks stripedLocks = new StripedLocks(16);
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+
+        Runnable forward = () -> lockRepeatedly(stripedLocks, start, "Mars", "Luna");
+        Runnable backward = () -> lockRepeatedly(stripedLocks, start, "Luna", "Mars");
+
+        // When
+        Future<?> first = executor.submit(forward);
+        Future<?> second = executor.submit(backward);
+        start.countDown();
+
+        // Then
+        first.get(10, TimeUnit.SECONDS);
+        second.get(10, TimeUnit.SECONDS);
+        executor.shutdown();
+    }
+
+    private void lockRepeatedly(StripedLocks stripedLocks, CountDownLatch start, String firstKey, String secondKey) {
+        try {
+            start.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        }
+
+        for (int i = 0; i < 100_000; i++) {
+            try (StripedLocks.Guard ignored = stripedLocks.lock(firstKey, secondKey)) {
+                Thread.onSpinWait();
+            }
+        }
+    }
+}